@@ -0,0 +1,77 @@
+package seedu.knowitall.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.card.Answer;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.Question;
+import seedu.knowitall.model.card.Score;
+import seedu.knowitall.model.hint.Hint;
+
+/**
+ * A utility class to build synthetic decks of cards for benchmarks.
+ */
+public class SyntheticCards {
+
+    /** Deck sizes that benchmarks are run against */
+    public static final String SMALL_DECK = "1000";
+    public static final String LARGE_DECK = "100000";
+    public static final String HUGE_DECK = "1000000";
+
+    /** Each question is about one of these topics, so a search for a topic matches a fixed share of a deck */
+    public static final String[] TOPICS = {"anatomy", "biology", "chemistry", "dermatology", "embryology",
+        "forensics", "genetics", "haematology", "immunology", "jurisprudence", "kinesiology", "microbiology",
+        "neurology", "oncology", "pathology", "radiology"};
+
+    private SyntheticCards() {} // prevents instantiation
+
+    /**
+     * Returns the {@code index}-th synthetic card. Cards with different indexes are never the same card.
+     */
+    public static Card getCard(int index) {
+        Set<Hint> hints = index % 2 == 0
+                ? Collections.singleton(new Hint("Hint for card " + index))
+                : Collections.emptySet();
+        return new Card(new Question("What is fact " + index + " of " + TOPICS[index % TOPICS.length] + "?"),
+                new Answer("Fact " + index), new Score(index % 5, 4), Collections.emptySet(), hints);
+    }
+
+    /**
+     * Returns a deck of the first {@code size} synthetic cards.
+     */
+    public static List<Card> getDeck(int size) {
+        return getDeck(0, size);
+    }
+
+    /**
+     * Returns a deck of {@code size} synthetic cards, starting from the {@code firstIndex}-th one.
+     */
+    public static List<Card> getDeck(int firstIndex, int size) {
+        List<Card> deck = new ArrayList<>(size);
+        for (int i = firstIndex; i < firstIndex + size; i++) {
+            deck.add(getCard(i));
+        }
+        return deck;
+    }
+
+    /**
+     * Returns a card folder named {@code folderName} holding a deck of the first {@code size} synthetic cards.
+     */
+    public static CardFolder getCardFolder(String folderName, int size) {
+        return getCardFolder(folderName, 0, size);
+    }
+
+    /**
+     * Returns a card folder named {@code folderName} holding a deck of {@code size} synthetic cards, starting from
+     * the {@code firstIndex}-th one.
+     */
+    public static CardFolder getCardFolder(String folderName, int firstIndex, int size) {
+        CardFolder cardFolder = new CardFolder(folderName);
+        cardFolder.setCards(getDeck(firstIndex, size));
+        return cardFolder;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.knowitall.logic;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCardFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.knowitall.commons.core.DataFileFormat;
+import seedu.knowitall.logic.commands.CommandResult;
+import seedu.knowitall.logic.commands.exceptions.CommandException;
+import seedu.knowitall.logic.parser.exceptions.ParseException;
+import seedu.knowitall.model.ModelManager;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.UserPrefs;
+import seedu.knowitall.storage.CardFolderStorage;
+import seedu.knowitall.storage.JournalCardFolderStorage;
+import seedu.knowitall.storage.JsonUserPrefsStorage;
+import seedu.knowitall.storage.Storage;
+import seedu.knowitall.storage.StorageManager;
+import seedu.knowitall.storage.WriteBehindStorage;
+
+/**
+ * Benchmarks answering a card in a test session through {@code LogicManager}, from parsing the command to saving the
+ * folder, as the app does with journal data files.
+ * With write behind storage, only the work done before the command returns is measured; without it, the journal
+ * entry and snapshot update of every answer are measured as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnswerCommandBenchmark {
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    @Param({"true", "false"})
+    protected boolean isWrittenBehind;
+
+    private Path directory;
+    private Storage storage;
+    private LogicManager logic;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("AnswerCommandBenchmark");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setcardFolderFilesPath(directory);
+        userPrefs.setCardFolderFileFormat(DataFileFormat.JOURNAL);
+
+        ReadOnlyCardFolder cardFolder = getCardFolder("Benchmark", deckSize);
+        CardFolderStorage cardFolderStorage = new JournalCardFolderStorage(
+                directory.resolve("Benchmark" + DataFileFormat.JOURNAL.getFileExtension()), false);
+        cardFolderStorage.saveCardFolder(cardFolder);
+        StorageManager storageManager = new StorageManager(Collections.singletonList(cardFolderStorage),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")), userPrefs);
+        storage = isWrittenBehind
+                ? new WriteBehindStorage(storageManager, userPrefs.getMaxSaveLatencyMillis())
+                : storageManager;
+
+        logic = new LogicManager(new ModelManager(Collections.singletonList(cardFolder), userPrefs), storage);
+        logic.execute("cd 1");
+        logic.execute("test");
+    }
+
+    /**
+     * Waits for the queued saves and deletes the data files and their directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.flush();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Answers the current card and moves on to the next one, starting the test session again after the last card.
+     */
+    @Benchmark
+    public CommandResult answer() throws CommandException, ParseException {
+        logic.execute("ans Wrong answer");
+        CommandResult result = logic.execute("next");
+        if (result.getType() == CommandResult.Type.END_TEST_SESSION) {
+            logic.execute("test");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.knowitall.logic.parser;
+
+import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_HINT;
+import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_QUESTION;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks tokenizing the arguments of an add command with questions of different lengths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"5", "500"})
+    protected int questionLength;
+
+    private String args;
+
+    @Setup
+    public void setUp() {
+        String question = String.join(" ", Collections.nCopies(questionLength, "word"));
+        args = " " + PREFIX_QUESTION + question + " " + PREFIX_ANSWER + "answer " + PREFIX_OPTION + "first option "
+                + PREFIX_OPTION + "second option " + PREFIX_HINT + "hint";
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(args, PREFIX_QUESTION, PREFIX_ANSWER, PREFIX_OPTION, PREFIX_HINT);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.knowitall.model;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.TOPICS;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getDeck;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.QuestionContainsKeywordsPredicate;
+
+/**
+ * Benchmarks searching and sorting the cards of a {@code CardFolder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CardFolderBenchmark {
+
+    private static final long SHUFFLE_SEED = 2103;
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private CardFolder cardFolder;
+    private QuestionContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        List<Card> shuffledDeck = getDeck(deckSize);
+        Collections.shuffle(shuffledDeck, new Random(SHUFFLE_SEED));
+        cardFolder = new CardFolder("Benchmark");
+        cardFolder.setCards(shuffledDeck);
+        predicate = new QuestionContainsKeywordsPredicate(Arrays.asList(TOPICS[0], TOPICS[1]));
+    }
+
+    /**
+     * Filters the folder as the search command does, using the folder's question word index.
+     */
+    @Benchmark
+    public int search() {
+        return new FilteredList<>(cardFolder.getCardList(), predicate.indexedBy(cardFolder)).size();
+    }
+
+    /**
+     * Filters the folder by splitting every question, for comparison with {@link #search()}.
+     */
+    @Benchmark
+    public int search_withoutIndex() {
+        return new FilteredList<>(cardFolder.getCardList(), predicate).size();
+    }
+
+    /**
+     * Sorts the folder by score and then by question, so that neither sort starts from an already sorted list.
+     */
+    @Benchmark
+    public CardFolder sortCards() {
+        cardFolder.sortCards(Model.COMPARATOR_ASC_SCORE_CARDS);
+        cardFolder.sortCards(Model.COMPARATOR_LEXICOGRAPHIC_CARDS);
+        return cardFolder;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.knowitall.model;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCard;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCardFolder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.knowitall.model.card.Answer;
+import seedu.knowitall.model.card.Card;
+
+/**
+ * Benchmarks committing and undoing changes to a {@code VersionedCardFolder}.
+ * Each benchmark undoes its own change, so the folder is in the same state before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionedCardFolderBenchmark {
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private VersionedCardFolder versionedCardFolder;
+    private Card cardToEdit;
+    private Card editedCard;
+    private Card cardToAdd;
+
+    @Setup
+    public void setUp() {
+        versionedCardFolder = new VersionedCardFolder(getCardFolder("Benchmark", deckSize));
+        cardToEdit = getCard(deckSize / 2);
+        editedCard = new Card(cardToEdit.getQuestion(), new Answer("Edited answer"), cardToEdit.getScore(),
+                cardToEdit.getOptions(), Collections.emptySet());
+        cardToAdd = getCard(deckSize);
+    }
+
+    /**
+     * Adds a card, commits the change and undoes it.
+     */
+    @Benchmark
+    public VersionedCardFolder addCard_commitUndo() {
+        versionedCardFolder.addCard(cardToAdd);
+        versionedCardFolder.commit();
+        versionedCardFolder.undo();
+        return versionedCardFolder;
+    }
+
+    /**
+     * Edits a card, commits the change and undoes it.
+     */
+    @Benchmark
+    public VersionedCardFolder setCard_commitUndo() {
+        versionedCardFolder.setCard(cardToEdit, editedCard);
+        versionedCardFolder.commit();
+        versionedCardFolder.undo();
+        return versionedCardFolder;
+    }
+
+    /**
+     * Sorts the cards by score, commits the change and undoes it.
+     */
+    @Benchmark
+    public VersionedCardFolder sortCards_commitUndo() {
+        versionedCardFolder.sortCards(Model.COMPARATOR_ASC_SCORE_CARDS);
+        versionedCardFolder.commit();
+        versionedCardFolder.undo();
+        return versionedCardFolder;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.knowitall.model.card;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCard;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getDeck;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding cards to, looking cards up in and replacing the contents of a {@code UniqueCardList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueCardListBenchmark {
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private List<Card> deck;
+    private UniqueCardList cardList;
+    private Card cardInList;
+    private Card cardNotInList;
+
+    @Setup
+    public void setUp() {
+        deck = getDeck(deckSize);
+        cardList = new UniqueCardList();
+        cardList.setCards(deck);
+        cardInList = getCard(deckSize / 2);
+        cardNotInList = getCard(deckSize);
+    }
+
+    /**
+     * Adds every card of the deck, one at a time, to an empty list.
+     */
+    @Benchmark
+    public UniqueCardList add() {
+        UniqueCardList list = new UniqueCardList();
+        for (Card card : deck) {
+            list.add(card);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean contains_cardInList() {
+        return cardList.contains(cardInList);
+    }
+
+    @Benchmark
+    public boolean contains_cardNotInList() {
+        return cardList.contains(cardNotInList);
+    }
+
+    @Benchmark
+    public UniqueCardList setCards() {
+        UniqueCardList list = new UniqueCardList();
+        list.setCards(deck);
+        return list;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.knowitall.storage;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCardFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * Benchmarks saving a card folder to, and loading it from, a binary file.
+ * Compare with {@link JsonCardFolderStorageBenchmark} for the same deck sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryCardFolderStorageBenchmark {
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private Path directory;
+    private CardFolder cardFolder;
+    private BinaryCardFolderStorage savedStorage;
+    private BinaryCardFolderStorage unsavedStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("BinaryCardFolderStorageBenchmark");
+        cardFolder = getCardFolder("Benchmark", deckSize);
+        savedStorage = new BinaryCardFolderStorage(directory.resolve("saved.kia"));
+        savedStorage.saveCardFolder(cardFolder);
+        unsavedStorage = new BinaryCardFolderStorage(directory.resolve("unsaved.kia"));
+    }
+
+    /**
+     * Deletes the binary files and their directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getcardFolderFilesPath());
+        Files.deleteIfExists(unsavedStorage.getcardFolderFilesPath());
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyCardFolder> readCardFolder() throws DataConversionException, IOException {
+        return savedStorage.readCardFolder();
+    }
+
+    @Benchmark
+    public void saveCardFolder() throws IOException {
+        unsavedStorage.saveCardFolder(cardFolder);
+    }
+}
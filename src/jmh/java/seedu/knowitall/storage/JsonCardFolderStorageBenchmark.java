@@ -0,0 +1,78 @@
+package seedu.knowitall.storage;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCardFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * Benchmarks saving a card folder to, and loading it from, a json file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCardFolderStorageBenchmark {
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private Path directory;
+    private CardFolder cardFolder;
+    private JsonCardFolderStorage savedStorage;
+    private JsonCardFolderStorage unsavedStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("JsonCardFolderStorageBenchmark");
+        cardFolder = getCardFolder("Benchmark", deckSize);
+        savedStorage = new JsonCardFolderStorage(directory.resolve("saved.json"));
+        savedStorage.saveCardFolder(cardFolder);
+        unsavedStorage = new JsonCardFolderStorage(directory.resolve("unsaved.json"));
+    }
+
+    /**
+     * Deletes the json files and their directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getcardFolderFilesPath());
+        Files.deleteIfExists(unsavedStorage.getcardFolderFilesPath());
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyCardFolder> readCardFolder() throws DataConversionException, IOException {
+        return savedStorage.readCardFolder();
+    }
+
+    @Benchmark
+    public void saveCardFolder() throws IOException {
+        unsavedStorage.saveCardFolder(cardFolder);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.knowitall.storage.csvmanager;
+
+import static seedu.knowitall.benchmarkutil.SyntheticCards.HUGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.LARGE_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.SMALL_DECK;
+import static seedu.knowitall.benchmarkutil.SyntheticCards.getCardFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.knowitall.logic.commands.exceptions.CommandException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.storage.csvmanager.exceptions.IncorrectCsvHeadersException;
+
+/**
+ * Benchmarks importing a card folder from, and exporting card folders to, csv files.
+ * The files are kept in {@code build/tmp/jmh/csv}, relative to the working directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvManagerBenchmark {
+
+    private static final String CSV_DIRECTORY = "/build/tmp/jmh/csv";
+    private static final int NUM_EXPORTED_FOLDERS = 4;
+
+    @Param({SMALL_DECK, LARGE_DECK, HUGE_DECK})
+    protected int deckSize;
+
+    private CsvManager csvManager;
+    private List<ReadOnlyCardFolder> singleFolder;
+    private List<ReadOnlyCardFolder> multipleFolders;
+    private CsvFile importedFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        csvManager = new CsvManager();
+        csvManager.setTestDefaultPath(CSV_DIRECTORY);
+        Files.createDirectories(Paths.get(csvManager.getDefaultPath()));
+
+        singleFolder = Collections.singletonList(getCardFolder("Benchmark", 0, deckSize));
+        multipleFolders = new ArrayList<>();
+        int folderSize = deckSize / NUM_EXPORTED_FOLDERS;
+        for (int i = 0; i < NUM_EXPORTED_FOLDERS; i++) {
+            multipleFolders.add(getCardFolder("Benchmark " + i, i * folderSize, folderSize));
+        }
+
+        csvManager.writeFoldersToCsv(singleFolder);
+        importedFile = new CsvFile("Benchmark.csv");
+    }
+
+    /**
+     * Deletes the exported csv files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Path directory = Paths.get(csvManager.getDefaultPath());
+        Files.deleteIfExists(directory.resolve(importedFile.filename));
+        for (ReadOnlyCardFolder cardFolder : multipleFolders) {
+            Files.deleteIfExists(directory.resolve(cardFolder.getFolderName() + ".csv"));
+        }
+    }
+
+    @Benchmark
+    public CardFolder readFoldersFromCsv() throws IOException, CommandException, IncorrectCsvHeadersException {
+        return csvManager.readFoldersFromCsv(importedFile);
+    }
+
+    @Benchmark
+    public void writeFoldersToCsv_singleFolder() throws IOException {
+        csvManager.writeFoldersToCsv(singleFolder);
+    }
+
+    /**
+     * Exports the same number of cards as {@link #writeFoldersToCsv_singleFolder()}, split across several folders
+     * that are written concurrently.
+     */
+    @Benchmark
+    public void writeFoldersToCsv_multipleFolders() throws IOException {
+        csvManager.writeFoldersToCsv(multipleFolders);
+    }
+}
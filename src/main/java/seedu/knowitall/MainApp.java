@@ -10,6 +10,7 @@ import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.knowitall.commons.core.Config;
 import seedu.knowitall.commons.core.LogsCenter;
@@ -19,6 +20,7 @@ import seedu.knowitall.commons.util.ConfigUtil;
 import seedu.knowitall.commons.util.StringUtil;
 import seedu.knowitall.logic.Logic;
 import seedu.knowitall.logic.LogicManager;
+import seedu.knowitall.model.CardFolderSummary;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.ModelManager;
 import seedu.knowitall.model.ReadOnlyCardFolder;
@@ -26,11 +28,12 @@ import seedu.knowitall.model.ReadOnlyUserPrefs;
 import seedu.knowitall.model.UserPrefs;
 import seedu.knowitall.model.util.SampleDataUtil;
 import seedu.knowitall.storage.CardFolderStorage;
-import seedu.knowitall.storage.JsonCardFolderStorage;
+import seedu.knowitall.storage.DataDirectoryWatcher;
 import seedu.knowitall.storage.JsonUserPrefsStorage;
 import seedu.knowitall.storage.Storage;
 import seedu.knowitall.storage.StorageManager;
 import seedu.knowitall.storage.UserPrefsStorage;
+import seedu.knowitall.storage.WriteBehindStorage;
 import seedu.knowitall.ui.Ui;
 import seedu.knowitall.ui.UiManager;
 
@@ -48,6 +51,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DataDirectoryWatcher dataDirectoryWatcher;
 
     @Override
     public void init() throws Exception {
@@ -65,21 +69,24 @@ public class MainApp extends Application {
 
         boolean withSample = false;
         if (Files.isDirectory(cardFolderFilesPath)) {
-            Stream<Path> stream = Files.walk(cardFolderFilesPath);
-            if (stream != null) {
+            // Files are only sniffed here; each one is parsed once when the card folders are read.
+            try (Stream<Path> stream = Files.walk(cardFolderFilesPath)) {
                 stream.filter(Files::isRegularFile)
-                      .filter(JsonCardFolderStorage::isCardFolderStorage)
-                      .forEach(file -> cardFolderStorageList.add(new JsonCardFolderStorage(file)));
+                      .map(file -> StorageManager.getExistingCardFolderStorage(file, userPrefs))
+                      .forEach(cardFolderStorage -> cardFolderStorage.ifPresent(cardFolderStorageList::add));
             }
         }
         if (cardFolderStorageList.isEmpty()) {
             logger.info("Folders not found. Will be starting with a sample CardFolder");
-            Path samplePath = cardFolderFilesPath.resolve(SampleDataUtil.getSampleFolderFileName());
-            cardFolderStorageList.add(new JsonCardFolderStorage(samplePath));
+            Path samplePath = cardFolderFilesPath.resolve(
+                    SampleDataUtil.getSampleFolderName() + userPrefs.getCardFolderFileFormat().getFileExtension());
+            cardFolderStorageList.add(StorageManager.getCardFolderStorageFactory(userPrefs).apply(samplePath));
             withSample = true;
         }
 
-        storage = new StorageManager(cardFolderStorageList, userPrefsStorage);
+        // Card folders are saved in the background so that commands do not wait for their data files to be written
+        storage = new WriteBehindStorage(new StorageManager(cardFolderStorageList, userPrefsStorage, userPrefs),
+                userPrefs.getMaxSaveLatencyMillis());
 
         initLogging(config);
 
@@ -95,17 +102,17 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s card folder and {@code userPrefs}. <br>
-     * All folders in valid formats that are found will be read. If none are found, the data from the sample card folder
-     * will be used instead.
+     * Returns a {@code ModelManager} with the card folders in {@code storage} and {@code userPrefs}. <br>
+     * All folders in valid formats that are found will be listed, but the cards of a folder are only read from
+     * {@code storage} when the folder is first entered. If none are found, the data from the sample card folder will
+     * be used instead.
      */
     Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        List<ReadOnlyCardFolder> initialCardFolders;
-        initialCardFolders = new ArrayList<>();
+        List<CardFolderSummary> initialCardFolderSummaries = new ArrayList<>();
 
-        // read all valid card folders
+        // summarise all valid card folders
         try {
-            storage.readCardFolders(initialCardFolders);
+            storage.readCardFolderSummaries(initialCardFolderSummaries);
         } catch (Exception e) {
             if (e instanceof DataConversionException) {
                 logger.warning("Data file not in the correct format.");
@@ -117,12 +124,12 @@ public class MainApp extends Application {
         }
 
         // if no card folder is valid, then start with a sample one.
-        if (initialCardFolders.isEmpty()) {
+        if (initialCardFolderSummaries.isEmpty()) {
             logger.warning("No CardFolders read. Will be starting with a sample CardFolder");
             return initModelManagerWithSample(userPrefs);
         }
 
-        return new ModelManager(initialCardFolders, userPrefs);
+        return new ModelManager(initialCardFolderSummaries, storage::readCardFolder, userPrefs);
     }
 
     /**
@@ -211,11 +218,40 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting CardFolder " + MainApp.VERSION);
         ui.start(primaryStage);
+        startDataDirectoryWatcher(model.getUserPrefs());
+    }
+
+    /**
+     * Starts watching the card folder directory in {@code userPrefs}, so that folders changed by other programs are
+     * reloaded while the app runs.
+     */
+    private void startDataDirectoryWatcher(ReadOnlyUserPrefs userPrefs) {
+        try {
+            dataDirectoryWatcher = new DataDirectoryWatcher(userPrefs.getcardFolderFilesPath(),
+                    userPrefs.getReloadDebounceMillis(), changedFilePaths ->
+                        Platform.runLater(() -> logic.reloadChangedCardFolders(changedFilePaths)));
+            dataDirectoryWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Data directory cannot be watched, changes by other programs are picked up on restart: "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping card folder ] =============================");
+        if (dataDirectoryWatcher != null) {
+            try {
+                dataDirectoryWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the data directory " + StringUtil.getDetails(e));
+            }
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save card folders " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,26 @@
+package seedu.knowitall.commons.core;
+
+/**
+ * The formats in which card folders can be saved to their data files.
+ */
+public enum DataFileFormat {
+    /** Each save rewrites the whole folder as a json file. */
+    JSON(".json"),
+    /** Each save appends the changes since the last save to a journal kept next to the folder's json file. */
+    JOURNAL(".json"),
+    /** Each save rewrites the whole folder in a compact binary format, which is smaller and faster to read. */
+    BINARY(".kia");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension of the data files of this format, including the leading dot.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -32,4 +32,5 @@ public class Messages {
     public static final String MESSAGE_INCORRECT_CSV_FILE_HEADER = "Incorrect Csv file headers. Check that the\n"
             + "csv file contains question,answer,options,hints header";
     public static final String MESSAGE_EMPTY_CSV_FILE = "Empty csv file!";
+    public static final String MESSAGE_FOLDER_NOT_LOADED = "Could not read the cards of folder %1$s from its data file";
 }
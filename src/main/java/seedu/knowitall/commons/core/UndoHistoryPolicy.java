@@ -0,0 +1,11 @@
+package seedu.knowitall.commons.core;
+
+/**
+ * What happens to the undo history of a card folder that is unloaded to stay within the loaded card budget.
+ */
+public enum UndoHistoryPolicy {
+    /** Folders that can be undone or redone stay loaded, so their history lasts for the whole session. */
+    KEEP,
+    /** Folders are unloaded regardless of their history, which is dropped with their cards. */
+    DROP
+}
@@ -0,0 +1,219 @@
+package seedu.knowitall.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes files so that a crash leaves either the previous or the new contents of a file, never a partial write.
+ * The contents are written to a temporary file next to the file, forced to disk, and then atomically moved over the
+ * file.
+ * While a thread has a {@link Batch} open, the writes it makes are committed together when the batch commits, so
+ * that a group of writes waits for the disk once per batch rather than once per write.
+ */
+public class AtomicFileWriter {
+
+    private static final ThreadLocal<Batch> openBatch = new ThreadLocal<>();
+
+    private AtomicFileWriter() {}
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An action that depends on the writes before it having been committed.
+     */
+    @FunctionalInterface
+    public interface CommitAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Replaces the contents of {@code file} with those written by {@code contentWriter}.
+     * If this thread has a batch open, {@code file} keeps its previous contents until the batch commits.
+     * @return the number of bytes written.
+     */
+    public static long write(Path file, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+
+        Path tempFile = FileUtil.createTempFileFor(file);
+        try (OutputStream out = FileUtil.openForWriting(tempFile)) {
+            contentWriter.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        long bytesWritten = Files.size(tempFile);
+
+        Batch batch = openBatch.get();
+        if (batch != null) {
+            batch.pendingMoves.add(new PendingMove(tempFile, file));
+            return bytesWritten;
+        }
+        try (Batch singleWrite = new Batch()) {
+            singleWrite.pendingMoves.add(new PendingMove(tempFile, file));
+            singleWrite.commit();
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Forces the contents of {@code file}, written to it in place, to disk.
+     * If this thread has a batch open, {@code file} is forced to disk when the batch commits.
+     */
+    public static void sync(Path file) throws IOException {
+        requireNonNull(file);
+
+        Batch batch = openBatch.get();
+        if (batch != null) {
+            batch.filesToSync.add(file);
+            return;
+        }
+        force(file);
+    }
+
+    /**
+     * Runs {@code action} once the writes made so far on this thread are committed: immediately if this thread has
+     * no batch open, or after the open batch commits otherwise. The action is dropped if the batch fails to commit.
+     */
+    public static void whenCommitted(CommitAction action) throws IOException {
+        requireNonNull(action);
+
+        Batch batch = openBatch.get();
+        if (batch != null) {
+            batch.commitActions.add(action);
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * Opens a batch on this thread. Writes made on this thread are committed when the batch commits.
+     * @throws IllegalStateException if this thread already has a batch open.
+     */
+    public static Batch beginBatch() {
+        if (openBatch.get() != null) {
+            throw new IllegalStateException("A batch is already open on this thread.");
+        }
+        Batch batch = new Batch();
+        openBatch.set(batch);
+        return batch;
+    }
+
+    /**
+     * Forces the contents of {@code file} to disk.
+     */
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that files moved into it survive a crash.
+     * Not every platform allows a directory to be opened for this, in which case the moves are left to the file
+     * system to persist.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the directory cannot be synced on this platform
+        }
+    }
+
+    /**
+     * Writes that are committed together. A batch is closed by the thread that opened it.
+     */
+    public static class Batch implements AutoCloseable {
+        private final List<PendingMove> pendingMoves = new ArrayList<>();
+        private final Set<Path> filesToSync = new LinkedHashSet<>();
+        private final List<CommitAction> commitActions = new ArrayList<>();
+
+        private Batch() {}
+
+        /**
+         * Forces every file written in this batch to disk, then moves each over the file it replaces, in the order
+         * they were written, and runs the actions waiting on them.
+         * Files that are not moved because of a failure keep their previous contents.
+         */
+        public void commit() throws IOException {
+            try {
+                for (Path file : filesToSync) {
+                    force(file);
+                }
+                for (PendingMove pendingMove : pendingMoves) {
+                    force(pendingMove.tempFile);
+                }
+
+                Set<Path> directories = new LinkedHashSet<>();
+                for (PendingMove pendingMove : pendingMoves) {
+                    FileUtil.moveReplacing(pendingMove.tempFile, pendingMove.file);
+                    directories.add(pendingMove.file.toAbsolutePath().getParent());
+                }
+                directories.forEach(AtomicFileWriter::forceDirectory);
+
+                for (CommitAction commitAction : commitActions) {
+                    commitAction.run();
+                }
+            } finally {
+                discard();
+            }
+        }
+
+        /**
+         * Deletes the files written in this batch that have not been committed, and closes this batch.
+         */
+        @Override
+        public void close() {
+            discard();
+            if (openBatch.get() == this) {
+                openBatch.remove();
+            }
+        }
+
+        /**
+         * Deletes the files written in this batch that have not been moved, and forgets everything pending.
+         */
+        private void discard() {
+            for (PendingMove pendingMove : pendingMoves) {
+                try {
+                    Files.deleteIfExists(pendingMove.tempFile);
+                } catch (IOException e) {
+                    // left for the next save of the file to replace
+                }
+            }
+            pendingMoves.clear();
+            filesToSync.clear();
+            commitActions.clear();
+        }
+    }
+
+    /**
+     * A temporary file written in place of {@code file}.
+     */
+    private static class PendingMove {
+        private final Path tempFile;
+        private final Path file;
+
+        PendingMove(Path tempFile, Path file) {
+            this.tempFile = tempFile;
+            this.file = file;
+        }
+    }
+}
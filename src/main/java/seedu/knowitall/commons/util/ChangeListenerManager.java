@@ -0,0 +1,96 @@
+package seedu.knowitall.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Manages a list of listeners of typed changes of type {@code T}.
+ * Changes are delivered to each listener as a list. Outside of a batch, every change is delivered on its own as soon
+ * as it is fired. Within a batch, started with {@link #beginBatch()}, changes are collected instead and delivered
+ * together when the outermost batch ends, so that listeners react once to all the changes made by an operation.
+ * <p>
+ * Listeners are kept in a copy-on-write list, so any modifications to the listeners while changes are being
+ * delivered only take effect on the next delivery.
+ */
+public class ChangeListenerManager<T> {
+    private final List<Consumer<List<T>>> listeners = new CopyOnWriteArrayList<>();
+    private List<T> batchedChanges = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Adds {@code listener} to the list of listeners.
+     * If the same listener is added more than once, then it will be notified more than once.
+     *
+     * @return The subscription of the listener, which removes one occurrence of the listener when cancelled.
+     */
+    public Subscription addListener(Consumer<List<T>> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+
+        boolean[] isSubscribed = {true};
+        return () -> {
+            if (isSubscribed[0]) {
+                isSubscribed[0] = false;
+                listeners.remove(listener);
+            }
+        };
+    }
+
+    /**
+     * Returns true if any listener is added.
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Delivers {@code change} to all added listeners, or collects it until the current batch ends.
+     * Changes fired while there are no listeners are dropped, since there is no one to deliver them to.
+     */
+    public void fireChange(T change) {
+        requireNonNull(change);
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        if (batchDepth > 0) {
+            batchedChanges.add(change);
+        } else {
+            deliver(Collections.singletonList(change));
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which are delivered together when the batch ends.
+     * Batches may be nested; the changes are delivered when the outermost batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the current batch of changes, delivering the changes collected in it if it is the outermost batch.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "No batch to end";
+
+        batchDepth--;
+        if (batchDepth > 0 || batchedChanges.isEmpty()) {
+            return;
+        }
+        List<T> changes = Collections.unmodifiableList(batchedChanges);
+        batchedChanges = new ArrayList<>();
+        deliver(changes);
+    }
+
+    private void deliver(List<T> changes) {
+        for (Consumer<List<T>> listener : listeners) {
+            listener.accept(changes);
+        }
+    }
+}
@@ -1,17 +1,39 @@
 package seedu.knowitall.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Suffix of the temporary files that data is written to before they are moved over the file they replace */
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Files at least this large are memory-mapped by {@link #readToBuffer(Path)} rather than copied onto the heap */
+    public static final long MIN_MAPPED_FILE_SIZE = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Windows does not allow a file to be replaced while it is mapped, and a mapping is only released once its
+     * buffer is garbage collected, so files are not mapped there.
+     */
+    private static final boolean IS_MAPPING_SUPPORTED =
+            !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +94,43 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the contents of the given file as a read-only buffer.
+     * Files of at least {@link #MIN_MAPPED_FILE_SIZE} bytes are memory-mapped, so that reading a large file does not
+     * need a heap copy of it; smaller files are read into a heap buffer.
+     * Assumes file exists.
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            long size = channel.size();
+            if (!IS_MAPPING_SUPPORTED || size < MIN_MAPPED_FILE_SIZE) {
+                return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to read: " + file);
+            }
+            // The mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Returns a buffered stream that writes to the given file through a file channel, so that data can be written
+     * as it is produced rather than built up in memory first.
+     * Will create the file if it does not exist yet, and truncate it otherwise.
+     */
+    public static OutputStream openForWriting(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        AtomicFileWriter.write(file, out -> out.write(content.getBytes(CHARSET)));
     }
 
     /**
@@ -87,4 +140,31 @@ public class FileUtil {
         Files.delete(file);
     }
 
+    /**
+     * Creates an empty temporary file in the directory of {@code file}, to be moved over {@code file} once written.
+     */
+    public static Path createTempFileFor(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code file} is named like a temporary file created by {@link #createTempFileFor(Path)}.
+     */
+    public static boolean isTempFile(Path file) {
+        return file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} atomically where the file system allows.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
@@ -2,16 +2,19 @@ package seedu.knowitall.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 
 /**
  * Manages a list of {@link InvalidationListener}.
+ * The list is copied when listeners are added or removed rather than every time they are called, as listeners are
+ * called far more often than they change.
  */
 public class InvalidationListenerManager {
-    private final ArrayList<InvalidationListener> listeners = new ArrayList<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Calls {@link InvalidationListener#invalidated(Observable)} on all added listeners.
@@ -21,11 +24,10 @@ public class InvalidationListenerManager {
      * @param observable The {@code Observable} that became invalid.
      */
     public void callListeners(Observable observable) {
-        // Make a copy of listeners such that any modifications to the listeners list during
-        // the invocation of this method will only take effect on the next invocation of this method.
-        ArrayList<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
-
-        for (InvalidationListener listener : listenersCopy) {
+        // Iterating over the copy-on-write list sees the listeners as they were when the iteration began, such that
+        // any modifications to the listeners list during the invocation of this method will only take effect on the
+        // next invocation of this method.
+        for (InvalidationListener listener : listeners) {
             listener.invalidated(observable);
         }
     }
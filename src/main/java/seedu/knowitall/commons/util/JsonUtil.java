@@ -3,6 +3,9 @@ package seedu.knowitall.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +14,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,12 +46,13 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        AtomicFileWriter.write(jsonFile, out -> objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return fromJsonBuffer(FileUtil.readToBuffer(jsonFile), classOfObjectToDeserialize);
     }
 
     /**
@@ -76,6 +83,49 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the name of the first field of the top-level JSON object in the given file, reading only as much of
+     * the file as is needed to find it.
+     * Returns {@code Optional.empty()} if the file does not start with a non-empty JSON object.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be read or does not start with valid JSON.
+     */
+    public static Optional<String> readFirstFieldName(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+                return Optional.empty();
+            }
+            return Optional.of(parser.getCurrentName());
+        }
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code out} as it is generated, and closes {@code out} when it is
+     * closed. Objects written with {@link JsonGenerator#writeObject(Object)} are serialized as by this class.
+     * @param isPrettyPrinted whether the data is indented over several lines, or written on a single line.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code in} as it is parsed, and closes {@code in} when it is closed.
+     * Objects read with {@link JsonParser#readValueAs(Class)} are deserialized as by this class.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -100,6 +150,16 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts the JSON data in the remaining bytes of a buffer to an instance of a class.
+     * The data is parsed as it is read from the buffer, so no string copy of it is made.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON data
+     */
+    public static <T> T fromJsonBuffer(ByteBuffer json, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(new ByteBufferInputStream(json), instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +170,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
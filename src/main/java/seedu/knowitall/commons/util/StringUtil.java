@@ -6,6 +6,9 @@ import static seedu.knowitall.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,34 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the distinct words in {@code sentence}, normalized with {@link #toSearchWord(String)}.
+     * Words that match under {@link #containsWordIgnoreCase(String, String)} usually have equal normalized forms,
+     * but the two can disagree on a few characters whose upper and lower cases do not map one to one.
+     * @param sentence cannot be null
+     */
+    public static Set<String> getSearchWords(String sentence) {
+        requireNonNull(sentence);
+
+        Set<String> words = new HashSet<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(toSearchWord(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the normalized form of {@code word} used to look it up in a search index.
+     * The word is lower cased in the root locale, so that its normalized form does not depend on the default locale.
+     * @param word cannot be null
+     */
+    public static String toSearchWord(String word) {
+        requireNonNull(word);
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
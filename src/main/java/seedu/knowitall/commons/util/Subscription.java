@@ -0,0 +1,14 @@
+package seedu.knowitall.commons.util;
+
+/**
+ * A listener's subscription to changes, which stops the listener from being notified once it is cancelled.
+ */
+@FunctionalInterface
+public interface Subscription {
+
+    /**
+     * Stops notifying the listener of this subscription.
+     * Cancelling a subscription more than once has no further effect.
+     */
+    void unsubscribe();
+}
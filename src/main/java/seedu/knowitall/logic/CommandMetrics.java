@@ -0,0 +1,235 @@
+package seedu.knowitall.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.knowitall.logic.commands.Command;
+
+/**
+ * Records how long each command takes to parse, execute and save its changes, how many bytes of data files its saves
+ * write, and how many bytes it allocates on the thread that runs it, grouped by command word.
+ * When saves are written behind, the save time of a command is only the time taken to queue its saves, and the bytes
+ * its saves write are recorded later, from the thread that writes them.
+ */
+public class CommandMetrics {
+
+    /** Reported in place of allocated bytes when the JVM cannot measure them */
+    public static final long ALLOCATION_UNAVAILABLE = -1;
+
+    /** Upper bounds, in milliseconds, of the latency histogram buckets. Slower commands fall in a last bucket. */
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private static final String MESSAGE_NO_METRICS = "No commands have been executed yet.";
+    private static final String MESSAGE_HEADER = "Command metrics (mean milliseconds per run):";
+    private static final String MESSAGE_COMMAND_WORD_METRICS = "%1$s: %2$d runs, parse %3$.2f, execute %4$.2f, "
+            + "save %5$.2f, max %6$.2f, %7$d bytes written, %8$s allocated\n    latency: %9$s";
+
+    /** Command word of each kind of command, read once from its {@code COMMAND_WORD} field */
+    private static final ClassValue<String> COMMAND_WORDS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> commandClass) {
+            try {
+                return (String) commandClass.getField("COMMAND_WORD").get(null);
+            } catch (ReflectiveOperationException | ClassCastException | NullPointerException e) {
+                return commandClass.getSimpleName();
+            }
+        }
+    };
+
+    private final Map<String, CommandWordMetrics> metricsByCommandWord = new TreeMap<>();
+
+    /**
+     * Returns the command word under which runs of {@code command} are recorded: the {@code COMMAND_WORD} of its
+     * class, or the name of its class if it has none. Unlike the word the user typed, this is the same however the
+     * command was entered.
+     */
+    public static String getCommandWord(Command command) {
+        requireNonNull(command);
+        return COMMAND_WORDS.get(command.getClass());
+    }
+
+    /**
+     * Returns the upper bounds, in milliseconds, of the latency histogram buckets, without the last bucket, which has
+     * no upper bound.
+     */
+    public static long[] getLatencyBucketBoundsMillis() {
+        return LATENCY_BUCKET_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or {@link #ALLOCATION_UNAVAILABLE} if the
+     * JVM cannot measure it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        if (!allocationMxBean.isThreadAllocatedMemorySupported()
+                || !allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+        return allocationMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records one run of the command with {@code commandWord}.
+     * {@code saveNanos} is the time taken to save or queue its changes, and {@code allocatedBytes} may be
+     * {@link #ALLOCATION_UNAVAILABLE}.
+     */
+    public synchronized void record(String commandWord, long parseNanos, long executeNanos, long saveNanos,
+            long allocatedBytes) {
+        requireNonNull(commandWord);
+        metricsByCommandWord.computeIfAbsent(commandWord, CommandWordMetrics::new)
+                .record(parseNanos, executeNanos, saveNanos, allocatedBytes);
+    }
+
+    /**
+     * Adds {@code bytesWritten} to the bytes of data files written by the command with {@code commandWord}.
+     * May be called from any thread.
+     */
+    public synchronized void recordBytesWritten(String commandWord, long bytesWritten) {
+        requireNonNull(commandWord);
+        metricsByCommandWord.computeIfAbsent(commandWord, CommandWordMetrics::new).totalBytesWritten += bytesWritten;
+    }
+
+    /**
+     * Returns the metrics of every command word that has been recorded, ordered by command word.
+     */
+    public synchronized List<CommandWordMetrics> getMetrics() {
+        return new ArrayList<>(metricsByCommandWord.values());
+    }
+
+    /**
+     * Returns a human readable summary of the metrics recorded.
+     */
+    public synchronized String getSummary() {
+        if (metricsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+
+        StringBuilder builder = new StringBuilder(MESSAGE_HEADER);
+        for (CommandWordMetrics metrics : metricsByCommandWord.values()) {
+            builder.append('\n').append(metrics.getSummary());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Metrics of all recorded runs of commands with the same command word.
+     */
+    public static class CommandWordMetrics {
+        private final String commandWord;
+        private final long[] latencyHistogram = new long[LATENCY_BUCKET_BOUNDS_MILLIS.length + 1];
+        private long count;
+        private long totalParseNanos;
+        private long totalExecuteNanos;
+        private long totalSaveNanos;
+        private long maxLatencyNanos;
+        /** Updated from the thread that writes the saves of the command, guarded by the enclosing metrics */
+        private volatile long totalBytesWritten;
+        private long totalAllocatedBytes;
+
+        CommandWordMetrics(String commandWord) {
+            this.commandWord = commandWord;
+        }
+
+        /**
+         * Adds one run of the command to these metrics.
+         */
+        void record(long parseNanos, long executeNanos, long saveNanos, long allocatedBytes) {
+            long latencyNanos = parseNanos + executeNanos + saveNanos;
+            count++;
+            totalParseNanos += parseNanos;
+            totalExecuteNanos += executeNanos;
+            totalSaveNanos += saveNanos;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+            if (allocatedBytes == ALLOCATION_UNAVAILABLE || totalAllocatedBytes == ALLOCATION_UNAVAILABLE) {
+                totalAllocatedBytes = ALLOCATION_UNAVAILABLE;
+            } else {
+                totalAllocatedBytes += allocatedBytes;
+            }
+            latencyHistogram[getBucket(latencyNanos)]++;
+        }
+
+        /**
+         * Returns the index of the latency histogram bucket that {@code latencyNanos} falls in.
+         */
+        private static int getBucket(long latencyNanos) {
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (latencyMillis < LATENCY_BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return LATENCY_BUCKET_BOUNDS_MILLIS.length;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the number of runs in each latency bucket, with bounds given by
+         * {@link CommandMetrics#getLatencyBucketBoundsMillis()}.
+         */
+        public long[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        public long getTotalBytesWritten() {
+            return totalBytesWritten;
+        }
+
+        public long getTotalAllocatedBytes() {
+            return totalAllocatedBytes;
+        }
+
+        /**
+         * Returns a one-entry summary of these metrics, with times averaged over all runs.
+         */
+        String getSummary() {
+            String allocated = totalAllocatedBytes == ALLOCATION_UNAVAILABLE
+                    ? "unknown bytes"
+                    : totalAllocatedBytes + " bytes";
+            return String.format(MESSAGE_COMMAND_WORD_METRICS, commandWord, count, getMeanMillis(totalParseNanos),
+                    getMeanMillis(totalExecuteNanos), getMeanMillis(totalSaveNanos),
+                    maxLatencyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), totalBytesWritten, allocated,
+                    getHistogramSummary());
+        }
+
+        private double getMeanMillis(long totalNanos) {
+            return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1) / count;
+        }
+
+        /**
+         * Returns the non-empty latency buckets, e.g. {@code "<1ms: 3, <5ms: 1"}.
+         */
+        private String getHistogramSummary() {
+            List<String> buckets = new ArrayList<>();
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                if (latencyHistogram[i] == 0) {
+                    continue;
+                }
+                String bound = i < LATENCY_BUCKET_BOUNDS_MILLIS.length
+                        ? "<" + LATENCY_BUCKET_BOUNDS_MILLIS[i] + "ms"
+                        : ">=" + LATENCY_BUCKET_BOUNDS_MILLIS[i - 1] + "ms";
+                buckets.add(bound + ": " + latencyHistogram[i]);
+            }
+            return String.join(", ", buckets);
+        }
+    }
+}
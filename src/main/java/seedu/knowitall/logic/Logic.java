@@ -1,6 +1,8 @@
 package seedu.knowitall.logic;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -73,4 +75,18 @@ public interface Logic {
      * @see seedu.knowitall.model.Model#setSelectedCard(Card)
      */
     void setSelectedCard(Card card);
+
+    /**
+     * Sets the handler to pass the error message of a data file save that fails after its command has returned.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Reloads the card folders whose data files at {@code changedFilePaths} were changed by another program.
+     * Changes are only applied in the home directory; changes seen while a folder is open are applied once the user
+     * returns to the home directory, after the edits made in the meantime are saved.
+     * Must be called from the JavaFX application thread.
+     */
+    void reloadChangedCardFolders(Collection<Path> changedFilePaths);
 }
@@ -2,7 +2,13 @@ package seedu.knowitall.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -14,10 +20,12 @@ import seedu.knowitall.logic.commands.CommandResult;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.logic.parser.CommandParser;
 import seedu.knowitall.logic.parser.exceptions.ParseException;
+import seedu.knowitall.model.CardFolder;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.VersionedCardFolder;
 import seedu.knowitall.model.card.Card;
+import seedu.knowitall.storage.CardFolderFileChange;
 import seedu.knowitall.storage.Storage;
 
 /**
@@ -25,23 +33,29 @@ import seedu.knowitall.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** Command word under which the metrics of commands that could not be parsed are recorded */
+    public static final String UNPARSED_COMMAND_WORD = "(unparsed)";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
+    private final CommandMetrics metrics;
     private final CommandParser commandParser;
     private boolean cardFolderModified;
     private boolean modelModified;
+    /** Data files changed by other programs whose changes are not applied to the model yet */
+    private final Set<Path> changedFilePaths = new LinkedHashSet<>();
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         history = new CommandHistory();
-        commandParser = new CommandParser();
+        metrics = new CommandMetrics();
+        commandParser = new CommandParser(metrics);
 
-        // Add listeners to all card folders and the model
-        addCardFolderListeners(model);
+        // Set cardFolderModified whenever the contents of the models' card folders are changed
+        model.addCardFolderChangeListener(changes -> cardFolderModified = true);
 
         // Set modelModified whenever the models' card folders are modified
         model.addListener(observable -> modelModified = true);
@@ -53,13 +67,52 @@ public class LogicManager implements Logic {
         cardFolderModified = false;
         modelModified = false;
 
-        CommandResult commandResult;
+        long startTime = System.nanoTime();
+        long startAllocatedBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        String commandWord = UNPARSED_COMMAND_WORD;
+        long parsedTime = 0;
+        long executedTime = 0;
+
         try {
-            Command command = commandParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            CommandResult commandResult;
+            // The changes made by the command are delivered to the change listeners together once it has run
+            model.beginChangeBatch();
+            try {
+                Command command = commandParser.parseCommand(commandText);
+                parsedTime = System.nanoTime();
+                commandWord = CommandMetrics.getCommandWord(command);
+                commandResult = command.execute(model, history);
+            } finally {
+                model.endChangeBatch();
+                executedTime = System.nanoTime();
+                if (commandWord.equals(UNPARSED_COMMAND_WORD)) {
+                    parsedTime = executedTime;
+                }
+                history.add(commandText);
+            }
+
+            saveModifiedData();
+            applyChangedCardFolders();
+            return commandResult;
         } finally {
-            history.add(commandText);
+            long endTime = System.nanoTime();
+            long endAllocatedBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+            long allocatedBytes = startAllocatedBytes == CommandMetrics.ALLOCATION_UNAVAILABLE
+                    ? CommandMetrics.ALLOCATION_UNAVAILABLE
+                    : endAllocatedBytes - startAllocatedBytes;
+            // The save time is only the time to queue the saves if they are written behind, so the bytes written
+            // are credited to the command once its saves have been written
+            metrics.record(commandWord, parsedTime - startTime, executedTime - parsedTime, endTime - executedTime,
+                    allocatedBytes);
+            String recordedCommandWord = commandWord;
+            storage.reportBytesWritten(bytesWritten -> metrics.recordBytesWritten(recordedCommandWord, bytesWritten));
         }
+    }
+
+    /**
+     * Saves the active card folder and the list of card folders, if the last command modified them.
+     */
+    private void saveModifiedData() throws CommandException {
 
         if (cardFolderModified) {
             logger.info("card folder modified, saving to file.");
@@ -80,12 +133,7 @@ public class LogicManager implements Logic {
             } catch (IOException ioe) {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
-
-            // re-register listeners to all card folders
-            addCardFolderListeners(model);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -133,13 +181,74 @@ public class LogicManager implements Logic {
         model.setSelectedCard(card);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void reloadChangedCardFolders(Collection<Path> changedFilePaths) {
+        this.changedFilePaths.addAll(changedFilePaths);
+        applyChangedCardFolders();
+    }
+
     /**
-     * Adds listeners to all {@code CardFolders} in {@code model}
+     * Re-reads the data files changed by other programs and applies their changes to the model, if the user is in
+     * the home directory.
+     * Modified folders have their cards replaced, deleted folders are removed and added folders are appended. The
+     * list of card folders is then saved, so that the storage is in line with the model again.
      */
-    private void addCardFolderListeners(Model model) {
-        // Set cardFolderModified to true whenever the models' card folder is modified.
-        for (ReadOnlyCardFolder cardFolder : model.getCardFolders()) {
-            cardFolder.addListener(observable -> cardFolderModified = true);
+    private void applyChangedCardFolders() {
+        if (changedFilePaths.isEmpty() || model.getState() != Model.State.IN_HOMEDIR) {
+            return;
+        }
+
+        List<CardFolderFileChange> changes;
+        try {
+            changes = storage.readChangedCardFolders(new ArrayList<>(changedFilePaths));
+        } catch (IOException ioe) {
+            logger.warning("Could not reload changed card folders: " + ioe);
+            return;
+        }
+        changedFilePaths.clear();
+
+        List<Integer> deletedIndexes = new ArrayList<>();
+        List<CardFolder> addedFolders = new ArrayList<>();
+        for (CardFolderFileChange change : changes) {
+            switch (change.getKind()) {
+            case MODIFIED:
+                model.reloadFolder(change.getIndex(), change.getCardFolder());
+                break;
+            case DELETED:
+                deletedIndexes.add(change.getIndex());
+                break;
+            case ADDED:
+                addedFolders.add(new CardFolder(change.getCardFolder()));
+                break;
+            default:
+                throw new AssertionError("Unknown card folder file change: " + change.getKind());
+            }
+        }
+        if (deletedIndexes.isEmpty() && addedFolders.isEmpty()) {
+            return;
+        }
+
+        // Folders are deleted from the highest index, so that the indexes of the other deleted folders stay valid
+        deletedIndexes.sort(Comparator.reverseOrder());
+        deletedIndexes.forEach(model::deleteFolder);
+        for (CardFolder addedFolder : addedFolders) {
+            if (model.hasFolder(addedFolder.getFolderName())) {
+                logger.warning("Ignoring added card folder with the name of an existing folder: "
+                        + addedFolder.getFolderName());
+                continue;
+            }
+            model.addFolder(addedFolder);
+        }
+
+        try {
+            storage.saveCardFolders(model.getCardFolders(), model.getcardFolderFilesPath());
+        } catch (IOException ioe) {
+            logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
         }
     }
 }
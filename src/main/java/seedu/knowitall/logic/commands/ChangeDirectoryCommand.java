@@ -8,6 +8,7 @@ import seedu.knowitall.commons.core.Messages;
 import seedu.knowitall.commons.core.index.Index;
 import seedu.knowitall.logic.CommandHistory;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
+import seedu.knowitall.model.CardFolderNotLoadedException;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.Model.State;
 import seedu.knowitall.model.ReadOnlyCardFolder;
@@ -76,7 +77,11 @@ public class ChangeDirectoryCommand extends Command {
         if (targetIndex.getZeroBased() >= cardFolderList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_FOLDER_DISPLAYED_INDEX);
         }
-        model.enterFolder(targetIndex.getZeroBased());
+        try {
+            model.enterFolder(targetIndex.getZeroBased());
+        } catch (CardFolderNotLoadedException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
         return new CommandResult(String.format(MESSAGE_ENTER_FOLDER_SUCCESS, targetIndex.getOneBased()),
                 CommandResult.Type.ENTERED_FOLDER);
     }
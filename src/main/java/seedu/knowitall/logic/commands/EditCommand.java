@@ -111,7 +111,8 @@ public class EditCommand extends Command {
             }
         }
 
-        return new Card(updatedQuestion, updatedAnswer, originalScore, updatedOptions, updatedHints);
+        return new Card(updatedQuestion, updatedAnswer, originalScore, updatedOptions, updatedHints,
+                cardToEdit.getId());
     }
 
     @Override
@@ -9,6 +9,7 @@ import seedu.knowitall.commons.core.index.Index;
 import seedu.knowitall.logic.CommandHistory;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderNotLoadedException;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.VersionedCardFolder;
 
@@ -64,7 +65,11 @@ public class EditFolderCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_FOLDER);
         }
 
-        model.renameFolder(index.getZeroBased(), newName);
+        try {
+            model.renameFolder(index.getZeroBased(), newName);
+        } catch (CardFolderNotLoadedException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
         return new CommandResult(String.format(MESSAGE_EDIT_FOLDER_SUCCESS, newName), CommandResult.Type.EDITED_FOLDER);
     }
 
@@ -7,6 +7,7 @@ import seedu.knowitall.commons.core.Messages;
 import seedu.knowitall.logic.CommandHistory;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.CardFolderNotFoundException;
+import seedu.knowitall.model.CardFolderNotLoadedException;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.Model.State;
 import seedu.knowitall.storage.csvmanager.exceptions.CsvManagerNotInitialized;
@@ -48,6 +49,8 @@ public class ExportCommand extends Command {
             model.exportCardFolders(cardFolderIndexes);
         } catch (CardFolderNotFoundException e) {
             throw new CommandException(MESSAGE_MISSING_CARD_FOLDERS + e.getMessage());
+        } catch (CardFolderNotLoadedException e) {
+            throw new CommandException(e.getMessage(), e);
         } catch (IOException e) {
             throw new CommandException(MESSAGE_FILE_OPS_FAILURE);
         } catch (CsvManagerNotInitialized e) {
@@ -0,0 +1,74 @@
+package seedu.knowitall.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.knowitall.commons.util.JsonUtil;
+import seedu.knowitall.logic.CommandHistory;
+import seedu.knowitall.logic.CommandMetrics;
+import seedu.knowitall.logic.commands.exceptions.CommandException;
+import seedu.knowitall.model.Model;
+
+/**
+ * Shows how long the commands entered so far took to parse, execute and save, how many bytes they wrote and how
+ * much memory they allocated, or writes these metrics to a file.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the latency, bytes written and memory "
+            + "allocated of each kind of command entered since the app was launched.\n"
+            + "Parameters: [FILE_PATH] (writes the metrics to the file in json format instead)\n"
+            + "Example: " + COMMAND_WORD + " metrics.json";
+
+    public static final String MESSAGE_DUMP_SUCCESS = "Command metrics written to %1$s";
+    public static final String MESSAGE_DUMP_FAILURE = "Could not write command metrics to %1$s";
+
+    private final CommandMetrics metrics;
+    private final Path dumpFilePath;
+
+    /**
+     * Creates a MetricsCommand that shows {@code metrics}.
+     */
+    public MetricsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+        dumpFilePath = null;
+    }
+
+    /**
+     * Creates a MetricsCommand that writes {@code metrics} to {@code dumpFilePath}.
+     */
+    public MetricsCommand(CommandMetrics metrics, Path dumpFilePath) {
+        requireAllNonNull(metrics, dumpFilePath);
+        this.metrics = metrics;
+        this.dumpFilePath = dumpFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (dumpFilePath == null) {
+            return new CommandResult(metrics.getSummary());
+        }
+
+        try {
+            JsonUtil.saveJsonFile(metrics, dumpFilePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_DUMP_FAILURE, dumpFilePath), e);
+        }
+        return new CommandResult(String.format(MESSAGE_DUMP_SUCCESS, dumpFilePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MetricsCommand // instanceof handles nulls
+                && metrics == ((MetricsCommand) other).metrics // state check
+                && Objects.equals(dumpFilePath, ((MetricsCommand) other).dumpFilePath));
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.knowitall.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.knowitall.model.Model.PREDICATE_SHOW_ALL_CARDS;
 
 import seedu.knowitall.commons.core.Messages;
 import seedu.knowitall.logic.CommandHistory;
@@ -34,10 +33,7 @@ public class RevealCommand extends Command {
         boolean isAttemptCorrect = false;
         model.setCardAsAnswered();
 
-        Card scoredCard = model.createScoredCard(cardToMark, isAttemptCorrect);
-        model.setCard(cardToMark, scoredCard);
-        model.updateFilteredCard(PREDICATE_SHOW_ALL_CARDS);
-        model.commitActiveCardFolder();
+        model.recordCardScore(cardToMark, isAttemptCorrect);
 
         return new CommandResult(MESSAGE_REVEAL_SUCCESS, CommandResult.Type.ANSWER_REVEAL);
     }
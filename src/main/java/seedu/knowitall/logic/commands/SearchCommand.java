@@ -37,7 +37,7 @@ public class SearchCommand extends Command {
         }
 
         requireNonNull(model);
-        model.updateFilteredCard(predicate);
+        model.updateFilteredCard(predicate.indexedBy(model.getActiveCardFolder()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CARDS_LISTED_OVERVIEW, model.getActiveFilteredCards().size()));
     }
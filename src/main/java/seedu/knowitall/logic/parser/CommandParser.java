@@ -1,5 +1,6 @@
 package seedu.knowitall.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.knowitall.commons.core.Messages.MESSAGE_MAX_COMMAND_LENGTH_EXCEEDED;
 import static seedu.knowitall.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -7,6 +8,7 @@ import static seedu.knowitall.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.knowitall.logic.CommandMetrics;
 import seedu.knowitall.logic.commands.AddCommand;
 import seedu.knowitall.logic.commands.AddFolderCommand;
 import seedu.knowitall.logic.commands.AnswerCommand;
@@ -24,6 +26,7 @@ import seedu.knowitall.logic.commands.HelpCommand;
 import seedu.knowitall.logic.commands.HistoryCommand;
 import seedu.knowitall.logic.commands.ImportCommand;
 import seedu.knowitall.logic.commands.ListCommand;
+import seedu.knowitall.logic.commands.MetricsCommand;
 import seedu.knowitall.logic.commands.NextCommand;
 import seedu.knowitall.logic.commands.RedoCommand;
 import seedu.knowitall.logic.commands.ReportCommand;
@@ -48,6 +51,23 @@ public class CommandParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a parser whose metrics commands show metrics that nothing records.
+     */
+    public CommandParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose metrics commands show the given {@code metrics}.
+     */
+    public CommandParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -126,6 +146,9 @@ public class CommandParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommandParser(metrics).parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,44 @@
+package seedu.knowitall.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.knowitall.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.logic.CommandMetrics;
+import seedu.knowitall.logic.commands.MetricsCommand;
+import seedu.knowitall.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MetricsCommand object
+ */
+public class MetricsCommandParser implements Parser<MetricsCommand> {
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a parser of commands that show or write {@code metrics}.
+     */
+    public MetricsCommandParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MetricsCommand
+     * and returns a MetricsCommand object for execution.
+     * @throws ParseException if the user input is not a valid file path
+     */
+    public MetricsCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            return new MetricsCommand(metrics);
+        }
+
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MetricsCommand.MESSAGE_USAGE));
+        }
+        return new MetricsCommand(metrics, Paths.get(filePath));
+    }
+}
@@ -1,16 +1,24 @@
 package seedu.knowitall.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
+import seedu.knowitall.commons.util.ChangeListenerManager;
 import seedu.knowitall.commons.util.InvalidationListenerManager;
+import seedu.knowitall.commons.util.Subscription;
+import seedu.knowitall.model.CardFolderChange.Kind;
 import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.Score;
 import seedu.knowitall.model.card.UniqueCardList;
+import seedu.knowitall.model.card.exceptions.CardNotFoundException;
 
 /**
  * Wraps all data at the knowitall-book level
@@ -21,7 +29,12 @@ public class CardFolder implements ReadOnlyCardFolder {
     private final UniqueCardList cards;
     private String folderName;
     private List<Double> folderScores;
+    /** The summary the folder was created from, until its cards are loaded. Null once the folder is loaded. */
+    private CardFolderSummary unloadedSummary;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ChangeListenerManager<CardFolderChange> changeListenerManager = new ChangeListenerManager<>();
+    private int changeBatchDepth;
+    private boolean isModifiedInChangeBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -39,6 +52,19 @@ public class CardFolder implements ReadOnlyCardFolder {
         folderScores = new ArrayList<>();
     }
 
+    /**
+     * Creates a {@code CardFolder} whose cards are not loaded yet, from the {@code summary} of its data.
+     * The folder has no cards or folder scores until {@link #loadData(ReadOnlyCardFolder)} is called, but counts the
+     * cards of the summary.
+     */
+    public CardFolder(CardFolderSummary summary) {
+        requireNonNull(summary);
+
+        setFolderName(summary.getFolderName());
+        folderScores = new ArrayList<>();
+        unloadedSummary = summary;
+    }
+
     /**
      * Creates an {@code CardFolder} using the Cards in the {@code toBeCopied}
      */
@@ -47,7 +73,7 @@ public class CardFolder implements ReadOnlyCardFolder {
 
         setCards(toBeCopied.getCardList());
         setFolderName(toBeCopied.getFolderName());
-        setFolderScores(toBeCopied.getFolderScores());
+        setFolderScores(new ArrayList<>(toBeCopied.getFolderScores()));
     }
 
     /**
@@ -77,7 +103,84 @@ public class CardFolder implements ReadOnlyCardFolder {
      * Returns the number of {@code cards} within the folder.
      */
     public int countCards() {
-        return cards.size();
+        return isLoaded() ? cards.size() : unloadedSummary.getCardCount();
+    }
+
+    /**
+     * Returns true if the cards of the folder have been loaded.
+     */
+    @Override
+    public boolean isLoaded() {
+        return unloadedSummary == null;
+    }
+
+    /**
+     * Loads the cards and folder scores of {@code data} into a folder that is not loaded yet.
+     * Loading is not a modification of the folder, so listeners are not notified.
+     */
+    void loadData(ReadOnlyCardFolder data) {
+        requireNonNull(data);
+        assert !isLoaded();
+
+        cards.setCards(data.getCardList());
+        folderScores = new ArrayList<>(data.getFolderScores());
+        unloadedSummary = null;
+    }
+
+    /**
+     * Replaces the cards and folder scores of this folder with those of {@code data}, read again from its data file
+     * after another program changed it. A folder that is not loaded only has its summary replaced, as its cards are
+     * read from the data file when they are needed.
+     * The data file already holds {@code data}, so listeners are not notified.
+     */
+    void reloadData(ReadOnlyCardFolder data) {
+        requireNonNull(data);
+
+        if (!isLoaded()) {
+            unloadedSummary = CardFolderSummary.of(data);
+            return;
+        }
+        cards.setCards(data.getCardList());
+        folderScores = new ArrayList<>(data.getFolderScores());
+    }
+
+    /**
+     * Drops the cards and folder scores of a loaded folder, keeping its summary, so that they can be loaded again
+     * with {@link #loadData(ReadOnlyCardFolder)} when they are next needed.
+     * Unloading is not a modification of the folder, so listeners are not notified.
+     */
+    void unloadData() {
+        assert isLoaded();
+
+        unloadedSummary = CardFolderSummary.of(this);
+        cards.setCards(new ArrayList<>());
+        folderScores = new ArrayList<>();
+    }
+
+    /**
+     * Returns a new transaction that applies card additions, edits and removals to this folder all at once.
+     */
+    public CardFolderTransaction beginTransaction() {
+        return new CardFolderTransaction(this);
+    }
+
+    /**
+     * Replaces the cards of the folder with {@code cards} and its folder scores with {@code folderScores}, each
+     * unless it is null, notifying listeners once.
+     * If {@code cards} contains duplicate cards, the folder is left unchanged.
+     */
+    void applyTransaction(List<Card> cards, List<Double> folderScores) {
+        beginChangeBatch();
+        try {
+            if (cards != null) {
+                setCards(cards);
+            }
+            if (folderScores != null) {
+                setFolderScores(folderScores);
+            }
+        } finally {
+            endChangeBatch();
+        }
     }
 
     /**
@@ -86,7 +189,7 @@ public class CardFolder implements ReadOnlyCardFolder {
      */
     public void setCards(List<Card> cards) {
         this.cards.setCards(cards);
-        indicateModified();
+        indicateModified(CardFolderChange.of(Kind.CARDS_REPLACED, this));
     }
 
     /**
@@ -110,13 +213,45 @@ public class CardFolder implements ReadOnlyCardFolder {
         return cards.contains(card);
     }
 
+    /**
+     * Returns true if a card with exactly the same fields as {@code card} exists in the card folder.
+     */
+    public boolean hasExactCard(Card card) {
+        requireNonNull(card);
+        return cards.containsExact(card);
+    }
+
+    /**
+     * Returns the card in the card folder with exactly the same fields as {@code card}, which carries the id the
+     * folder assigned to it, or null if there is no such card.
+     */
+    Card getStoredCard(Card card) {
+        return cards.getStoredCard(card);
+    }
+
+    /**
+     * Returns the position of the card with exactly the same fields as {@code card}, or -1 if there is no such card.
+     */
+    int indexOf(Card card) {
+        return cards.indexOf(card);
+    }
+
     /**
      * Adds a card to the card folder.
      * The card must not already exist in the card folder.
      */
     public void addCard(Card p) {
         cards.add(p);
-        indicateModified();
+        indicateModified(CardFolderChange.cardAdded(this, cards.getStoredCard(p)));
+    }
+
+    /**
+     * Inserts a card into the card folder at position {@code index}.
+     * Used to restore a removed card to its original position.
+     */
+    void addCard(int index, Card card) {
+        cards.add(index, card);
+        indicateModified(CardFolderChange.cardAdded(this, cards.getStoredCard(card)));
     }
 
     /**
@@ -127,8 +262,24 @@ public class CardFolder implements ReadOnlyCardFolder {
     public void setCard(Card target, Card editedCard) {
         requireNonNull(editedCard);
 
+        Card storedTarget = cards.getStoredCard(target);
         cards.setCard(target, editedCard);
-        indicateModified();
+        indicateModified(CardFolderChange.cardUpdated(this, storedTarget, cards.getStoredCard(editedCard)));
+    }
+
+    /**
+     * Replaces the score of the given card {@code target} with {@code score}, leaving its other fields as they are.
+     * This is a single card update, so the card list reports one replaced card.
+     * {@code target} must exist in the card folder.
+     */
+    public void setCardScore(Card target, Score score) {
+        requireAllNonNull(target, score);
+
+        Card storedTarget = cards.getStoredCard(target);
+        if (storedTarget == null) {
+            throw new CardNotFoundException();
+        }
+        setCard(storedTarget, storedTarget.withScore(score));
     }
 
     /**
@@ -136,8 +287,9 @@ public class CardFolder implements ReadOnlyCardFolder {
      * {@code key} must exist in the card folder.
      */
     public void removeCard(Card key) {
+        Card storedKey = cards.getStoredCard(key);
         cards.remove(key);
-        indicateModified();
+        indicateModified(CardFolderChange.cardRemoved(this, storedKey));
     }
 
     /**
@@ -149,6 +301,7 @@ public class CardFolder implements ReadOnlyCardFolder {
             folderScores.remove(0);
         }
         folderScores.add(folderScore);
+        indicateModified(CardFolderChange.of(Kind.SCORES_CHANGED, this));
     }
 
     @Override
@@ -162,12 +315,57 @@ public class CardFolder implements ReadOnlyCardFolder {
     }
 
     /**
-     * Notifies listeners that the card folder has been modified.
+     * Adds {@code listener} to be notified of the changes made to the contents of the card folder.
+     * Changes are delivered one at a time, or together at the end of a change batch.
+     *
+     * @return The subscription of the listener, to be cancelled once the listener is no longer needed.
+     */
+    public Subscription addChangeListener(Consumer<List<CardFolderChange>> listener) {
+        return changeListenerManager.addListener(listener);
+    }
+
+    /**
+     * Starts a batch of changes to the folder. Until the matching {@link #endChangeBatch()}, the changes are
+     * collected and invalidation listeners are not called, so that listeners are notified once for the whole batch.
+     */
+    void beginChangeBatch() {
+        changeBatchDepth++;
+        changeListenerManager.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of changes to the folder, notifying listeners of them if it is the outermost batch.
+     */
+    void endChangeBatch() {
+        assert changeBatchDepth > 0;
+
+        changeBatchDepth--;
+        changeListenerManager.endBatch();
+        if (changeBatchDepth == 0 && isModifiedInChangeBatch) {
+            isModifiedInChangeBatch = false;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Notifies listeners that the card folder has been modified, or at the end of the current change batch.
      */
     protected void indicateModified() {
+        if (changeBatchDepth > 0) {
+            isModifiedInChangeBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
+    /**
+     * Notifies listeners that the card folder has been modified by {@code change}.
+     */
+    protected void indicateModified(CardFolderChange change) {
+        changeListenerManager.fireChange(change);
+        indicateModified();
+    }
+
     //// util methods
 
     @Override
@@ -186,7 +384,7 @@ public class CardFolder implements ReadOnlyCardFolder {
      */
     public void setFolderScores(List<Double> folderScores) {
         this.folderScores = folderScores;
-        indicateModified();
+        indicateModified(CardFolderChange.of(Kind.SCORES_CHANGED, this));
     }
 
     @Override
@@ -194,6 +392,16 @@ public class CardFolder implements ReadOnlyCardFolder {
         return cards.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Card> copyCardList() {
+        return cards.copyList();
+    }
+
+    @Override
+    public Set<Card> getCardsWithQuestionWord(String word) {
+        return cards.getCardsWithQuestionWord(word);
+    }
+
     public void sortCards(Comparator<Card> comparator) {
         cards.sortCards(comparator);
     }
@@ -203,7 +411,7 @@ public class CardFolder implements ReadOnlyCardFolder {
      */
     public void setFolderName(String newFolderName) {
         this.folderName = newFolderName;
-        indicateModified();
+        indicateModified(CardFolderChange.of(Kind.FOLDER_RENAMED, this));
     }
 
     @Override
@@ -0,0 +1,129 @@
+package seedu.knowitall.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.knowitall.model.card.Card;
+
+/**
+ * A change made to the contents of a {@code CardFolder}, delivered to the listeners added with
+ * {@link CardFolder#addChangeListener(java.util.function.Consumer)}.
+ * Guarantees: immutable.
+ */
+public class CardFolderChange {
+
+    /**
+     * The ways in which the contents of a folder can change.
+     */
+    public enum Kind {
+        /** A card was added to the folder */
+        CARD_ADDED,
+        /** A card of the folder was replaced by an edited card */
+        CARD_UPDATED,
+        /** A card was removed from the folder */
+        CARD_REMOVED,
+        /** All the cards of the folder were replaced */
+        CARDS_REPLACED,
+        /** The folder was renamed */
+        FOLDER_RENAMED,
+        /** The folder scores were changed */
+        SCORES_CHANGED
+    }
+
+    private final Kind kind;
+    private final ReadOnlyCardFolder folder;
+    private final Card previousCard; // null unless a card was updated or removed
+    private final Card card; // null unless a card was added or updated
+
+    private CardFolderChange(Kind kind, ReadOnlyCardFolder folder, Card previousCard, Card card) {
+        requireNonNull(folder);
+        this.kind = kind;
+        this.folder = folder;
+        this.previousCard = previousCard;
+        this.card = card;
+    }
+
+    /**
+     * Returns the change of {@code card} having been added to {@code folder}.
+     */
+    public static CardFolderChange cardAdded(ReadOnlyCardFolder folder, Card card) {
+        requireNonNull(card);
+        return new CardFolderChange(Kind.CARD_ADDED, folder, null, card);
+    }
+
+    /**
+     * Returns the change of {@code previousCard} in {@code folder} having been replaced by {@code card}.
+     */
+    public static CardFolderChange cardUpdated(ReadOnlyCardFolder folder, Card previousCard, Card card) {
+        requireNonNull(previousCard);
+        requireNonNull(card);
+        return new CardFolderChange(Kind.CARD_UPDATED, folder, previousCard, card);
+    }
+
+    /**
+     * Returns the change of {@code previousCard} having been removed from {@code folder}.
+     */
+    public static CardFolderChange cardRemoved(ReadOnlyCardFolder folder, Card previousCard) {
+        requireNonNull(previousCard);
+        return new CardFolderChange(Kind.CARD_REMOVED, folder, previousCard, null);
+    }
+
+    /**
+     * Returns a change of {@code kind} to {@code folder} that does not involve a single card.
+     */
+    public static CardFolderChange of(Kind kind, ReadOnlyCardFolder folder) {
+        assert kind == Kind.CARDS_REPLACED || kind == Kind.FOLDER_RENAMED || kind == Kind.SCORES_CHANGED;
+        return new CardFolderChange(kind, folder, null, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the folder that was changed.
+     */
+    public ReadOnlyCardFolder getFolder() {
+        return folder;
+    }
+
+    /**
+     * Returns the card that was updated or removed. Only card updates and removals have one.
+     */
+    public Card getPreviousCard() {
+        assert kind == Kind.CARD_UPDATED || kind == Kind.CARD_REMOVED;
+        return previousCard;
+    }
+
+    /**
+     * Returns the card that was added, or that an updated card was replaced by. Only card additions and updates have
+     * one.
+     */
+    public Card getCard() {
+        assert kind == Kind.CARD_ADDED || kind == Kind.CARD_UPDATED;
+        return card;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CardFolderChange // instanceof handles nulls
+                && kind == ((CardFolderChange) other).kind
+                && folder == ((CardFolderChange) other).folder
+                && Objects.equals(previousCard, ((CardFolderChange) other).previousCard)
+                && Objects.equals(card, ((CardFolderChange) other).card));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, System.identityHashCode(folder), previousCard, card);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " in " + folder.getFolderName()
+                + (previousCard == null ? "" : ": " + previousCard.getQuestion())
+                + (card == null ? "" : (previousCard == null ? ": " : " -> ") + card.getQuestion());
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.knowitall.model;
+
+import java.io.IOException;
+
+import seedu.knowitall.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the cards of a card folder that the model only knows the summary of.
+ */
+@FunctionalInterface
+public interface CardFolderLoader {
+
+    /**
+     * Returns the card folder at position {@code index} of the list of card folders.
+     *
+     * @throws DataConversionException if the data of the folder is not in the expected format.
+     * @throws IOException if the data of the folder cannot be read.
+     */
+    ReadOnlyCardFolder loadCardFolder(int index) throws DataConversionException, IOException;
+}
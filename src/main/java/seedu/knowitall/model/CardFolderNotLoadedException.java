@@ -0,0 +1,12 @@
+package seedu.knowitall.model;
+
+/**
+ * Signals that the cards of a card folder could not be read from its data file.
+ */
+public class CardFolderNotLoadedException extends RuntimeException {
+
+    public CardFolderNotLoadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
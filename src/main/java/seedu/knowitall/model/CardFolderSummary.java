@@ -0,0 +1,74 @@
+package seedu.knowitall.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The details of a card folder shown in the home directory, which are known without reading its cards.
+ * Guarantees: immutable.
+ */
+public class CardFolderSummary {
+
+    private final String folderName;
+    private final int cardCount;
+    private final Double lastFolderScore;
+
+    /**
+     * Creates a summary of a folder named {@code folderName} with {@code cardCount} cards.
+     * {@code lastFolderScore} is null if the folder has never been tested.
+     */
+    public CardFolderSummary(String folderName, int cardCount, Double lastFolderScore) {
+        requireNonNull(folderName);
+        assert cardCount >= 0;
+
+        this.folderName = folderName;
+        this.cardCount = cardCount;
+        this.lastFolderScore = lastFolderScore;
+    }
+
+    /**
+     * Returns the summary of {@code cardFolder}.
+     */
+    public static CardFolderSummary of(ReadOnlyCardFolder cardFolder) {
+        List<Double> folderScores = cardFolder.getFolderScores();
+        Double lastFolderScore = folderScores.isEmpty() ? null : folderScores.get(folderScores.size() - 1);
+        return new CardFolderSummary(cardFolder.getFolderName(), cardFolder.getCardList().size(), lastFolderScore);
+    }
+
+    public String getFolderName() {
+        return folderName;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    /**
+     * Returns the score of the last test session of the folder, or an empty Optional if it has never been tested.
+     */
+    public Optional<Double> getLastFolderScore() {
+        return Optional.ofNullable(lastFolderScore);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CardFolderSummary // instanceof handles nulls
+                && folderName.equals(((CardFolderSummary) other).folderName)
+                && cardCount == ((CardFolderSummary) other).cardCount
+                && Objects.equals(lastFolderScore, ((CardFolderSummary) other).lastFolderScore));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(folderName, cardCount, lastFolderScore);
+    }
+
+    @Override
+    public String toString() {
+        return folderName + " (" + cardCount + " cards)";
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.knowitall.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.exceptions.CardNotFoundException;
+import seedu.knowitall.model.card.exceptions.DuplicateCardException;
+
+/**
+ * A batch of card additions, edits and removals, and a folder score update, that are applied to a
+ * {@code CardFolder} together by {@link #commit()}.
+ * <p>
+ * The edits are made to a working copy of the cards, so the folder is left unchanged until the transaction is
+ * committed. Committing checks the resulting cards for duplicates in a single pass and replaces the cards of the
+ * folder at once, so that the folder's card list and listeners are notified once rather than once per edit. If the
+ * edits are not valid, the transaction fails as a whole and the folder keeps its cards.
+ * <p>
+ * A transaction may only be committed once.
+ *
+ * @see CardFolder#beginTransaction()
+ */
+public class CardFolderTransaction {
+
+    private final CardFolder cardFolder;
+    /** The cards of the folder with the edits applied. Removed cards leave a null behind, until the commit. */
+    private final List<Card> cards;
+    /** Positions of the cards in {@code cards}, only built once a card is edited or removed */
+    private Map<Card, Integer> positions;
+    private boolean hasCardEdits;
+    private List<Double> folderScores; // null if the folder scores are not updated
+    private boolean isCommitted;
+
+    CardFolderTransaction(CardFolder cardFolder) {
+        this.cardFolder = cardFolder;
+        cards = new ArrayList<>(cardFolder.getCardList());
+    }
+
+    /**
+     * Adds {@code card} to the end of the folder.
+     */
+    public CardFolderTransaction addCard(Card card) {
+        requireNonNull(card);
+        ensureNotCommitted();
+
+        if (positions != null) {
+            positions.put(card, cards.size());
+        }
+        cards.add(card);
+        hasCardEdits = true;
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCard}, which keeps the id of {@code target}.
+     * {@code target} must be in the folder, or added earlier in this transaction, by the time the edit is made.
+     *
+     * @throws CardNotFoundException if there is no such card.
+     */
+    public CardFolderTransaction setCard(Card target, Card editedCard) {
+        requireAllNonNull(target, editedCard);
+        ensureNotCommitted();
+
+        int position = removePosition(target);
+        long id = cards.get(position).getId();
+        Card cardToSet = editedCard.getId() == id ? editedCard : editedCard.withId(id);
+        positions.put(cardToSet, position);
+        cards.set(position, cardToSet);
+        hasCardEdits = true;
+        return this;
+    }
+
+    /**
+     * Removes {@code card} from the folder.
+     * {@code card} must be in the folder, or added earlier in this transaction, by the time it is removed.
+     *
+     * @throws CardNotFoundException if there is no such card.
+     */
+    public CardFolderTransaction removeCard(Card card) {
+        requireNonNull(card);
+        ensureNotCommitted();
+
+        cards.set(removePosition(card), null);
+        hasCardEdits = true;
+        return this;
+    }
+
+    /**
+     * Replaces the folder scores of the folder with {@code folderScores}.
+     */
+    public CardFolderTransaction setFolderScores(List<Double> folderScores) {
+        requireAllNonNull(folderScores);
+        ensureNotCommitted();
+
+        this.folderScores = new ArrayList<>(folderScores);
+        return this;
+    }
+
+    /**
+     * Applies the edits of this transaction to the folder, notifying its listeners once.
+     *
+     * @throws DuplicateCardException if the edits leave two cards with the same identity in the folder, in which
+     *     case the folder is left unchanged.
+     */
+    public void commit() {
+        ensureNotCommitted();
+        isCommitted = true;
+
+        List<Card> committedCards = null;
+        if (hasCardEdits) {
+            committedCards = new ArrayList<>(cards.size());
+            for (Card card : cards) {
+                if (card != null) {
+                    committedCards.add(card);
+                }
+            }
+        }
+        cardFolder.applyTransaction(committedCards, folderScores);
+    }
+
+    /**
+     * Removes {@code card} from the card positions, returning its position in {@code cards}.
+     *
+     * @throws CardNotFoundException if there is no such card.
+     */
+    private int removePosition(Card card) {
+        if (positions == null) {
+            positions = new HashMap<>();
+            for (int i = 0; i < cards.size(); i++) {
+                positions.put(cards.get(i), i);
+            }
+        }
+
+        Integer position = positions.remove(card);
+        if (position == null || !Objects.equals(cards.get(position), card)) {
+            throw new CardNotFoundException();
+        }
+        return position;
+    }
+
+    private void ensureNotCommitted() {
+        if (isCommitted) {
+            throw new IllegalStateException("Transaction has already been committed.");
+        }
+    }
+}
@@ -4,13 +4,14 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.beans.Observable;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.util.Subscription;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.card.Answer;
 import seedu.knowitall.model.card.Card;
@@ -135,6 +136,13 @@ public interface Model extends Observable {
      */
     void renameFolder(int index, String newName);
 
+    /**
+     * Replaces the cards and scores of the folder at the given index with those of {@code cardFolder}, read again
+     * from the data file of the folder after another program changed it. The undo history of the folder is dropped.
+     * The folder must exist and must not have uncommitted edits.
+     */
+    void reloadFolder(int index, ReadOnlyCardFolder cardFolder);
+
     /**
      * Gets the index of the current active {@code CardFolder}.
      */
@@ -150,13 +158,32 @@ public interface Model extends Observable {
      */
     void exitFolderToHome();
 
-    /** Returns a copy of the filtered cards list */
-    List<FilteredList<Card>> getFilteredCardsList();
+    /**
+     * Adds {@code listener} to be notified of the changes made to the contents of any card folder in the model.
+     * Folders reloaded with {@link #reloadFolder(int, ReadOnlyCardFolder)} are not reported as changed.
+     *
+     * @return The subscription of the listener, to be cancelled once the listener is no longer needed.
+     */
+    Subscription addCardFolderChangeListener(Consumer<List<CardFolderChange>> listener);
+
+    /**
+     * Starts a batch of card folder changes, such as those made by a single command. The changes made until the
+     * matching {@link #endChangeBatch()} are delivered to the card folder change listeners together.
+     */
+    void beginChangeBatch();
 
-    /** Returns a copy of the active filtered cards */
+    /**
+     * Ends the current batch of card folder changes, delivering them if it is the outermost batch.
+     */
+    void endChangeBatch();
+
+    /** Returns an unmodifiable view of the filtered cards of each folder */
+    List<ObservableList<Card>> getFilteredCardsList();
+
+    /** Returns an unmodifiable view of the active filtered cards, the same one on every call for a folder */
     ObservableList<Card> getActiveFilteredCards();
 
-    /** Returns a copy of the filtered folders list */
+    /** Returns an unmodifiable view of the filtered folders list, the same one on every call */
     ObservableList<VersionedCardFolder> getFilteredFolders();
 
     /**
@@ -255,6 +282,15 @@ public interface Model extends Observable {
      */
     Card createScoredCard(Card cardToMark, boolean markCorrect);
 
+    /**
+     * Records an attempt at {@code cardToMark}, which must be in the active card folder, in its score, and commits
+     * the active card folder.
+     * Only the score of the card is replaced, so the attempt is undone as a single card edit.
+     *
+     * @param markCorrect Boolean representing if the attempt should be graded correct or wrong
+     */
+    void recordCardScore(Card cardToMark, boolean markCorrect);
+
     /**
      * Returns true if the index provided matches the answerIndex of the currently tested card,
      * false otherwise.
@@ -6,9 +6,12 @@ import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -23,8 +26,12 @@ import javafx.collections.transformation.FilteredList;
 import seedu.knowitall.commons.core.GuiSettings;
 import seedu.knowitall.commons.core.LogsCenter;
 import seedu.knowitall.commons.core.Messages;
+import seedu.knowitall.commons.core.UndoHistoryPolicy;
 import seedu.knowitall.commons.core.index.Index;
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.util.ChangeListenerManager;
 import seedu.knowitall.commons.util.InvalidationListenerManager;
+import seedu.knowitall.commons.util.Subscription;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.card.Answer;
 import seedu.knowitall.model.card.Card;
@@ -42,6 +49,8 @@ public class ModelManager implements Model {
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ChangeListenerManager<CardFolderChange> cardFolderChangeListenerManager =
+            new ChangeListenerManager<>();
 
     private final UserPrefs userPrefs;
 
@@ -53,7 +62,15 @@ public class ModelManager implements Model {
     // CardFolder related
     private ObservableList<VersionedCardFolder> folders;
     private final FilteredList<VersionedCardFolder> filteredFolders;
+    private final ObservableList<VersionedCardFolder> unmodifiableFilteredFolders;
     private final List<FilteredList<Card>> filteredCardsList;
+    /** Read-only views of {@code filteredCardsList}, created once per folder so that callers share them */
+    private final List<ObservableList<Card>> unmodifiableFilteredCardsList;
+    /** Subscriptions to the changes of each folder, which are passed on to the card folder change listeners */
+    private final List<Subscription> folderChangeSubscriptions;
+    private final CardFolderLoader cardFolderLoader; // null if every folder is loaded from the start
+    /** Folders loaded with {@code cardFolderLoader}, from the least to the most recently entered */
+    private final List<VersionedCardFolder> loadedFolders = new ArrayList<>();
     private int activeCardFolderIndex; // set to -1 when in home directory
 
     // Test Session related
@@ -78,24 +95,45 @@ public class ModelManager implements Model {
      * Initializes a ModelManager with the given {@code cardFolders} and {@code userPrefs}.
      */
     public ModelManager(List<ReadOnlyCardFolder> cardFolders, ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(cardFolders, userPrefs);
-
+        this(userPrefs, toVersionedCardFolders(requireNonNull(cardFolders)), null);
         logger.fine("Initializing with card folder: " + cardFolders + " and user prefs " + userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with card folders that are only known by their {@code cardFolderSummaries}, and
+     * {@code userPrefs}. The cards of a folder are loaded with {@code cardFolderLoader} when the folder is first
+     * entered.
+     */
+    public ModelManager(List<CardFolderSummary> cardFolderSummaries, CardFolderLoader cardFolderLoader,
+            ReadOnlyUserPrefs userPrefs) {
+        this(userPrefs, requireNonNull(cardFolderSummaries).stream()
+                .map(VersionedCardFolder::new)
+                .collect(Collectors.toList()), requireNonNull(cardFolderLoader));
+        logger.fine("Initializing with card folder summaries: " + cardFolderSummaries + " and user prefs "
+                + userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given {@code versionedCardFolders}, whose unloaded folders are loaded with
+     * {@code cardFolderLoader}.
+     */
+    private ModelManager(ReadOnlyUserPrefs userPrefs, List<VersionedCardFolder> versionedCardFolders,
+            CardFolderLoader cardFolderLoader) {
+        super();
+        requireNonNull(userPrefs);
 
-        List<VersionedCardFolder> versionedCardFolders = new ArrayList<>();
-        for (ReadOnlyCardFolder cardFolder : cardFolders) {
-            versionedCardFolders.add(new VersionedCardFolder(cardFolder));
-        }
         folders = FXCollections.observableArrayList(versionedCardFolders);
         filteredFolders = new FilteredList<>(folders);
+        unmodifiableFilteredFolders = FXCollections.unmodifiableObservableList(filteredFolders);
+        this.cardFolderLoader = cardFolderLoader;
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedCardFolders.forEach(folder -> folder.setHistoryBudget(this.userPrefs.getUndoHistoryBudget()));
 
         filteredCardsList = new ArrayList<>();
+        unmodifiableFilteredCardsList = new ArrayList<>();
+        folderChangeSubscriptions = new ArrayList<>();
         for (VersionedCardFolder filteredFolder : filteredFolders) {
-            FilteredList<Card> filteredCards = new FilteredList<>(filteredFolder.getCardList());
-            filteredCardsList.add(filteredCards);
-            filteredCards.addListener(this::ensureSelectedCardIsValid);
+            trackFolder(filteredFolder);
         }
 
 
@@ -111,12 +149,17 @@ public class ModelManager implements Model {
         this(cardFolders, new UserPrefs());
     }
 
+    private static List<VersionedCardFolder> toVersionedCardFolders(List<ReadOnlyCardFolder> cardFolders) {
+        return cardFolders.stream().map(VersionedCardFolder::new).collect(Collectors.toList());
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        folders.forEach(folder -> folder.setHistoryBudget(this.userPrefs.getUndoHistoryBudget()));
     }
 
     @Override
@@ -209,8 +252,12 @@ public class ModelManager implements Model {
     public void deleteFolder(int index) {
         assert(index < folders.size());
 
+        VersionedCardFolder deletedFolder = folders.get(index);
+        loadedFolders.removeIf(folder -> folder == deletedFolder);
         folders.remove(index);
         filteredCardsList.remove(index);
+        unmodifiableFilteredCardsList.remove(index);
+        folderChangeSubscriptions.remove(index).unsubscribe();
         indicateModified();
     }
 
@@ -222,25 +269,57 @@ public class ModelManager implements Model {
             throw new DuplicateCardFolderException();
         }
 
-        VersionedCardFolder versionedCardFolder = new VersionedCardFolder(cardFolder);
+        VersionedCardFolder versionedCardFolder =
+                new VersionedCardFolder(cardFolder, userPrefs.getUndoHistoryBudget());
         folders.add(versionedCardFolder);
-        FilteredList<Card> filteredCards = new FilteredList<>(versionedCardFolder.getCardList());
+        trackFolder(versionedCardFolder);
+        indicateModified();
+    }
+
+    /**
+     * Adds the filtered list of the cards in {@code folder} and its read-only view, and passes the changes of the
+     * folder on to the card folder change listeners, for a folder added to the end of {@code folders}.
+     */
+    private void trackFolder(VersionedCardFolder folder) {
+        FilteredList<Card> filteredCards = new FilteredList<>(folder.getCardList());
         filteredCardsList.add(filteredCards);
+        unmodifiableFilteredCardsList.add(FXCollections.unmodifiableObservableList(filteredCards));
         filteredCards.addListener(this::ensureSelectedCardIsValid);
-        indicateModified();
+        folderChangeSubscriptions.add(folder.addChangeListener(
+            changes -> changes.forEach(cardFolderChangeListenerManager::fireChange)));
     }
 
     @Override
     public void renameFolder(int index, String newName) {
+        // The data file of a renamed folder is rewritten with its cards
+        ensureLoaded(index);
         CardFolder folderToRename = folders.get(index);
         folderToRename.rename(newName);
         indicateModified();
     }
 
+    @Override
+    public void reloadFolder(int index, ReadOnlyCardFolder cardFolder) {
+        requireNonNull(cardFolder);
+        assert(index < folders.size());
+
+        VersionedCardFolder folderToReload = folders.get(index);
+        folderToReload.reloadData(cardFolder);
+        // Replacing the folder with itself lets views of the folder list show its new card count
+        folders.set(index, folderToReload);
+    }
+
     @Override
     public void enterFolder(int index) {
+        ensureLoaded(index);
         state = State.IN_FOLDER;
         activeCardFolderIndex = index;
+
+        VersionedCardFolder enteredFolder = folders.get(index);
+        if (loadedFolders.removeIf(folder -> folder == enteredFolder)) {
+            loadedFolders.add(enteredFolder);
+        }
+        unloadInactiveFoldersOverBudget();
     }
 
     @Override
@@ -260,6 +339,21 @@ public class ModelManager implements Model {
         invalidationListenerManager.removeListener(listener);
     }
 
+    @Override
+    public Subscription addCardFolderChangeListener(Consumer<List<CardFolderChange>> listener) {
+        return cardFolderChangeListenerManager.addListener(listener);
+    }
+
+    @Override
+    public void beginChangeBatch() {
+        cardFolderChangeListenerManager.beginBatch();
+    }
+
+    @Override
+    public void endChangeBatch() {
+        cardFolderChangeListenerManager.endBatch();
+    }
+
     @Override
     public int getActiveCardFolderIndex() {
         return activeCardFolderIndex;
@@ -272,6 +366,65 @@ public class ModelManager implements Model {
         return folders.get(activeCardFolderIndex);
     }
 
+    /**
+     * Loads the cards of the folder at {@code index} if they have not been loaded yet.
+     * @throws CardFolderNotLoadedException if the cards cannot be read.
+     */
+    private void ensureLoaded(int index) {
+        VersionedCardFolder folder = folders.get(index);
+        if (folder.isLoaded()) {
+            return;
+        }
+
+        assert cardFolderLoader != null;
+        logger.fine("Loading card folder: " + folder.getFolderName());
+        try {
+            folder.loadData(cardFolderLoader.loadCardFolder(index));
+        } catch (DataConversionException | IOException e) {
+            throw new CardFolderNotLoadedException(
+                    String.format(Messages.MESSAGE_FOLDER_NOT_LOADED, folder.getFolderName()), e);
+        }
+        loadedFolders.add(folder);
+    }
+
+    /**
+     * Unloads the least recently entered folders, other than the active folder, until the cards of the loaded
+     * inactive folders fit within the loaded card budget of the user prefs.
+     * Only folders that can be loaded again are unloaded, and only once their edits are committed. The undo history
+     * policy of the user prefs decides whether folders that can be undone or redone are unloaded, dropping their
+     * history.
+     */
+    private void unloadInactiveFoldersOverBudget() {
+        CardFolder activeFolder = activeCardFolderIndex >= 0 ? folders.get(activeCardFolderIndex) : null;
+        int loadedCardCount = loadedFolders.stream()
+                .filter(folder -> folder != activeFolder)
+                .mapToInt(CardFolder::countCards)
+                .sum();
+
+        Iterator<VersionedCardFolder> leastRecentlyEnteredFolders = loadedFolders.iterator();
+        while (loadedCardCount > userPrefs.getLoadedCardBudget() && leastRecentlyEnteredFolders.hasNext()) {
+            VersionedCardFolder folder = leastRecentlyEnteredFolders.next();
+            if (folder == activeFolder || !isUnloadable(folder)) {
+                continue;
+            }
+            logger.fine("Unloading card folder: " + folder.getFolderName());
+            loadedCardCount -= folder.countCards();
+            folder.unloadData();
+            leastRecentlyEnteredFolders.remove();
+        }
+    }
+
+    /**
+     * Returns true if {@code folder} can be unloaded without losing edits, or history that the undo history policy
+     * of the user prefs keeps.
+     */
+    private boolean isUnloadable(VersionedCardFolder folder) {
+        if (folder.hasUncommittedEdits()) {
+            return false;
+        }
+        return userPrefs.getUndoHistoryPolicy() == UndoHistoryPolicy.DROP || !(folder.canUndo() || folder.canRedo());
+    }
+
     /**
      * Notifies listeners that the list of card folders has been modified.
      */
@@ -282,22 +435,28 @@ public class ModelManager implements Model {
     //=========== Filtered Card List Accessors =============================================================
 
     @Override
-    public List<FilteredList<Card>> getFilteredCardsList() {
-        List<FilteredList<Card>> copy = new ArrayList<>();
-        for (FilteredList<Card> filteredList : filteredCardsList) {
-            copy.add(new FilteredList<>(filteredList));
-        }
-        return copy;
+    public List<ObservableList<Card>> getFilteredCardsList() {
+        return Collections.unmodifiableList(unmodifiableFilteredCardsList);
     }
 
     @Override
-    public FilteredList<Card> getActiveFilteredCards() {
-        return new FilteredList<>(filteredCardsList.get(activeCardFolderIndex));
+    public ObservableList<Card> getActiveFilteredCards() {
+        return unmodifiableFilteredCardsList.get(activeCardFolderIndex);
     }
 
     @Override
     public ObservableList<VersionedCardFolder> getFilteredFolders() {
-        return new FilteredList<>(filteredFolders);
+        return unmodifiableFilteredFolders;
+    }
+
+    /**
+     * Returns true if {@code card} is in the filtered list of the active card folder.
+     * This checks the card against the folder's card index and the list's predicate instead of scanning the list.
+     */
+    private boolean isInActiveFilteredCards(Card card) {
+        FilteredList<Card> filteredCards = filteredCardsList.get(activeCardFolderIndex);
+        Predicate<? super Card> predicate = filteredCards.getPredicate();
+        return getActiveVersionedCardFolder().hasExactCard(card) && (predicate == null || predicate.test(card));
     }
 
     @Override
@@ -369,6 +528,8 @@ public class ModelManager implements Model {
         }
 
         sortFilteredCard(COMPARATOR_ASC_SCORE_CARDS);
+        // Every card of the folder is tested, so all of them are shown for the whole session
+        updateFilteredCard(PREDICATE_SHOW_ALL_CARDS);
 
         currentTestedCardIndex = 0;
         Card cardToTest = currentTestedCardFolder.get(currentTestedCardIndex);
@@ -379,7 +540,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setCurrentTestedCard(Card card) {
-        if (card != null && !getActiveFilteredCards().contains(card)) {
+        if (card != null && !isInActiveFilteredCards(card)) {
             throw new CardNotFoundException();
         }
         currentTestedCard.setValue(card);
@@ -426,16 +587,23 @@ public class ModelManager implements Model {
 
     @Override
     public Card createScoredCard(Card cardToMark, boolean markCorrect) {
-        Score newScore;
-        if (markCorrect) {
-            newScore = new Score(cardToMark.getScore().correctAttempts + 1,
-                    cardToMark.getScore().totalAttempts + 1);
-        } else {
-            newScore = new Score(cardToMark.getScore().correctAttempts,
-                    cardToMark.getScore().totalAttempts + 1);
-        }
-        return new Card(cardToMark.getQuestion(), cardToMark.getAnswer(), newScore, cardToMark.getOptions(),
-                cardToMark.getHints());
+        return cardToMark.withScore(getScoreWithAttempt(cardToMark.getScore(), markCorrect));
+    }
+
+    @Override
+    public void recordCardScore(Card cardToMark, boolean markCorrect) {
+        requireNonNull(cardToMark);
+
+        VersionedCardFolder versionedCardFolder = getActiveVersionedCardFolder();
+        versionedCardFolder.setCardScore(cardToMark, getScoreWithAttempt(cardToMark.getScore(), markCorrect));
+        versionedCardFolder.commit();
+    }
+
+    /**
+     * Returns {@code score} with one more attempt, which is correct if {@code isCorrect}.
+     */
+    private static Score getScoreWithAttempt(Score score, boolean isCorrect) {
+        return new Score(isCorrect ? score.correctAttempts + 1 : score.correctAttempts, score.totalAttempts + 1);
     }
 
     @Override
@@ -478,7 +646,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setSelectedCard(Card card) {
-        if (card != null && !getActiveFilteredCards().contains(card)) {
+        if (card != null && !isInActiveFilteredCards(card)) {
             throw new CardNotFoundException();
         }
         selectedCard.setValue(card);
@@ -556,6 +724,7 @@ public class ModelManager implements Model {
         }
         List<ReadOnlyCardFolder> cardFolders = returnValidCardFolders(cardFolderExports);
         csvManager.writeFoldersToCsv(cardFolders);
+        unloadInactiveFoldersOverBudget();
     }
 
     @Override
@@ -601,6 +770,7 @@ public class ModelManager implements Model {
         List<Index> indexList = cardFolderExports.stream().map(Index::fromOneBased).collect(Collectors.toList());
         for (Index index : indexList) {
             try {
+                ensureLoaded(index.getZeroBased());
                 ReadOnlyCardFolder cardFolder = folders.get(index.getZeroBased());
                 readOnlyCardFolders.add(cardFolder);
             } catch (IndexOutOfBoundsException e) {
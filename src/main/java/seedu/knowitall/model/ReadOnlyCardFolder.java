@@ -1,6 +1,8 @@
 package seedu.knowitall.model;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import javafx.beans.Observable;
 import javafx.collections.ObservableList;
@@ -23,6 +25,18 @@ public interface ReadOnlyCardFolder extends Observable {
      */
     ObservableList<Card> getCardList();
 
+    /**
+     * Returns a copy of the cards list, which is not affected by later changes to the folder.
+     */
+    default List<Card> copyCardList() {
+        return new ArrayList<>(getCardList());
+    }
+
+    /**
+     * Returns the cards in the folder whose question contains {@code word}, ignoring case.
+     */
+    Set<Card> getCardsWithQuestionWord(String word);
+
     /**
      * Returns the name of the folder.
      */
@@ -39,4 +53,12 @@ public interface ReadOnlyCardFolder extends Observable {
      * equality is enforced via folder name.
      */
     boolean hasSameCards(ObservableList<Card> otherCardList);
+
+    /**
+     * Returns true if the cards of the folder have been loaded.
+     * The cards and folder scores of a folder that is not loaded are empty, and must not be saved over its data.
+     */
+    default boolean isLoaded() {
+        return true;
+    }
 }
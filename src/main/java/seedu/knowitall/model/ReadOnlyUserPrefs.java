@@ -2,7 +2,9 @@ package seedu.knowitall.model;
 
 import java.nio.file.Path;
 
+import seedu.knowitall.commons.core.DataFileFormat;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.core.UndoHistoryPolicy;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,28 @@ public interface ReadOnlyUserPrefs {
 
     Path getcardFolderFilesPath();
 
+    DataFileFormat getCardFolderFileFormat();
+
+    boolean isCardFolderFilePrettyPrinted();
+
+    long getMaxSaveLatencyMillis();
+
+    /**
+     * Returns the maximum number of cards kept in memory by loaded folders other than the active folder.
+     */
+    int getLoadedCardBudget();
+
+    UndoHistoryPolicy getUndoHistoryPolicy();
+
+    /**
+     * Returns the maximum number of card references retained by the undo history of each folder.
+     */
+    int getUndoHistoryBudget();
+
+    /**
+     * Returns how long the data directory must be free of further changes by other programs before the changed
+     * folders are reloaded.
+     */
+    long getReloadDebounceMillis();
+
 }
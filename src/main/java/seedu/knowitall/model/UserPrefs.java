@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.knowitall.commons.core.DataFileFormat;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.core.UndoHistoryPolicy;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path cardFolderFilesPath = Paths.get("data");
+    private DataFileFormat cardFolderFileFormat = DataFileFormat.JSON;
+    private boolean cardFolderFilePrettyPrinted = true;
+    private long maxSaveLatencyMillis = 100;
+    private int loadedCardBudget = 100_000;
+    private UndoHistoryPolicy undoHistoryPolicy = UndoHistoryPolicy.KEEP;
+    private int undoHistoryBudget = VersionedCardFolder.DEFAULT_HISTORY_BUDGET;
+    private long reloadDebounceMillis = 500;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +45,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setcardFolderFilesPath(newUserPrefs.getcardFolderFilesPath());
+        setCardFolderFileFormat(newUserPrefs.getCardFolderFileFormat());
+        setCardFolderFilePrettyPrinted(newUserPrefs.isCardFolderFilePrettyPrinted());
+        setMaxSaveLatencyMillis(newUserPrefs.getMaxSaveLatencyMillis());
+        setLoadedCardBudget(newUserPrefs.getLoadedCardBudget());
+        setUndoHistoryPolicy(newUserPrefs.getUndoHistoryPolicy());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
+        setReloadDebounceMillis(newUserPrefs.getReloadDebounceMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +72,64 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.cardFolderFilesPath = cardFolderFilesPath;
     }
 
+    public DataFileFormat getCardFolderFileFormat() {
+        return cardFolderFileFormat;
+    }
+
+    public void setCardFolderFileFormat(DataFileFormat cardFolderFileFormat) {
+        requireNonNull(cardFolderFileFormat);
+        this.cardFolderFileFormat = cardFolderFileFormat;
+    }
+
+    public boolean isCardFolderFilePrettyPrinted() {
+        return cardFolderFilePrettyPrinted;
+    }
+
+    public void setCardFolderFilePrettyPrinted(boolean cardFolderFilePrettyPrinted) {
+        this.cardFolderFilePrettyPrinted = cardFolderFilePrettyPrinted;
+    }
+
+    public long getMaxSaveLatencyMillis() {
+        return maxSaveLatencyMillis;
+    }
+
+    public void setMaxSaveLatencyMillis(long maxSaveLatencyMillis) {
+        this.maxSaveLatencyMillis = maxSaveLatencyMillis;
+    }
+
+    public int getLoadedCardBudget() {
+        return loadedCardBudget;
+    }
+
+    public void setLoadedCardBudget(int loadedCardBudget) {
+        this.loadedCardBudget = loadedCardBudget;
+    }
+
+    public UndoHistoryPolicy getUndoHistoryPolicy() {
+        return undoHistoryPolicy;
+    }
+
+    public void setUndoHistoryPolicy(UndoHistoryPolicy undoHistoryPolicy) {
+        requireNonNull(undoHistoryPolicy);
+        this.undoHistoryPolicy = undoHistoryPolicy;
+    }
+
+    public int getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    public void setUndoHistoryBudget(int undoHistoryBudget) {
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public long getReloadDebounceMillis() {
+        return reloadDebounceMillis;
+    }
+
+    public void setReloadDebounceMillis(long reloadDebounceMillis) {
+        this.reloadDebounceMillis = reloadDebounceMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +142,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && cardFolderFilesPath.equals(o.cardFolderFilesPath);
+                && cardFolderFilesPath.equals(o.cardFolderFilesPath)
+                && cardFolderFileFormat == o.cardFolderFileFormat
+                && cardFolderFilePrettyPrinted == o.cardFolderFilePrettyPrinted
+                && maxSaveLatencyMillis == o.maxSaveLatencyMillis
+                && loadedCardBudget == o.loadedCardBudget
+                && undoHistoryPolicy == o.undoHistoryPolicy
+                && undoHistoryBudget == o.undoHistoryBudget
+                && reloadDebounceMillis == o.reloadDebounceMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, cardFolderFilesPath);
+        return Objects.hash(guiSettings, cardFolderFilesPath, cardFolderFileFormat, cardFolderFilePrettyPrinted,
+                maxSaveLatencyMillis, loadedCardBudget, undoHistoryPolicy, undoHistoryBudget, reloadDebounceMillis);
     }
 
     @Override
@@ -81,6 +163,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + cardFolderFilesPath);
+        sb.append("\nLocal data file format : " + cardFolderFileFormat);
+        sb.append("\nLocal data files pretty printed : " + cardFolderFilePrettyPrinted);
+        sb.append("\nMaximum save latency (ms) : " + maxSaveLatencyMillis);
+        sb.append("\nLoaded card budget : " + loadedCardBudget);
+        sb.append("\nUndo history policy : " + undoHistoryPolicy);
+        sb.append("\nUndo history budget : " + undoHistoryBudget);
+        sb.append("\nReload debounce (ms) : " + reloadDebounceMillis);
         return sb.toString();
     }
 
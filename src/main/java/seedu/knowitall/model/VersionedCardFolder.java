@@ -1,37 +1,100 @@
 package seedu.knowitall.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+
+import seedu.knowitall.model.card.Card;
 
 /**
  * {@code CardFolder} that keeps track of its own history.
+ * Instead of copying the whole folder on every commit, each state is stored as the list of reversible edits
+ * that lead to it from the previous state, so a commit costs memory proportional to the cards changed.
  */
 public class VersionedCardFolder extends CardFolder {
 
-    private final List<ReadOnlyCardFolder> cardFolderStateList;
+    /** Default maximum number of card references retained by the history of a folder. */
+    public static final int DEFAULT_HISTORY_BUDGET = 1_000_000;
+
+    private final List<List<Edit>> cardFolderEditList = new ArrayList<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+    private int historyBudget;
+    private int historyWeight;
     private int currentStatePointer;
+    private boolean isReplaying;
 
     public VersionedCardFolder(ReadOnlyCardFolder initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_HISTORY_BUDGET);
+    }
+
+    /**
+     * Creates a {@code VersionedCardFolder} whose history retains at most {@code historyBudget} card references.
+     * The oldest states are discarded once the budget is exceeded.
+     */
+    public VersionedCardFolder(ReadOnlyCardFolder initialState, int historyBudget) {
+        super(initialState.getFolderName());
+        setCards(initialState.getCardList());
+        setFolderScores(new ArrayList<>(initialState.getFolderScores()));
+
+        // The initial state is the base of the history, not an edit that can be undone.
+        pendingEdits.clear();
+        this.historyBudget = historyBudget;
+        currentStatePointer = 0;
+    }
 
-        cardFolderStateList = new ArrayList<>();
-        cardFolderStateList.add(new CardFolder(initialState));
+    /**
+     * Creates a {@code VersionedCardFolder} whose cards are not loaded yet, from the {@code summary} of its data.
+     * The loaded cards become the initial state of the history.
+     */
+    public VersionedCardFolder(CardFolderSummary summary) {
+        super(summary);
+        historyBudget = DEFAULT_HISTORY_BUDGET;
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code CardFolder} state at the end of the state list.
+     * Sets the maximum number of card references retained by the history of the folder to {@code historyBudget},
+     * discarding the oldest states if the history no longer fits.
+     */
+    public void setHistoryBudget(int historyBudget) {
+        this.historyBudget = historyBudget;
+        discardStatesOverBudget();
+    }
+
+    /**
+     * Saves the edits made since the last commit as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        cardFolderStateList.add(new CardFolder(this));
+        cardFolderEditList.add(pendingEdits);
+        historyWeight += weightOf(pendingEdits);
+        pendingEdits = new ArrayList<>();
         currentStatePointer++;
+        discardStatesOverBudget();
         indicateModified();
     }
 
+    /**
+     * Removes undone states, releasing their share of the history budget.
+     */
     private void removeStatesAfterCurrentPointer() {
-        cardFolderStateList.subList(currentStatePointer + 1, cardFolderStateList.size()).clear();
+        List<List<Edit>> statesAfterPointer =
+                cardFolderEditList.subList(currentStatePointer, cardFolderEditList.size());
+        statesAfterPointer.forEach(edits -> historyWeight -= weightOf(edits));
+        statesAfterPointer.clear();
+    }
+
+    /**
+     * Discards the oldest states until the history fits within {@code historyBudget}.
+     */
+    private void discardStatesOverBudget() {
+        while (historyWeight > historyBudget && currentStatePointer > 0) {
+            historyWeight -= weightOf(cardFolderEditList.remove(0));
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -41,8 +104,16 @@ public class VersionedCardFolder extends CardFolder {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(cardFolderStateList.get(currentStatePointer));
+        // The edits are replayed as one batch, so listeners are notified once
+        beginChangeBatch();
+        try {
+            revertPendingEdits();
+            currentStatePointer--;
+            revert(cardFolderEditList.get(currentStatePointer));
+            indicateModified();
+        } finally {
+            endChangeBatch();
+        }
     }
 
     /**
@@ -52,8 +123,52 @@ public class VersionedCardFolder extends CardFolder {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(cardFolderStateList.get(currentStatePointer));
+        beginChangeBatch();
+        try {
+            revertPendingEdits();
+            apply(cardFolderEditList.get(currentStatePointer));
+            currentStatePointer++;
+            indicateModified();
+        } finally {
+            endChangeBatch();
+        }
+    }
+
+    /**
+     * Returns true if the folder has edits that have not been committed.
+     */
+    public boolean hasUncommittedEdits() {
+        return !pendingEdits.isEmpty();
+    }
+
+    /**
+     * Drops the history of the folder along with its cards. The cards loaded next become the initial state of a new
+     * history.
+     */
+    @Override
+    void unloadData() {
+        assert !hasUncommittedEdits();
+
+        super.unloadData();
+        clearHistory();
+    }
+
+    /**
+     * Drops the history of the folder, as its states do not lead to the reloaded cards. The reloaded cards become
+     * the initial state of a new history.
+     */
+    @Override
+    void reloadData(ReadOnlyCardFolder data) {
+        assert !hasUncommittedEdits();
+
+        super.reloadData(data);
+        clearHistory();
+    }
+
+    private void clearHistory() {
+        cardFolderEditList.clear();
+        historyWeight = 0;
+        currentStatePointer = 0;
     }
 
     /**
@@ -67,7 +182,111 @@ public class VersionedCardFolder extends CardFolder {
      * Returns true if {@code redo()} has card folder states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < cardFolderStateList.size() - 1;
+        return currentStatePointer < cardFolderEditList.size();
+    }
+
+    /**
+     * Discards edits that have not been committed, returning the folder to the current state.
+     */
+    private void revertPendingEdits() {
+        revert(pendingEdits);
+        pendingEdits.clear();
+    }
+
+    /**
+     * Applies {@code edits} in order without recording them.
+     */
+    private void apply(List<Edit> edits) {
+        isReplaying = true;
+        try {
+            edits.forEach(edit -> edit.apply(this));
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Reverts {@code edits} in reverse order without recording them.
+     */
+    private void revert(List<Edit> edits) {
+        isReplaying = true;
+        try {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                edits.get(i).revert(this);
+            }
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Records {@code edit} as part of the next state, unless the edit is caused by an undo or redo
+     * or does not change the folder.
+     */
+    private void record(Edit edit) {
+        if (!isReplaying && !edit.isNoOp()) {
+            pendingEdits.add(edit);
+        }
+    }
+
+    private static int weightOf(List<Edit> edits) {
+        return edits.stream().mapToInt(Edit::weight).sum();
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setCards(List<Card> cards) {
+        List<Card> previousCards = new ArrayList<>(getCardList());
+        super.setCards(cards);
+        record(new CardsReplaced(previousCards, new ArrayList<>(getCardList())));
+    }
+
+    @Override
+    public void addCard(Card card) {
+        super.addCard(card);
+        record(new CardAdded(getStoredCard(card)));
+    }
+
+    @Override
+    public void setCard(Card target, Card editedCard) {
+        Card storedTarget = getStoredCard(target);
+        super.setCard(target, editedCard);
+        record(new CardEdited(storedTarget, getStoredCard(editedCard)));
+    }
+
+    @Override
+    public void removeCard(Card key) {
+        int index = indexOf(key);
+        Card storedKey = getStoredCard(key);
+        super.removeCard(key);
+        record(new CardRemoved(index, storedKey));
+    }
+
+    @Override
+    public void sortCards(Comparator<Card> comparator) {
+        List<Card> previousCards = new ArrayList<>(getCardList());
+        super.sortCards(comparator);
+
+        int[] newPositions = new int[previousCards.size()];
+        for (int i = 0; i < newPositions.length; i++) {
+            newPositions[i] = indexOf(previousCards.get(i));
+        }
+        record(new CardsSorted(newPositions));
+    }
+
+    @Override
+    public void addFolderScore(Double folderScore) {
+        List<Double> previousScores = new ArrayList<>(getFolderScores());
+        super.addFolderScore(folderScore);
+        record(new FolderScoresReplaced(previousScores, new ArrayList<>(getFolderScores())));
+    }
+
+    @Override
+    public void setFolderScores(List<Double> folderScores) {
+        List<Double> previousScores = new ArrayList<>(getFolderScores());
+        super.setFolderScores(folderScores);
+        record(new FolderScoresReplaced(previousScores, new ArrayList<>(folderScores)));
     }
 
     @Override
@@ -84,17 +303,9 @@ public class VersionedCardFolder extends CardFolder {
 
         VersionedCardFolder otherVersionedCardFolder = (VersionedCardFolder) other;
 
-        // check past states have same folder name and cards
-        for (int i = 0; i < cardFolderStateList.size(); i++) {
-            ReadOnlyCardFolder state = cardFolderStateList.get(i);
-            ReadOnlyCardFolder otherState = otherVersionedCardFolder.cardFolderStateList.get(i);
-            if (!state.equals(otherState) || !state.hasSameCards(otherState.getCardList())) {
-                return false;
-            }
-        }
-
-        // present state check
-        return super.equals(otherVersionedCardFolder)
+        // check past states were reached through the same edits, and present state check
+        return cardFolderEditList.equals(otherVersionedCardFolder.cardFolderEditList)
+                && super.equals(otherVersionedCardFolder)
                 && hasSameCards(otherVersionedCardFolder.getCardList())
                 && currentStatePointer == otherVersionedCardFolder.currentStatePointer;
     }
@@ -103,8 +314,304 @@ public class VersionedCardFolder extends CardFolder {
      * Checks whether the latest version of this card folder has the same folder name as {@code other}
      */
     public boolean hasSameFolderName(String name) {
-        ReadOnlyCardFolder currentState = cardFolderStateList.get(cardFolderStateList.size() - 1);
-        return currentState.getFolderName().equals(name);
+        return getFolderName().equals(name);
+    }
+
+    /**
+     * A reversible change to a {@code VersionedCardFolder}.
+     */
+    private interface Edit {
+        void apply(VersionedCardFolder cardFolder);
+
+        void revert(VersionedCardFolder cardFolder);
+
+        /**
+         * Returns true if applying this edit leaves the folder unchanged.
+         */
+        default boolean isNoOp() {
+            return false;
+        }
+
+        /**
+         * Returns the number of card references held by this edit.
+         */
+        int weight();
+    }
+
+    /**
+     * A card appended to the end of the folder.
+     */
+    private static class CardAdded implements Edit {
+        private final Card card;
+
+        CardAdded(Card card) {
+            this.card = card;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            cardFolder.addCard(card);
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            cardFolder.removeCard(card);
+        }
+
+        @Override
+        public int weight() {
+            return 1;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardAdded && card.equals(((CardAdded) other).card));
+        }
+
+        @Override
+        public int hashCode() {
+            return card.hashCode();
+        }
+    }
+
+    /**
+     * A card removed from position {@code index} of the folder.
+     */
+    private static class CardRemoved implements Edit {
+        private final int index;
+        private final Card card;
+
+        CardRemoved(int index, Card card) {
+            this.index = index;
+            this.card = card;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            cardFolder.removeCard(card);
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            cardFolder.addCard(index, card);
+        }
+
+        @Override
+        public int weight() {
+            return 1;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardRemoved
+                    && index == ((CardRemoved) other).index
+                    && card.equals(((CardRemoved) other).card));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, card);
+        }
+    }
+
+    /**
+     * A card replaced in place by an edited card.
+     */
+    private static class CardEdited implements Edit {
+        private final Card target;
+        private final Card editedCard;
+
+        CardEdited(Card target, Card editedCard) {
+            this.target = target;
+            this.editedCard = editedCard;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            cardFolder.setCard(target, editedCard);
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            cardFolder.setCard(editedCard, target);
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return target.equals(editedCard);
+        }
+
+        @Override
+        public int weight() {
+            return 2;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardEdited
+                    && target.equals(((CardEdited) other).target)
+                    && editedCard.equals(((CardEdited) other).editedCard));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedCard);
+        }
+    }
+
+    /**
+     * The whole list of cards replaced, e.g. by a reset.
+     */
+    private static class CardsReplaced implements Edit {
+        private final List<Card> previousCards;
+        private final List<Card> cards;
+
+        CardsReplaced(List<Card> previousCards, List<Card> cards) {
+            this.previousCards = previousCards;
+            this.cards = cards;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            cardFolder.setCards(cards);
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            cardFolder.setCards(previousCards);
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return previousCards.equals(cards);
+        }
+
+        @Override
+        public int weight() {
+            return previousCards.size() + cards.size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardsReplaced
+                    && previousCards.equals(((CardsReplaced) other).previousCards)
+                    && cards.equals(((CardsReplaced) other).cards));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(previousCards, cards);
+        }
+    }
+
+    /**
+     * The cards reordered by a sort, kept as the permutation of their positions rather than as the sorted cards.
+     */
+    private static class CardsSorted implements Edit {
+        /** New position of the card at each position before the sort */
+        private final int[] newPositions;
+
+        CardsSorted(int[] newPositions) {
+            this.newPositions = newPositions;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            List<Card> cards = cardFolder.getCardList();
+            Card[] sortedCards = new Card[cards.size()];
+            for (int i = 0; i < newPositions.length; i++) {
+                sortedCards[newPositions[i]] = cards.get(i);
+            }
+            cardFolder.setCards(Arrays.asList(sortedCards));
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            List<Card> cards = cardFolder.getCardList();
+            Card[] previousCards = new Card[cards.size()];
+            for (int i = 0; i < newPositions.length; i++) {
+                previousCards[i] = cards.get(newPositions[i]);
+            }
+            cardFolder.setCards(Arrays.asList(previousCards));
+        }
+
+        @Override
+        public boolean isNoOp() {
+            for (int i = 0; i < newPositions.length; i++) {
+                if (newPositions[i] != i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int weight() {
+            // A position takes as much memory as a compressed card reference
+            return newPositions.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CardsSorted
+                    && Arrays.equals(newPositions, ((CardsSorted) other).newPositions));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(newPositions);
+        }
+    }
+
+    /**
+     * The folder scores replaced, e.g. at the end of a test session.
+     */
+    private static class FolderScoresReplaced implements Edit {
+        private final List<Double> previousScores;
+        private final List<Double> scores;
+
+        FolderScoresReplaced(List<Double> previousScores, List<Double> scores) {
+            this.previousScores = previousScores;
+            this.scores = scores;
+        }
+
+        @Override
+        public void apply(VersionedCardFolder cardFolder) {
+            cardFolder.setFolderScores(new ArrayList<>(scores));
+        }
+
+        @Override
+        public void revert(VersionedCardFolder cardFolder) {
+            cardFolder.setFolderScores(new ArrayList<>(previousScores));
+        }
+
+        @Override
+        public boolean isNoOp() {
+            return previousScores.equals(scores);
+        }
+
+        @Override
+        public int weight() {
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof FolderScoresReplaced
+                    && previousScores.equals(((FolderScoresReplaced) other).previousScores)
+                    && scores.equals(((FolderScoresReplaced) other).scores));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(previousScores, scores);
+        }
     }
 
     /**
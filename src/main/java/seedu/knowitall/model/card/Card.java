@@ -1,5 +1,6 @@
 package seedu.knowitall.model.card;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
@@ -14,8 +15,14 @@ import seedu.knowitall.model.hint.Hint;
 /**
  * Represents a Card in the card folder.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * A card in a folder has an id that stays the same when the card is edited or scored, and is persisted with it.
+ * The id is assigned by the folder when the card is added, and is not part of the card's equality.
  */
 public class Card {
+    /** Id of a card that has not been added to a folder yet */
+    public static final long UNASSIGNED_ID = 0;
+
     public static final int MAX_QUESTIONS = 1;
     public static final int MAX_ANSWERS = 1;
     public static final int MAX_HINTS = 1;
@@ -37,20 +44,30 @@ public class Card {
 
     // Data fields
     private final Score score;
-    private final Set<Option> options = new HashSet<>();
-    private final Set<Hint> hints = new HashSet<>();
+    private final Set<Option> options;
+    private final Set<Hint> hints;
     private CardType type;
+    private final long id;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The card has no id until it is added to a folder.
      */
     public Card(Question question, Answer answer, Score score, Set<Option> options, Set<Hint> hints) {
+        this(question, answer, score, options, hints, UNASSIGNED_ID);
+    }
+
+    /**
+     * Creates a card with the given {@code id}, such as an edited version of a card in a folder.
+     * Every field must be present and not null.
+     */
+    public Card(Question question, Answer answer, Score score, Set<Option> options, Set<Hint> hints, long id) {
         requireAllNonNull(question, answer, score, options, hints);
+        this.id = id;
         this.question = question;
         this.answer = answer;
         this.score = score;
-        this.options.addAll(options);
-        this.hints.addAll(hints);
+        this.options = new HashSet<>(options);
+        this.hints = new HashSet<>(hints);
 
         this.completeOptions = new ArrayList<>();
         options.forEach(option -> completeOptions.add(option.optionValue));
@@ -64,6 +81,49 @@ public class Card {
         }
     }
 
+    /**
+     * Creates a copy of {@code source} with the given {@code score}.
+     * Cards are immutable apart from the order of their MCQ options, so the option and hint sets are shared with
+     * {@code source} rather than copied, and the options keep their current order.
+     */
+    private Card(Card source, Score score) {
+        id = source.id;
+        question = source.question;
+        answer = source.answer;
+        this.score = score;
+        options = source.options;
+        hints = source.hints;
+        completeOptions = new ArrayList<>(source.completeOptions);
+        answerIndex = source.answerIndex;
+        type = source.type;
+    }
+
+    /**
+     * Returns the id of the card, or {@link #UNASSIGNED_ID} if it has not been added to a folder.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this card with the given {@code id}.
+     */
+    public Card withId(long id) {
+        return new Card(question, answer, score, options, hints, id);
+    }
+
+    /**
+     * Returns a copy of this card, with the same id, with the given {@code score}.
+     */
+    public Card withScore(Score score) {
+        requireNonNull(score);
+        return new Card(this, score);
+    }
+
     public Question getQuestion() {
         return question;
     }
@@ -135,7 +195,7 @@ public class Card {
 
     /**
      * Returns true if both cards have the same identity and data fields.
-     * This defines a stronger notion of equality between two cards.
+     * This defines a stronger notion of equality between two cards. Their ids are not compared.
      */
     @Override
     public boolean equals(Object other) {
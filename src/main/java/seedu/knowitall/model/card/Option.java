@@ -3,6 +3,8 @@ package seedu.knowitall.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Card's incorrect Option, if any, in the card folder.
  * Guarantees: immutable; is valid as declared in {@link #isValidOption(String)}
@@ -13,6 +15,7 @@ public class Option {
     public static final String MESSAGE_CONSTRAINTS = "Options can take any values, should not be blank, and should"
             + " be less than " + MAX_LENGTH + " characters";
     public static final String VALIDATION_INDEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_INDEX);
 
     public final String optionValue;
 
@@ -30,7 +33,7 @@ public class Option {
      * Returns true if a given string is a valid option value.
      */
     public static boolean isValidOption(String test) {
-        return test.matches(VALIDATION_INDEX) && test.length() <= MAX_LENGTH;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= MAX_LENGTH;
     }
 
     @Override
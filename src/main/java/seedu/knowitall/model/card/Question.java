@@ -3,6 +3,8 @@ package seedu.knowitall.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Card's question in the card folder.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuestion(String)}
@@ -17,6 +19,7 @@ public class Question implements Comparable<Question> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullQuestion;
 
@@ -35,7 +38,7 @@ public class Question implements Comparable<Question> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidQuestion(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= MAX_LENGTH;
     }
 
 
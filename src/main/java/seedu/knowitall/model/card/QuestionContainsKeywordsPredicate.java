@@ -1,9 +1,12 @@
 package seedu.knowitall.model.card;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.knowitall.commons.util.StringUtil;
+import seedu.knowitall.model.ReadOnlyCardFolder;
 
 /**
  * Tests that a {@code Card}'s {@code Question} matches any of the keywords given.
@@ -21,6 +24,16 @@ public class QuestionContainsKeywordsPredicate implements Predicate<Card> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(card.getQuestion().fullQuestion, keyword));
     }
 
+    /**
+     * Returns a predicate that accepts the same cards of {@code cardFolder} as this one, but looks keywords up in
+     * the folder's index of question words instead of splitting every question.
+     */
+    public Predicate<Card> indexedBy(ReadOnlyCardFolder cardFolder) {
+        requireNonNull(cardFolder);
+        return card -> keywords.stream()
+                .anyMatch(keyword -> cardFolder.getCardsWithQuestionWord(keyword).contains(card));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,12 +3,20 @@ package seedu.knowitall.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.knowitall.commons.util.StringUtil;
 import seedu.knowitall.model.card.exceptions.CardNotFoundException;
 import seedu.knowitall.model.card.exceptions.DuplicateCardException;
 
@@ -19,22 +27,78 @@ import seedu.knowitall.model.card.exceptions.DuplicateCardException;
  * unique in terms of identity in the UniqueCardList. However, the removal of a card uses Card#equals(Object) so
  * as to ensure that the card with exactly the same fields will be removed.
  *
+ * The cards in the list are also kept in a hash index by their identity, so that membership and duplicate
+ * checks do not need to scan the list. Every card in the list has an id that is unique within the list, and the
+ * position of each card is kept by its id, so that a card is edited or removed without scanning the list for it.
+ * The words of every question are kept in an inverted index, so that the cards whose question contains a given word
+ * can be found without scanning the list either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Card#isSameCard(Card)
  */
 public class UniqueCardList implements Iterable<Card> {
 
-    private final ObservableList<Card> internalList = FXCollections.observableArrayList();
+    /** The list wrapped by {@code internalList}, which is copied without going through the observable list */
+    private final List<Card> backingList = new ArrayList<>();
+    private final ObservableList<Card> internalList = FXCollections.observableList(backingList);
     private final ObservableList<Card> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<CardIdentity, Card> identityIndex = new HashMap<>();
+    private final Map<String, Set<Card>> questionWordIndex = new HashMap<>();
+    /** Position in {@code internalList} of the card with each id */
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent card as the given argument.
      */
     public boolean contains(Card toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCard);
+        return identityIndex.containsKey(new CardIdentity(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a card with exactly the same fields as the given argument.
+     */
+    public boolean containsExact(Card toCheck) {
+        return indexOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the card in the list with exactly the same fields as {@code toFind}, which carries the id assigned to
+     * it by the list, or null if there is no such card.
+     * A card taken from the list is found by its id. Cards that have not been added to the list yet are found by
+     * their identity instead.
+     */
+    public Card getStoredCard(Card toFind) {
+        int index = indexOf(toFind);
+        return index == -1 ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the position in the list of the card with exactly the same fields as {@code toFind}, or -1 if there is
+     * no such card. The card is found by its id, or by its identity if it has no id, rather than by scanning the list.
+     */
+    public int indexOf(Card toFind) {
+        requireNonNull(toFind);
+
+        Integer position = positions.get(toFind.getId());
+        if (position == null || !toFind.equals(internalList.get(position))) {
+            Card storedCard = identityIndex.get(new CardIdentity(toFind));
+            position = toFind.equals(storedCard) ? positions.get(storedCard.getId()) : null;
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Returns the cards in the list whose question contains {@code word}, ignoring case.
+     * Words are matched as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public Set<Card> getCardsWithQuestionWord(String word) {
+        requireNonNull(word);
+        Set<Card> cards = questionWordIndex.get(StringUtil.toSearchWord(word));
+        return cards == null ? Collections.emptySet() : Collections.unmodifiableSet(cards);
     }
 
     /**
@@ -45,35 +109,56 @@ public class UniqueCardList implements Iterable<Card> {
     }
 
     /**
-     * Adds a card to the list.
+     * Adds a card to the list, assigning it an id if it does not have one yet.
      * The card must not already exist in the list.
      */
     public void add(Card toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a card into the list at position {@code index}, assigning it an id if it does not have one yet.
+     * The card must not already exist in the list.
+     */
+    public void add(int index, Card toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateCardException();
         }
-        internalList.add(toAdd);
+
+        Card cardToAdd = withUnusedId(toAdd);
+        identityIndex.put(new CardIdentity(cardToAdd), cardToAdd);
+        indexQuestionWords(cardToAdd);
+        internalList.add(index, cardToAdd);
+        updatePositions(index);
     }
 
     /**
-     * Replaces the card {@code target} in the list with {@code editedCard}.
+     * Replaces the card {@code target} in the list with {@code editedCard}, which keeps the id of {@code target}.
      * {@code target} must exist in the list.
      * The card identity of {@code editedCard} must not be the same as another existing card in the list.
      */
     public void setCard(Card target, Card editedCard) {
         requireAllNonNull(target, editedCard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new CardNotFoundException();
         }
+        Card storedTarget = internalList.get(index);
 
         if (!target.isSameCard(editedCard) && contains(editedCard)) {
             throw new DuplicateCardException();
         }
 
-        internalList.set(index, editedCard);
+        Card storedEditedCard = editedCard.getId() == storedTarget.getId()
+                ? editedCard
+                : editedCard.withId(storedTarget.getId());
+        identityIndex.remove(new CardIdentity(storedTarget));
+        identityIndex.put(new CardIdentity(storedEditedCard), storedEditedCard);
+        unindexQuestionWords(storedTarget);
+        indexQuestionWords(storedEditedCard);
+        internalList.set(index, storedEditedCard);
     }
 
     /**
@@ -82,27 +167,71 @@ public class UniqueCardList implements Iterable<Card> {
      */
     public void remove(Card toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CardNotFoundException();
         }
+
+        Card storedCard = internalList.remove(index);
+        identityIndex.remove(new CardIdentity(storedCard));
+        unindexQuestionWords(storedCard);
+        positions.remove(storedCard.getId());
+        updatePositions(index);
     }
 
     public void setCards(UniqueCardList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        questionWordIndex.clear();
+        replacement.questionWordIndex.forEach((word, cards) -> questionWordIndex.put(word, new HashSet<>(cards)));
+        positions.clear();
+        positions.putAll(replacement.positions);
+        nextId = Math.max(nextId, replacement.nextId);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code cards}.
+     * Cards keep their ids, except those without an id or whose id is already taken by an earlier card, which are
+     * assigned new ids.
      * {@code cards} must not contain duplicate cards.
      */
     public void setCards(List<Card> cards) {
         requireAllNonNull(cards);
-        if (!cardsAreUnique(cards)) {
-            throw new DuplicateCardException();
+        Map<CardIdentity, Card> replacementIndex = new HashMap<>();
+        Map<Long, Integer> replacementPositions = new HashMap<>();
+        long replacementNextId = nextId;
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            if (replacementIndex.put(new CardIdentity(card), card) != null) {
+                throw new DuplicateCardException();
+            }
+            if (card.hasId() && replacementPositions.putIfAbsent(card.getId(), i) == null) {
+                replacementNextId = Math.max(replacementNextId, card.getId() + 1);
+            }
         }
 
-        internalList.setAll(cards);
+        List<Card> replacementCards = new ArrayList<>(cards);
+        for (int i = 0; i < replacementCards.size(); i++) {
+            Card card = replacementCards.get(i);
+            if (!card.hasId() || replacementPositions.get(card.getId()) != i) {
+                Card cardWithId = card.withId(replacementNextId++);
+                replacementCards.set(i, cardWithId);
+                replacementIndex.put(new CardIdentity(cardWithId), cardWithId);
+                replacementPositions.put(cardWithId.getId(), i);
+            }
+        }
+
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        questionWordIndex.clear();
+        replacementCards.forEach(this::indexQuestionWords);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        nextId = replacementNextId;
+        internalList.setAll(replacementCards);
     }
 
     /**
@@ -112,6 +241,7 @@ public class UniqueCardList implements Iterable<Card> {
     public void sortCards(Comparator<Card> comparator) {
         requireNonNull(comparator);
         FXCollections.sort(internalList, comparator);
+        updatePositions(0);
     }
 
     /**
@@ -121,6 +251,55 @@ public class UniqueCardList implements Iterable<Card> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a copy of the list, which is not affected by later changes to it.
+     * The cards are copied in one array copy, rather than one by one through the observable list.
+     */
+    public List<Card> copyList() {
+        return new ArrayList<>(backingList);
+    }
+
+    /**
+     * Returns {@code card} if its id is not taken by another card in the list, or a copy of it with a new id.
+     */
+    private Card withUnusedId(Card card) {
+        if (card.hasId() && !positions.containsKey(card.getId())) {
+            nextId = Math.max(nextId, card.getId() + 1);
+            return card;
+        }
+        return card.withId(nextId++);
+    }
+
+    /**
+     * Records the positions of the cards from {@code start} to the end of the list, which have moved.
+     */
+    private void updatePositions(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Adds {@code card} to the inverted index under every word of its question.
+     */
+    private void indexQuestionWords(Card card) {
+        for (String word : StringUtil.getSearchWords(card.getQuestion().fullQuestion)) {
+            questionWordIndex.computeIfAbsent(word, unused -> new HashSet<>()).add(card);
+        }
+    }
+
+    /**
+     * Removes {@code card} from the inverted index, dropping words that no longer belong to any card.
+     */
+    private void unindexQuestionWords(Card card) {
+        for (String word : StringUtil.getSearchWords(card.getQuestion().fullQuestion)) {
+            Set<Card> cards = questionWordIndex.get(word);
+            if (cards != null && cards.remove(card) && cards.isEmpty()) {
+                questionWordIndex.remove(word);
+            }
+        }
+    }
+
     @Override
     public Iterator<Card> iterator() {
         return internalList.iterator();
@@ -139,16 +318,28 @@ public class UniqueCardList implements Iterable<Card> {
     }
 
     /**
-     * Returns true if {@code cards} contains only unique cards.
+     * Hashable key of a {@code Card}, equal for two cards exactly when {@code Card#isSameCard(Card)} holds.
      */
-    private boolean cardsAreUnique(List<Card> cards) {
-        for (int i = 0; i < cards.size() - 1; i++) {
-            for (int j = i + 1; j < cards.size(); j++) {
-                if (cards.get(i).isSameCard(cards.get(j))) {
-                    return false;
-                }
-            }
+    private static class CardIdentity {
+        private final Question question;
+        private final Answer answer;
+
+        CardIdentity(Card card) {
+            question = card.getQuestion();
+            answer = card.getAnswer();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof CardIdentity // instanceof handles nulls
+                    && question.equals(((CardIdentity) other).question)
+                    && answer.equals(((CardIdentity) other).answer));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(question, answer);
         }
-        return true;
     }
 }
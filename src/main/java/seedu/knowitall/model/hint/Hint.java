@@ -3,6 +3,8 @@ package seedu.knowitall.model.hint;
 import static java.util.Objects.requireNonNull;
 import static seedu.knowitall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Hint in the card folder.
  * Guarantees: immutable; is valid as declared in {@link #isValidHintName(String)}
@@ -13,6 +15,7 @@ public class Hint {
     public static final String MESSAGE_CONSTRAINTS = "Answers can take any values, should not be blank, and should"
             + " be less than " + MAX_LENGTH + " characters";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String hintName;
 
@@ -31,7 +34,7 @@ public class Hint {
      * Returns true if a given string is a valid hint name.
      */
     public static boolean isValidHintName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= MAX_LENGTH;
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderTransaction;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.card.Answer;
 import seedu.knowitall.model.card.Card;
@@ -36,10 +37,11 @@ public class SampleDataUtil {
 
     public static ReadOnlyCardFolder getSampleCardFolder() {
         CardFolder sampleAb = new CardFolder(getSampleFolderName());
-        sampleAb.setFolderScores(getSampleFolderScore());
+        CardFolderTransaction transaction = sampleAb.beginTransaction().setFolderScores(getSampleFolderScore());
         for (Card sampleCard : getSampleCards()) {
-            sampleAb.addCard(sampleCard);
+            transaction.addCard(sampleCard);
         }
+        transaction.commit();
         return sampleAb;
     }
 
@@ -47,10 +49,6 @@ public class SampleDataUtil {
         return "Sample Folder";
     }
 
-    public static String getSampleFolderFileName() {
-        return "Sample Folder.json";
-    }
-
     public static List<Double> getSampleFolderScore() {
         return new ArrayList<>(Arrays.asList(0.5, 0.6, 0.7));
     }
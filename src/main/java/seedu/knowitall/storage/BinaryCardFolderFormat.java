@@ -0,0 +1,390 @@
+package seedu.knowitall.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Answer;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.Option;
+import seedu.knowitall.model.card.Question;
+import seedu.knowitall.model.card.Score;
+import seedu.knowitall.model.card.exceptions.DuplicateCardException;
+import seedu.knowitall.model.hint.Hint;
+
+/**
+ * Encodes card folders in a compact binary format, and decodes them back.
+ * <p>
+ * A file starts with {@link #MAGIC} and a format version, followed by a table of every distinct string in the
+ * folder, so that options and hints shared by many cards are stored once. The folder name, folder scores and cards
+ * follow. Every card is prefixed with its length, so that readers skip fields added by later versions.
+ * All counts, lengths, string indexes and card scores are unsigned varints; folder scores are 8 byte doubles.
+ * Card ids were added at the end of the card records, so cards written before them have no id and are given one
+ * when they are added to the folder.
+ */
+final class BinaryCardFolderFormat {
+
+    /** Bytes that every binary card folder file starts with */
+    static final byte[] MAGIC = {'K', 'I', 'A', 'F'};
+    static final int CURRENT_VERSION = 1;
+
+    static final String MESSAGE_INVALID_MAGIC = "Not a binary card folder file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary card folder version: %1$d";
+    static final String MESSAGE_TRUNCATED = "Binary card folder file ends unexpectedly.";
+    static final String MESSAGE_INVALID_VARINT = "Invalid number in binary card folder file.";
+    static final String MESSAGE_INVALID_STRING_INDEX = "Invalid string reference in binary card folder file.";
+
+    private static final int VARINT_DATA_BITS = 7;
+    private static final int VARINT_DATA_MASK = 0x7f;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private BinaryCardFolderFormat() {}
+
+    /**
+     * Returns true if {@code header} starts with {@link #MAGIC}.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+    }
+
+    /**
+     * Writes {@code cardFolder} to {@code out} in the current version of the format.
+     */
+    static void write(ReadOnlyCardFolder cardFolder, OutputStream out) throws IOException {
+        Map<String, Integer> stringTable = buildStringTable(cardFolder);
+
+        out.write(MAGIC);
+        writeVarint(out, CURRENT_VERSION);
+
+        writeVarint(out, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+
+        writeVarint(out, stringTable.get(cardFolder.getFolderName()));
+
+        List<Double> folderScores = cardFolder.getFolderScores();
+        writeVarint(out, folderScores.size());
+        ByteBuffer doubleBuffer = ByteBuffer.allocate(Double.BYTES);
+        for (double folderScore : folderScores) {
+            doubleBuffer.clear();
+            out.write(doubleBuffer.putDouble(folderScore).array());
+        }
+
+        List<Card> cards = cardFolder.getCardList();
+        writeVarint(out, cards.size());
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        for (Card card : cards) {
+            record.reset();
+            writeCard(card, stringTable, record);
+            writeVarint(out, record.size());
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Returns the distinct strings of {@code cardFolder}, each mapped to its index in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(ReadOnlyCardFolder cardFolder) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        addString(stringTable, cardFolder.getFolderName());
+        for (Card card : cardFolder.getCardList()) {
+            addString(stringTable, card.getQuestion().fullQuestion);
+            addString(stringTable, card.getAnswer().fullAnswer);
+            card.getOptions().forEach(option -> addString(stringTable, option.optionValue));
+            card.getHints().forEach(hint -> addString(stringTable, hint.hintName));
+        }
+        return stringTable;
+    }
+
+    private static void addString(Map<String, Integer> stringTable, String string) {
+        stringTable.putIfAbsent(string, stringTable.size());
+    }
+
+    /**
+     * Writes the fields of {@code card} to {@code out}, with its strings as indexes into {@code stringTable}.
+     */
+    private static void writeCard(Card card, Map<String, Integer> stringTable, OutputStream out) throws IOException {
+        writeVarint(out, stringTable.get(card.getQuestion().fullQuestion));
+        writeVarint(out, stringTable.get(card.getAnswer().fullAnswer));
+        writeVarint(out, card.getScore().correctAttempts);
+        writeVarint(out, card.getScore().totalAttempts);
+
+        writeVarint(out, card.getOptions().size());
+        for (Option option : card.getOptions()) {
+            writeVarint(out, stringTable.get(option.optionValue));
+        }
+        writeVarint(out, card.getHints().size());
+        for (Hint hint : card.getHints()) {
+            writeVarint(out, stringTable.get(hint.hintName));
+        }
+        writeVarlong(out, card.getId());
+    }
+
+    /**
+     * Reads a card folder from the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the bytes are not a valid card folder in a supported version of the format.
+     */
+    static CardFolder read(ByteBuffer buffer) throws IllegalValueException {
+        return read(buffer, false);
+    }
+
+    /**
+     * Reads a card folder from the remaining bytes of {@code buffer}.
+     * If {@code isTrusted}, the bytes were written by this application from a valid folder, so the values of the
+     * cards are not checked against the model's constraints before the cards are built.
+     *
+     * @throws IllegalValueException if the bytes are not a valid card folder in a supported version of the format.
+     */
+    static CardFolder read(ByteBuffer buffer, boolean isTrusted) throws IllegalValueException {
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_INVALID_MAGIC);
+            }
+            int version = readVarint(buffer);
+            if (version > CURRENT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] stringTable = new String[readVarint(buffer)];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString(buffer);
+            }
+
+            CardFolder cardFolder = new CardFolder(getString(stringTable, readVarint(buffer)));
+
+            int folderScoreCount = readVarint(buffer);
+            List<Double> folderScores = new ArrayList<>(Math.min(folderScoreCount, buffer.remaining()));
+            for (int i = 0; i < folderScoreCount; i++) {
+                folderScores.add(buffer.getDouble());
+            }
+            cardFolder.setFolderScores(folderScores);
+
+            int cardCount = readVarint(buffer);
+            List<Card> cards = new ArrayList<>(Math.min(cardCount, buffer.remaining()));
+            for (int i = 0; i < cardCount; i++) {
+                int recordLength = readVarint(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                if (recordLength > buffer.remaining()) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED);
+                }
+                cards.add(isTrusted
+                        ? readTrustedCard(buffer, stringTable, recordEnd)
+                        : readCard(buffer, stringTable, recordEnd));
+                if (buffer.position() > recordEnd) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED);
+                }
+                buffer.position(recordEnd);
+            }
+
+            try {
+                cardFolder.setCards(cards);
+            } catch (DuplicateCardException e) {
+                throw new IllegalValueException(JsonSerializableCardFolder.MESSAGE_DUPLICATE_CARD);
+            }
+            return cardFolder;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Reads the fields of a card from {@code buffer}, resolving its strings in {@code stringTable}.
+     * The record of the card ends at {@code recordEnd}.
+     *
+     * @throws IllegalValueException if any of the card's values violate the model's constraints.
+     */
+    private static Card readCard(ByteBuffer buffer, String[] stringTable, int recordEnd)
+            throws IllegalValueException {
+        String question = getString(stringTable, readVarint(buffer));
+        if (!Question.isValidQuestion(question)) {
+            throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+        }
+        String answer = getString(stringTable, readVarint(buffer));
+        if (!Answer.isValidAnswer(answer)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+        int correctAttempts = readVarint(buffer);
+        int totalAttempts = readVarint(buffer);
+        if (!Score.isValidScore(correctAttempts, totalAttempts)) {
+            throw new IllegalValueException(Score.MESSAGE_CONSTRAINTS);
+        }
+
+        int optionCount = readVarint(buffer);
+        Set<Option> options = new HashSet<>();
+        for (int i = 0; i < optionCount; i++) {
+            String option = getString(stringTable, readVarint(buffer));
+            if (!Option.isValidOption(option)) {
+                throw new IllegalValueException(Option.MESSAGE_CONSTRAINTS);
+            }
+            options.add(new Option(option));
+        }
+        int hintCount = readVarint(buffer);
+        Set<Hint> hints = new HashSet<>();
+        for (int i = 0; i < hintCount; i++) {
+            String hint = getString(stringTable, readVarint(buffer));
+            if (!Hint.isValidHintName(hint)) {
+                throw new IllegalValueException(Hint.MESSAGE_CONSTRAINTS);
+            }
+            hints.add(new Hint(hint));
+        }
+
+        return new Card(new Question(question), new Answer(answer), new Score(correctAttempts, totalAttempts),
+                options, hints, readId(buffer, recordEnd));
+    }
+
+    /**
+     * Reads the fields of a card from {@code buffer} like {@link #readCard(ByteBuffer, String[], int)}, leaving the
+     * checks of the card's values to the model's constructors.
+     */
+    private static Card readTrustedCard(ByteBuffer buffer, String[] stringTable, int recordEnd)
+            throws IllegalValueException {
+        Question question = new Question(getString(stringTable, readVarint(buffer)));
+        Answer answer = new Answer(getString(stringTable, readVarint(buffer)));
+        Score score = new Score(readVarint(buffer), readVarint(buffer));
+
+        int optionCount = readVarint(buffer);
+        Set<Option> options = new HashSet<>();
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new Option(getString(stringTable, readVarint(buffer))));
+        }
+        int hintCount = readVarint(buffer);
+        Set<Hint> hints = new HashSet<>();
+        for (int i = 0; i < hintCount; i++) {
+            hints.add(new Hint(getString(stringTable, readVarint(buffer))));
+        }
+
+        return new Card(question, answer, score, options, hints, readId(buffer, recordEnd));
+    }
+
+    /**
+     * Reads the id at the end of a card record from {@code buffer}, or returns {@link Card#UNASSIGNED_ID} if the
+     * record, which ends at {@code recordEnd}, was written without one.
+     */
+    private static long readId(ByteBuffer buffer, int recordEnd) throws IllegalValueException {
+        return buffer.position() < recordEnd ? readVarlong(buffer) : Card.UNASSIGNED_ID;
+    }
+
+    private static String getString(String[] stringTable, int index) throws IllegalValueException {
+        if (index >= stringTable.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+        }
+        return stringTable[index];
+    }
+
+    /**
+     * Writes {@code string} to {@code out} as a length-prefixed UTF-8 string.
+     */
+    static void writeString(OutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from {@code buffer}.
+     */
+    static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    /**
+     * Writes the non-negative {@code value} to {@code out} in 7 bit groups, least significant group first, with the
+     * high bit of each byte set if more bytes follow.
+     */
+    static void writeVarint(OutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~VARINT_DATA_MASK) != 0) {
+            out.write((remaining & VARINT_DATA_MASK) | VARINT_CONTINUATION_BIT);
+            remaining >>>= VARINT_DATA_BITS;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Reads a non-negative varint written by {@link #writeVarint(OutputStream, int)} from {@code buffer}.
+     *
+     * @throws IllegalValueException if the varint does not fit in a non-negative int.
+     */
+    static int readVarint(ByteBuffer buffer) throws IllegalValueException {
+        int value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            int b = buffer.get() & 0xff;
+            value |= (b & VARINT_DATA_MASK) << (i * VARINT_DATA_BITS);
+            if ((b & VARINT_CONTINUATION_BIT) == 0) {
+                if (value < 0) {
+                    throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+    }
+
+    /**
+     * Writes the non-negative {@code value} to {@code out} like {@link #writeVarint(OutputStream, int)}.
+     */
+    static void writeVarlong(OutputStream out, long value) throws IOException {
+        assert value >= 0;
+        long remaining = value;
+        while ((remaining & ~VARINT_DATA_MASK) != 0) {
+            out.write((int) (remaining & VARINT_DATA_MASK) | VARINT_CONTINUATION_BIT);
+            remaining >>>= VARINT_DATA_BITS;
+        }
+        out.write((int) remaining);
+    }
+
+    /**
+     * Reads a non-negative varint written by {@link #writeVarlong(OutputStream, long)} from {@code buffer}.
+     *
+     * @throws IllegalValueException if the varint does not fit in a non-negative long.
+     */
+    static long readVarlong(ByteBuffer buffer) throws IllegalValueException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARLONG_BYTES; i++) {
+            int b = buffer.get() & 0xff;
+            value |= (long) (b & VARINT_DATA_MASK) << (i * VARINT_DATA_BITS);
+            if ((b & VARINT_CONTINUATION_BIT) == 0) {
+                if (value < 0) {
+                    throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * A class to access CardFolder data stored in the compact binary format of {@link BinaryCardFolderFormat} on the
+ * hard disk.
+ */
+public class BinaryCardFolderStorage implements CardFolderStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCardFolderStorage.class);
+
+    private final Path filePath;
+
+    public BinaryCardFolderStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if provided {@code filePath} is a file that can be read as a {@code BinaryCardFolderStorage}.
+     * Only the magic bytes at the start of the file are inspected; the rest is validated when the folder is read.
+     */
+    public static boolean isCardFolderStorage(Path filePath) {
+        if (!FileUtil.isFileExists(filePath) || FileUtil.isTempFile(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = new byte[BinaryCardFolderFormat.MAGIC.length];
+            int read = 0;
+            int count;
+            while (read < header.length && (count = in.read(header, read, header.length - read)) != -1) {
+                read += count;
+            }
+            return read == header.length && BinaryCardFolderFormat.hasMagic(header);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public Path getcardFolderFilesPath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCardFolder> readCardFolder() throws DataConversionException, IOException {
+        return readCardFolder(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCardFolder()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyCardFolder> readCardFolder(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("File not found at " + filePath);
+            throw new IOException();
+        }
+
+        try {
+            return Optional.of(BinaryCardFolderFormat.read(FileUtil.readToBuffer(filePath)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException {
+        return saveCardFolder(cardFolder, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCardFolder(ReadOnlyCardFolder)}.
+     * A failed save leaves the previous file intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
+        requireNonNull(cardFolder);
+        requireNonNull(filePath);
+
+        return AtomicFileWriter.write(filePath, out -> BinaryCardFolderFormat.write(cardFolder, out));
+    }
+
+    @Override
+    public void deleteCardFolder(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        FileUtil.deleteFile(filePath);
+    }
+
+}
@@ -0,0 +1,157 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.commons.util.JsonUtil;
+import seedu.knowitall.model.CardFolderSummary;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * A catalog of the card folder data files in a directory, kept in a small json file next to them.
+ * Each entry holds the name, card count and last folder score of a folder, so that the list of folders can be shown
+ * without reading the data files. An entry is trusted only while its data file has not been modified since the entry
+ * was written.
+ */
+public class CardFolderCatalog {
+
+    /** Name of the catalog file. Folder names cannot start with a dot, so it never clashes with a data file. */
+    public static final String CATALOG_FILE_NAME = ".catalog.json";
+
+    private static final Logger logger = LogsCenter.getLogger(CardFolderCatalog.class);
+
+    private final Path directory;
+    private final Path catalogFilePath;
+    /** Entries by the path of their data file relative to {@code directory}, in the order they were added */
+    private final Map<String, JsonAdaptedCardFolderCatalogEntry> entries = new LinkedHashMap<>();
+    private boolean isModified = false;
+
+    /**
+     * Creates an empty catalog of the data files in {@code directory}.
+     */
+    public CardFolderCatalog(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory.toAbsolutePath().normalize();
+        catalogFilePath = this.directory.resolve(CATALOG_FILE_NAME);
+    }
+
+    public Path getCatalogFilePath() {
+        return catalogFilePath;
+    }
+
+    /**
+     * Replaces the entries of this catalog with those in the catalog file, if there is one.
+     * A catalog file that cannot be read is ignored, so that every folder is read from its data file.
+     */
+    public void read() {
+        entries.clear();
+        isModified = false;
+        try {
+            Optional<JsonSerializableCardFolderCatalog> catalog =
+                    JsonUtil.readJsonFile(catalogFilePath, JsonSerializableCardFolderCatalog.class);
+            catalog.ifPresent(jsonCatalog -> jsonCatalog.getFolders().stream()
+                    .filter(entry -> entry.getFileName() != null)
+                    .forEach(entry -> entries.put(entry.getFileName(), entry)));
+        } catch (DataConversionException e) {
+            logger.warning("Catalog file " + catalogFilePath + " is not in the correct format, ignoring it: " + e);
+        }
+    }
+
+    /**
+     * Returns the summary of the folder in the data file at {@code dataFilePath}, or an empty Optional if the
+     * catalog has no up to date entry for it.
+     * The entry is out of date if the data file, or the journal kept next to it, has been modified since the entry
+     * was written.
+     */
+    public Optional<CardFolderSummary> getSummary(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+
+        JsonAdaptedCardFolderCatalogEntry entry = entries.get(getFileName(dataFilePath));
+        if (entry == null || !FileUtil.isFileExists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Path journalFilePath = JournalCardFolderStorage.getJournalFilePath(dataFilePath);
+            if (isModifiedAfter(dataFilePath, entry.getLastModified())
+                    || (FileUtil.isFileExists(journalFilePath)
+                    && isModifiedAfter(journalFilePath, entry.getLastModified()))) {
+                return Optional.empty();
+            }
+            return Optional.of(entry.toModelType());
+        } catch (IOException | IllegalValueException e) {
+            logger.fine("Ignoring catalog entry of " + dataFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records {@code cardFolder} as the folder just saved to the data file at {@code dataFilePath}.
+     */
+    public void update(Path dataFilePath, ReadOnlyCardFolder cardFolder) {
+        requireNonNull(dataFilePath);
+        requireNonNull(cardFolder);
+
+        String fileName = getFileName(dataFilePath);
+        entries.put(fileName, new JsonAdaptedCardFolderCatalogEntry(cardFolder, fileName,
+                System.currentTimeMillis()));
+        isModified = true;
+    }
+
+    /**
+     * Removes the entry of the data file at {@code dataFilePath}, if there is one.
+     */
+    public void remove(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+
+        isModified |= entries.remove(getFileName(dataFilePath)) != null;
+    }
+
+    /**
+     * Removes the entries of data files other than {@code dataFilePaths}.
+     */
+    public void retainAll(Collection<Path> dataFilePaths) {
+        requireNonNull(dataFilePaths);
+
+        Set<String> fileNames = dataFilePaths.stream().map(this::getFileName).collect(Collectors.toSet());
+        isModified |= entries.keySet().retainAll(fileNames);
+    }
+
+    /**
+     * Writes the catalog file if any entry changed since it was last read or written.
+     * The file is replaced atomically, together with the data files written before it if they are written in the
+     * same {@link seedu.knowitall.commons.util.AtomicFileWriter.Batch}.
+     */
+    public void save() throws IOException {
+        if (!isModified) {
+            return;
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableCardFolderCatalog(entries.values()), catalogFilePath);
+        isModified = false;
+    }
+
+    /**
+     * Returns the path of {@code dataFilePath} relative to the directory of this catalog, as stored in its entry.
+     */
+    private String getFileName(Path dataFilePath) {
+        return directory.relativize(dataFilePath.toAbsolutePath().normalize()).toString();
+    }
+
+    private static boolean isModifiedAfter(Path filePath, long time) throws IOException {
+        return Files.getLastModifiedTime(filePath).toMillis() > time;
+    }
+}
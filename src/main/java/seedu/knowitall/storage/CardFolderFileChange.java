@@ -0,0 +1,102 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * A change to the list of card folders, found by re-reading a data file that another program changed.
+ * Guarantees: immutable.
+ */
+public class CardFolderFileChange {
+
+    /**
+     * The ways in which another program can change a data file.
+     */
+    public enum Kind {
+        /** A data file of a folder not in the list was created */
+        ADDED,
+        /** The data file of a folder in the list was modified */
+        MODIFIED,
+        /** The data file of a folder in the list was deleted */
+        DELETED
+    }
+
+    private final Kind kind;
+    private final int index; // -1 for added folders
+    private final ReadOnlyCardFolder cardFolder; // null for deleted folders
+
+    private CardFolderFileChange(Kind kind, int index, ReadOnlyCardFolder cardFolder) {
+        this.kind = kind;
+        this.index = index;
+        this.cardFolder = cardFolder;
+    }
+
+    /**
+     * Returns the change of a new data file holding {@code cardFolder}, which belongs at the end of the list.
+     */
+    public static CardFolderFileChange added(ReadOnlyCardFolder cardFolder) {
+        requireNonNull(cardFolder);
+        return new CardFolderFileChange(Kind.ADDED, -1, cardFolder);
+    }
+
+    /**
+     * Returns the change of the data file of the folder at {@code index}, which now holds {@code cardFolder}.
+     */
+    public static CardFolderFileChange modified(int index, ReadOnlyCardFolder cardFolder) {
+        requireNonNull(cardFolder);
+        assert index >= 0;
+        return new CardFolderFileChange(Kind.MODIFIED, index, cardFolder);
+    }
+
+    /**
+     * Returns the change of the data file of the folder at {@code index} having been deleted.
+     */
+    public static CardFolderFileChange deleted(int index) {
+        assert index >= 0;
+        return new CardFolderFileChange(Kind.DELETED, index, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the index of the changed folder in the list of card folders. Only modified and deleted folders have an
+     * index.
+     */
+    public int getIndex() {
+        assert kind != Kind.ADDED;
+        return index;
+    }
+
+    /**
+     * Returns the folder now in the data file. Only added and modified folders have one.
+     */
+    public ReadOnlyCardFolder getCardFolder() {
+        assert kind != Kind.DELETED;
+        return cardFolder;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CardFolderFileChange // instanceof handles nulls
+                && kind == ((CardFolderFileChange) other).kind
+                && index == ((CardFolderFileChange) other).index
+                && Objects.equals(cardFolder, ((CardFolderFileChange) other).cardFolder));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, index, cardFolder);
+    }
+
+    @Override
+    public String toString() {
+        return kind + (kind == Kind.ADDED ? "" : " folder " + index)
+                + (cardFolder == null ? "" : ": " + cardFolder.getFolderName());
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * A snapshot of the validated card folders in the data files of a directory, kept in a single binary file next to
+ * them, so that folders whose data files are unchanged are read without parsing and validating their data files.
+ * <p>
+ * Each folder is stored in the format of {@link BinaryCardFolderFormat}, together with a fingerprint of its data
+ * file and journal: their total size and latest modification time. A folder is taken from the snapshot only while
+ * the fingerprint of its files is unchanged, so the files are not read to check it.
+ * <p>
+ * Recording a folder only fingerprints its files and keeps an {@link ImmutableCardFolder} copy of it, which shares
+ * the cards of the folder. Folders are only encoded when the snapshot file is written as a whole with
+ * {@link #save()}, after which the entries are read back from that file.
+ */
+public class CardFolderSnapshot {
+
+    /** Name of the snapshot file. Folder names cannot start with a dot, so it never clashes with a data file. */
+    public static final String SNAPSHOT_FILE_NAME = ".snapshot.bin";
+
+    /** Bytes that the snapshot file starts with */
+    static final byte[] MAGIC = {'K', 'I', 'A', 'S'};
+    static final int CURRENT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(CardFolderSnapshot.class);
+
+    private final Path directory;
+    private final Path snapshotFilePath;
+    /** Entries by the path of their data file relative to {@code directory}, in the order they were added */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private boolean isModified = false;
+
+    /**
+     * Creates an empty snapshot of the data files in {@code directory}.
+     */
+    public CardFolderSnapshot(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory.toAbsolutePath().normalize();
+        snapshotFilePath = this.directory.resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    /**
+     * Replaces the entries of this snapshot with those in the snapshot file, if there is one.
+     * The folders of the entries are only decoded when they are taken from the snapshot. A snapshot file that cannot
+     * be read is ignored, so that every folder is read from its data file.
+     */
+    public synchronized void read() {
+        entries.clear();
+        isModified = false;
+        if (!FileUtil.isFileExists(snapshotFilePath)) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = FileUtil.readToBuffer(snapshotFilePath);
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || BinaryCardFolderFormat.readVarint(buffer) != CURRENT_VERSION) {
+                throw new IllegalValueException("Not a card folder snapshot of the current version.");
+            }
+
+            int entryCount = BinaryCardFolderFormat.readVarint(buffer);
+            for (int i = 0; i < entryCount; i++) {
+                String fileName = BinaryCardFolderFormat.readString(buffer);
+                Fingerprint fingerprint = new Fingerprint(buffer.getLong(), buffer.getLong());
+                int payloadLength = BinaryCardFolderFormat.readVarint(buffer);
+                if (payloadLength > buffer.remaining()) {
+                    throw new IllegalValueException(BinaryCardFolderFormat.MESSAGE_TRUNCATED);
+                }
+                ByteBuffer payload = buffer.slice();
+                payload.limit(payloadLength);
+                buffer.position(buffer.position() + payloadLength);
+                entries.put(fileName, new Entry(fingerprint, payload, null));
+            }
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            logger.warning("Snapshot file " + snapshotFilePath + " cannot be read, ignoring it: " + e);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the folder in the data file at {@code dataFilePath}, or an empty Optional if the snapshot has no up to
+     * date entry for it.
+     */
+    public Optional<ReadOnlyCardFolder> getCardFolder(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+
+        return getUpToDateEntry(dataFilePath).flatMap(entry -> {
+            if (entry.cardFolder != null) {
+                return Optional.of(new CardFolder(entry.cardFolder));
+            }
+            try {
+                return Optional.of(BinaryCardFolderFormat.read(entry.payload.duplicate(), true));
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                logger.fine("Ignoring snapshot entry of " + dataFilePath + ": " + e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Returns true if the snapshot has an up to date entry for the data file at {@code dataFilePath}, that is, the
+     * data file holds the folder last recorded for it by this application.
+     */
+    public boolean isUpToDate(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+
+        return getUpToDateEntry(dataFilePath).isPresent();
+    }
+
+    /**
+     * Returns the entry of the data file at {@code dataFilePath}, or an empty Optional if there is none, or the data
+     * file or the journal kept next to it has changed since the entry was recorded.
+     */
+    private Optional<Entry> getUpToDateEntry(Path dataFilePath) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(getFileName(dataFilePath));
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return entry.fingerprint.matches(dataFilePath) ? Optional.of(entry) : Optional.empty();
+        } catch (IOException e) {
+            logger.fine("Ignoring snapshot entry of " + dataFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records {@code cardFolder} as the folder in the data file at {@code dataFilePath}, as that file is now.
+     * The folder is only encoded when the snapshot is saved. If the data file cannot be fingerprinted, its entry is
+     * removed instead.
+     */
+    public void update(Path dataFilePath, ReadOnlyCardFolder cardFolder) {
+        requireNonNull(dataFilePath);
+        requireNonNull(cardFolder);
+
+        Entry entry;
+        try {
+            entry = new Entry(Fingerprint.of(dataFilePath), null, ImmutableCardFolder.of(cardFolder));
+        } catch (IOException e) {
+            logger.fine("Could not snapshot " + dataFilePath + ": " + e);
+            remove(dataFilePath);
+            return;
+        }
+
+        synchronized (this) {
+            entries.put(getFileName(dataFilePath), entry);
+            isModified = true;
+        }
+    }
+
+    /**
+     * Removes the entry of the data file at {@code dataFilePath}, if there is one.
+     */
+    public synchronized void remove(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+
+        isModified |= entries.remove(getFileName(dataFilePath)) != null;
+    }
+
+    /**
+     * Removes the entries of data files other than {@code dataFilePaths}.
+     */
+    public synchronized void retainAll(Collection<Path> dataFilePaths) {
+        requireNonNull(dataFilePaths);
+
+        Set<String> fileNames = dataFilePaths.stream().map(this::getFileName).collect(Collectors.toSet());
+        isModified |= entries.keySet().retainAll(fileNames);
+    }
+
+    /**
+     * Writes the snapshot file if any entry changed since it was last read or written, encoding the folders recorded
+     * since then, and reads the entries back from the written file so that the folders are no longer kept in memory.
+     * A failed write leaves the previous snapshot file intact.
+     */
+    public synchronized void save() throws IOException {
+        if (!isModified) {
+            return;
+        }
+        AtomicFileWriter.write(snapshotFilePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.write(MAGIC);
+            BinaryCardFolderFormat.writeVarint(dataOut, CURRENT_VERSION);
+            BinaryCardFolderFormat.writeVarint(dataOut, entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                BinaryCardFolderFormat.writeString(dataOut, entry.getKey());
+                Fingerprint fingerprint = entry.getValue().fingerprint;
+                dataOut.writeLong(fingerprint.size);
+                dataOut.writeLong(fingerprint.lastModified);
+                ByteBuffer payload = entry.getValue().getPayload();
+                BinaryCardFolderFormat.writeVarint(dataOut, payload.remaining());
+                dataOut.flush();
+                Channels.newChannel(out).write(payload);
+            }
+            dataOut.flush();
+        });
+        AtomicFileWriter.whenCommitted(this::read);
+    }
+
+    /**
+     * Returns the path of {@code dataFilePath} relative to the directory of this snapshot, as stored in its entry.
+     */
+    private String getFileName(Path dataFilePath) {
+        return directory.relativize(dataFilePath.toAbsolutePath().normalize()).toString();
+    }
+
+    /**
+     * A folder of the snapshot, either encoded in the format of {@link BinaryCardFolderFormat} as read from the
+     * snapshot file, or as recorded since the snapshot file was last written.
+     */
+    private static class Entry {
+        private final Fingerprint fingerprint;
+        private final ByteBuffer payload; // null for recorded folders
+        private final ReadOnlyCardFolder cardFolder; // null for folders read from the snapshot file
+
+        Entry(Fingerprint fingerprint, ByteBuffer payload, ReadOnlyCardFolder cardFolder) {
+            this.fingerprint = fingerprint;
+            this.payload = payload;
+            this.cardFolder = cardFolder;
+        }
+
+        /**
+         * Returns the folder of this entry encoded in the format of {@link BinaryCardFolderFormat}.
+         */
+        ByteBuffer getPayload() throws IOException {
+            if (payload != null) {
+                return payload.duplicate();
+            }
+            ByteArrayOutputStream encodedFolder = new ByteArrayOutputStream();
+            BinaryCardFolderFormat.write(cardFolder, encodedFolder);
+            return ByteBuffer.wrap(encodedFolder.toByteArray());
+        }
+    }
+
+    /**
+     * The total size and latest modification time of the data file of a folder and the journal kept next to it.
+     * A data file rewritten by another program keeps its fingerprint only if it keeps its size and is modified
+     * within the resolution of the modification times of the file system, which is nanoseconds on most of them.
+     */
+    private static class Fingerprint {
+        private final long size;
+        private final long lastModified;
+
+        Fingerprint(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Returns the fingerprint of the data file at {@code dataFilePath} and its journal, without reading them.
+         * @throws IOException if the data file does not exist.
+         */
+        static Fingerprint of(Path dataFilePath) throws IOException {
+            long size = 0;
+            long lastModified = 0;
+            for (Path filePath : getFilePaths(dataFilePath)) {
+                size += Files.size(filePath);
+                lastModified = Math.max(lastModified,
+                        Files.getLastModifiedTime(filePath).to(TimeUnit.NANOSECONDS));
+            }
+            return new Fingerprint(size, lastModified);
+        }
+
+        /**
+         * Returns true if the data file at {@code dataFilePath} and its journal still have this fingerprint.
+         */
+        boolean matches(Path dataFilePath) throws IOException {
+            Fingerprint current = of(dataFilePath);
+            return current.size == size && current.lastModified == lastModified;
+        }
+
+        /**
+         * Returns the data file at {@code dataFilePath}, followed by its journal if it has one.
+         * @throws IOException if the data file does not exist.
+         */
+        private static Collection<Path> getFilePaths(Path dataFilePath) throws IOException {
+            if (!FileUtil.isFileExists(dataFilePath)) {
+                throw new IOException("Data file not found: " + dataFilePath);
+            }
+            Path journalFilePath = JournalCardFolderStorage.getJournalFilePath(dataFilePath);
+            return FileUtil.isFileExists(journalFilePath)
+                    ? Arrays.asList(dataFilePath, journalFilePath)
+                    : Arrays.asList(dataFilePath);
+        }
+    }
+}
@@ -34,14 +34,15 @@ public interface CardFolderStorage {
     /**
      * Saves the given {@link ReadOnlyCardFolder} to the storage.
      * @param cardFolder cannot be null.
+     * @return the number of bytes written to the data files of the folder by this save.
      * @throws IOException if there was any problem writing to the file.
      */
-    void saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException;
+    long saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException;
 
     /**
      * @see #saveCardFolder(ReadOnlyCardFolder)
      */
-    void saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException;
+    long saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException;
 
     /**
      * Deletes the CardFolder at the {@code filePath}.
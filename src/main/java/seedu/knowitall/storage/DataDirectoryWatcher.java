@@ -0,0 +1,145 @@
+package seedu.knowitall.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.util.FileUtil;
+
+/**
+ * Watches a card folder data directory for data files changed by other programs, such as a tool that syncs the
+ * directory between machines.
+ * Changes are debounced: the changed data files are passed to the change handler together, once the directory has
+ * been free of further changes for the debounce delay, so that a file written in several steps is reported once.
+ * Only files directly within the directory are watched. The files written by this application are reported too;
+ * {@link Storage#readChangedCardFolders(java.util.Collection)} leaves out those that it wrote itself.
+ */
+public class DataDirectoryWatcher implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(DataDirectoryWatcher.class);
+
+    private final Path directory;
+    private final long debounceMillis;
+    private final Consumer<Set<Path>> changeHandler;
+    private final WatchService watchService;
+    private final Thread watcherThread;
+
+    /**
+     * Creates a watcher of {@code directory}, creating the directory if it does not exist yet.
+     * The watcher passes the paths of changed data files to {@code changeHandler} on its own thread, once it is
+     * started.
+     */
+    public DataDirectoryWatcher(Path directory, long debounceMillis, Consumer<Set<Path>> changeHandler)
+            throws IOException {
+        requireNonNull(directory);
+        requireNonNull(changeHandler);
+
+        this.directory = directory.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.changeHandler = changeHandler;
+        Files.createDirectories(this.directory);
+        watchService = this.directory.getFileSystem().newWatchService();
+        this.directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        watcherThread = new Thread(this::watch, "data-directory-watcher");
+        watcherThread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the directory.
+     */
+    public void start() {
+        watcherThread.start();
+    }
+
+    /**
+     * Stops watching the directory. Changes that are still being debounced are not reported.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Collects the data files changed by each batch of events, and reports them once no event has arrived for the
+     * debounce delay.
+     */
+    private void watch() {
+        Set<Path> changedFilePaths = new LinkedHashSet<>();
+        try {
+            while (true) {
+                WatchKey key = changedFilePaths.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    logger.fine("Data files changed: " + changedFilePaths);
+                    changeHandler.accept(changedFilePaths);
+                    changedFilePaths = new LinkedHashSet<>();
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        // Events were lost, so every file may have changed
+                        addAllFiles(changedFilePaths);
+                        continue;
+                    }
+                    toDataFilePath(directory.resolve((Path) event.context())).ifPresent(changedFilePaths::add);
+                }
+                if (!key.reset()) {
+                    logger.warning("Data directory " + directory + " can no longer be watched");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching data directory " + directory);
+        }
+    }
+
+    /**
+     * Adds the data files of every file in the directory to {@code changedFilePaths}.
+     */
+    private void addAllFiles(Set<Path> changedFilePaths) {
+        try (Stream<Path> filePaths = Files.list(directory)) {
+            filePaths.map(this::toDataFilePath).forEach(dataFilePath -> dataFilePath.ifPresent(changedFilePaths::add));
+        } catch (IOException e) {
+            logger.warning("Could not list data directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the path of the data file that a change to {@code filePath} changes, or an empty Optional if the file
+     * does not hold card folder data.
+     * Changes to a journal change the data file that it is kept next to. Temporary files, and the catalog and
+     * snapshot files, whose names start with a dot, do not hold card folder data.
+     */
+    private Optional<Path> toDataFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.startsWith(".") || FileUtil.isTempFile(filePath)) {
+            return Optional.empty();
+        }
+        if (fileName.endsWith(JournalCardFolderStorage.JOURNAL_FILE_SUFFIX)) {
+            return Optional.of(filePath.resolveSibling(
+                    fileName.substring(0, fileName.length() - JournalCardFolderStorage.JOURNAL_FILE_SUFFIX.length())));
+        }
+        return Optional.of(filePath);
+    }
+}
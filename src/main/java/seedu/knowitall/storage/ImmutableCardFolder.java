@@ -0,0 +1,111 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.knowitall.commons.util.StringUtil;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Card;
+
+/**
+ * A copy of the cards, folder scores and name of a card folder at the time it was taken, which is not affected by
+ * later changes to the folder.
+ * Only the references to the cards are copied, as cards are immutable, so taking a copy does not rebuild the indexes
+ * of the folder. A copy of a folder whose cards are not loaded has no cards, and is not loaded either.
+ * Guarantees: immutable.
+ */
+final class ImmutableCardFolder implements ReadOnlyCardFolder {
+
+    private final String folderName;
+    private final List<Card> cardList;
+    private final ObservableList<Card> cards;
+    private final List<Double> folderScores;
+    private final boolean isLoaded;
+
+    private ImmutableCardFolder(ReadOnlyCardFolder cardFolder) {
+        folderName = cardFolder.getFolderName();
+        cardList = cardFolder.copyCardList();
+        cards = FXCollections.unmodifiableObservableList(FXCollections.observableList(cardList));
+        folderScores = Collections.unmodifiableList(new ArrayList<>(cardFolder.getFolderScores()));
+        isLoaded = cardFolder.isLoaded();
+    }
+
+    /**
+     * Returns a copy of {@code cardFolder}, or {@code cardFolder} itself if it is already such a copy.
+     */
+    static ImmutableCardFolder of(ReadOnlyCardFolder cardFolder) {
+        requireNonNull(cardFolder);
+        return cardFolder instanceof ImmutableCardFolder
+                ? (ImmutableCardFolder) cardFolder
+                : new ImmutableCardFolder(cardFolder);
+    }
+
+    @Override
+    public ObservableList<Card> getCardList() {
+        return cards;
+    }
+
+    @Override
+    public List<Card> copyCardList() {
+        return new ArrayList<>(cardList);
+    }
+
+    /**
+     * Returns the cards whose question contains {@code word}, ignoring case.
+     * The copy keeps no index of the words in questions, so every card is checked.
+     */
+    @Override
+    public Set<Card> getCardsWithQuestionWord(String word) {
+        requireNonNull(word);
+        return cards.stream()
+                .filter(card -> StringUtil.containsWordIgnoreCase(card.getQuestion().fullQuestion, word))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public String getFolderName() {
+        return folderName;
+    }
+
+    @Override
+    public List<Double> getFolderScores() {
+        return folderScores;
+    }
+
+    @Override
+    public boolean hasSameCards(ObservableList<Card> otherCardList) {
+        return cards.equals(otherCardList);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Does nothing, as the copy never changes.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+    }
+
+    /**
+     * Does nothing, as the copy never changes.
+     */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+    }
+
+    @Override
+    public String toString() {
+        return folderName;
+    }
+}
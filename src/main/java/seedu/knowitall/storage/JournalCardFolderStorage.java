@@ -0,0 +1,455 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.commons.util.ByteBufferInputStream;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.commons.util.JsonUtil;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.exceptions.DuplicateCardException;
+
+/**
+ * A class to access CardFolder data stored as a json file on the hard disk, together with a journal of the changes
+ * made to the folder since the json file was written.
+ * A save appends only the changes since the previous save to the journal, so its cost is proportional to the size of
+ * the change rather than the size of the folder. Once the journal holds more changes than the folder has cards, the
+ * journal is compacted: the whole folder is written to the json file and the journal is started afresh.
+ * A journal entry cut short by a crash is ignored when the folder is read.
+ */
+public class JournalCardFolderStorage implements CardFolderStorage {
+
+    /** Suffix added to the json file name of a folder to get the file name of its journal */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** The journal is never compacted while it holds fewer changes than this */
+    static final int MIN_CHANGES_BEFORE_COMPACTION = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalCardFolderStorage.class);
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+
+    /** The folder as last read from or saved to {@code filePath}, or null if it is not known */
+    private FolderState savedState;
+    private long baseChecksum;
+    /** Length of the complete entries at the start of the journal, or 0 if there is no journal to append to */
+    private long journalLength;
+    private int journalChangeCount;
+
+    public JournalCardFolderStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JournalCardFolderStorage} for the json file at {@code filePath}.
+     * @param isPrettyPrinted whether the json file is indented over several lines when written, or written on one
+     *     line. Journal entries are always written on one line each.
+     */
+    public JournalCardFolderStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the journal of the folder stored at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if the folder stored at {@code filePath} has a journal.
+     */
+    public static boolean hasJournal(Path filePath) {
+        return FileUtil.isFileExists(getJournalFilePath(filePath));
+    }
+
+    public Path getcardFolderFilesPath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCardFolder> readCardFolder() throws DataConversionException, IOException {
+        return readCardFolder(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCardFolder()}.
+     * The changes in the folder's journal are replayed onto the folder read from the json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the json file or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyCardFolder> readCardFolder(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("File not found at " + filePath);
+            throw new IOException();
+        }
+
+        ByteBuffer baseBuffer = FileUtil.readToBuffer(filePath);
+        FolderState folderState;
+        CardFolder cardFolder;
+        try (JsonParser parser = JsonUtil.createParser(new ByteBufferInputStream(baseBuffer.duplicate()))) {
+            folderState = new FolderState(JsonSerializableCardFolder.readCardFolder(parser));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        long checksum = getChecksum(baseBuffer);
+        JournalPosition journalPosition = replayJournal(getJournalFilePath(filePath), checksum, folderState);
+        try {
+            cardFolder = folderState.toCardFolder();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedState = folderState;
+            baseChecksum = checksum;
+            journalLength = journalPosition.length;
+            journalChangeCount = journalPosition.changeCount;
+        }
+        return Optional.of(cardFolder);
+    }
+
+    /**
+     * Replays the complete entries of the journal at {@code journalFilePath} onto {@code folderState}.
+     * The journal is ignored if it does not apply to a json file with the checksum {@code checksum}.
+     */
+    private JournalPosition replayJournal(Path journalFilePath, long checksum, FolderState folderState)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return new JournalPosition(0, 0);
+        }
+
+        byte[] journalBytes = Files.readAllBytes(journalFilePath);
+        int entryStart = 0;
+        int changeCount = 0;
+        for (int entryEnd = indexOfLineSeparator(journalBytes, entryStart); entryEnd != -1;
+                entryEnd = indexOfLineSeparator(journalBytes, entryStart)) {
+            JsonCardFolderJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(new String(journalBytes, entryStart, entryEnd - entryStart,
+                        StandardCharsets.UTF_8), JsonCardFolderJournalEntry.class);
+                if (entryStart == 0 && (!entry.isHeader() || entry.getBaseChecksum() != checksum)) {
+                    // The json file was compacted, but the journal was not restarted before the app stopped
+                    logger.info("Ignoring outdated journal " + journalFilePath);
+                    return new JournalPosition(0, 0);
+                }
+                for (JsonAdaptedCardFolderChange change : entry.getChanges()) {
+                    change.applyTo(folderState);
+                    changeCount++;
+                }
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+            entryStart = entryEnd + 1;
+        }
+
+        if (entryStart < journalBytes.length) {
+            logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+        }
+        return new JournalPosition(entryStart, changeCount);
+    }
+
+    @Override
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException {
+        return saveCardFolder(cardFolder, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCardFolder(ReadOnlyCardFolder)}.
+     * Appends the changes since the folder was last read or saved to its journal, or compacts the journal if the
+     * folder was not read or saved before or the journal has grown too long.
+     * Only the bytes appended to the journal are counted as written, unless the journal is compacted.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
+        requireNonNull(cardFolder);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || savedState == null || !FileUtil.isFileExists(filePath)) {
+            return compact(cardFolder, filePath);
+        }
+
+        List<JsonAdaptedCardFolderChange> changes = savedState.getChangesTo(cardFolder);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        if (journalChangeCount + changes.size()
+                > Math.max(MIN_CHANGES_BEFORE_COMPACTION, cardFolder.getCardList().size())) {
+            return compact(cardFolder, filePath);
+        }
+
+        long bytesWritten = appendToJournal(changes);
+        savedState = new FolderState(cardFolder);
+        journalChangeCount += changes.size();
+        return bytesWritten;
+    }
+
+    /**
+     * Appends an entry with {@code changes} to the journal, after any incomplete entry is cut off.
+     * @return the number of bytes appended.
+     */
+    private long appendToJournal(List<JsonAdaptedCardFolderChange> changes) throws IOException {
+        List<byte[]> entries = new ArrayList<>();
+        if (journalLength == 0) {
+            entries.add(toJournalEntryBytes(JsonCardFolderJournalEntry.header(baseChecksum)));
+        }
+        entries.add(toJournalEntryBytes(JsonCardFolderJournalEntry.changes(changes)));
+
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            for (byte[] entry : entries) {
+                ByteBuffer buffer = ByteBuffer.wrap(entry);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                journalLength += entry.length;
+            }
+        }
+        AtomicFileWriter.sync(getJournalFilePath(filePath));
+        return entries.stream().mapToLong(entry -> entry.length).sum();
+    }
+
+    /**
+     * Writes the whole of {@code cardFolder} to the json file at {@code filePath} and starts its journal afresh.
+     * @return the number of bytes written to the json file and the journal.
+     */
+    private long compact(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            // Until the new json file is committed, the next save compacts again
+            savedState = null;
+        }
+
+        // The checksum is computed as the json file is written, so the file is never held in memory as a whole
+        CRC32 crc = new CRC32();
+        long bytesWritten = AtomicFileWriter.write(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, crc),
+                    isPrettyPrinted)) {
+                JsonSerializableCardFolder.writeCardFolder(cardFolder, generator);
+            }
+        });
+        long checksum = crc.getValue();
+        byte[] headerBytes = toJournalEntryBytes(JsonCardFolderJournalEntry.header(checksum));
+        // If the app stops before the journal is replaced, the old journal no longer matches the json file and is
+        // ignored
+        bytesWritten += AtomicFileWriter.write(getJournalFilePath(filePath), out -> out.write(headerBytes));
+
+        if (isOwnFile) {
+            FolderState compactedState = new FolderState(cardFolder);
+            AtomicFileWriter.whenCommitted(() -> {
+                savedState = compactedState;
+                baseChecksum = checksum;
+                journalLength = headerBytes.length;
+                journalChangeCount = 0;
+            });
+        }
+        return bytesWritten;
+    }
+
+    @Override
+    public void deleteCardFolder(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        FileUtil.deleteFile(filePath);
+        deleteJournal(filePath);
+        if (filePath.equals(this.filePath)) {
+            savedState = null;
+        }
+    }
+
+    /**
+     * Deletes the journal of the folder stored at {@code filePath}, if there is one.
+     */
+    static void deleteJournal(Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns {@code entry} as a single line of UTF-8 encoded json.
+     */
+    private static byte[] toJournalEntryBytes(JsonCardFolderJournalEntry entry) throws IOException {
+        return (JsonUtil.toCompactJsonString(entry) + (char) LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long getChecksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the index of the first line separator in {@code bytes} at or after {@code fromIndex}, or -1 if there
+     * is none.
+     */
+    private static int indexOfLineSeparator(byte[] bytes, int fromIndex) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == LINE_SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The folder name, cards and folder scores of a card folder, which journal changes are applied to.
+     */
+    static class FolderState {
+        private String folderName;
+        private final List<Card> cards;
+        private final List<Double> folderScores;
+
+        FolderState(ReadOnlyCardFolder cardFolder) {
+            folderName = cardFolder.getFolderName();
+            cards = cardFolder.copyCardList();
+            folderScores = new ArrayList<>(cardFolder.getFolderScores());
+        }
+
+        List<Card> getCards() {
+            return cards;
+        }
+
+        List<Double> getFolderScores() {
+            return folderScores;
+        }
+
+        void setFolderName(String folderName) {
+            this.folderName = folderName;
+        }
+
+        /**
+         * Returns a {@code CardFolder} with the folder name, cards and folder scores of this state.
+         * @throws IllegalValueException if the cards contain duplicates.
+         */
+        CardFolder toCardFolder() throws IllegalValueException {
+            CardFolder cardFolder = new CardFolder(folderName);
+            cardFolder.setFolderScores(new ArrayList<>(folderScores));
+            try {
+                cardFolder.setCards(cards);
+            } catch (DuplicateCardException e) {
+                throw new IllegalValueException(JsonSerializableCardFolder.MESSAGE_DUPLICATE_CARD);
+            }
+            return cardFolder;
+        }
+
+        /**
+         * Returns the changes that turn this state into {@code cardFolder}.
+         * Cards that are the same at the start and end of both card lists are skipped, and only the cards in
+         * between are set, removed or added, so a single card change produces a single change.
+         */
+        List<JsonAdaptedCardFolderChange> getChangesTo(ReadOnlyCardFolder cardFolder) {
+            List<JsonAdaptedCardFolderChange> changes = new ArrayList<>();
+            List<Card> newCards = cardFolder.getCardList();
+
+            int commonLength = Math.min(cards.size(), newCards.size());
+            int start = 0;
+            while (start < commonLength && isSameCard(cards.get(start), newCards.get(start))) {
+                start++;
+            }
+            int oldEnd = cards.size();
+            int newEnd = newCards.size();
+            while (oldEnd > start && newEnd > start && isSameCard(cards.get(oldEnd - 1), newCards.get(newEnd - 1))) {
+                oldEnd--;
+                newEnd--;
+            }
+
+            int setEnd = start + Math.min(oldEnd - start, newEnd - start);
+            for (int i = start; i < setEnd; i++) {
+                changes.add(getSetChange(i, cards.get(i), newCards.get(i)));
+            }
+            for (int i = oldEnd - 1; i >= setEnd; i--) {
+                changes.add(JsonAdaptedCardFolderChange.removeCard(i));
+            }
+            for (int i = setEnd; i < newEnd; i++) {
+                changes.add(JsonAdaptedCardFolderChange.addCard(i, newCards.get(i)));
+            }
+
+            List<Double> newFolderScores = cardFolder.getFolderScores();
+            if (newFolderScores.size() >= folderScores.size()
+                    && newFolderScores.subList(0, folderScores.size()).equals(folderScores)) {
+                if (newFolderScores.size() > folderScores.size()) {
+                    changes.add(JsonAdaptedCardFolderChange.addFolderScores(
+                            newFolderScores.subList(folderScores.size(), newFolderScores.size())));
+                }
+            } else {
+                changes.add(JsonAdaptedCardFolderChange.setFolderScores(newFolderScores));
+            }
+
+            if (!cardFolder.getFolderName().equals(folderName)) {
+                changes.add(JsonAdaptedCardFolderChange.setFolderName(cardFolder.getFolderName()));
+            }
+            return changes;
+        }
+
+        /**
+         * Returns the change that replaces {@code oldCard} at {@code index} with {@code newCard}, which only records
+         * the score if nothing else about the card changed.
+         */
+        private static JsonAdaptedCardFolderChange getSetChange(int index, Card oldCard, Card newCard) {
+            boolean isOnlyScoreChanged = oldCard.getId() == newCard.getId()
+                    && oldCard.getQuestion().equals(newCard.getQuestion())
+                    && oldCard.getAnswer().equals(newCard.getAnswer())
+                    && oldCard.getOptions().equals(newCard.getOptions())
+                    && oldCard.getHints().equals(newCard.getHints());
+            return isOnlyScoreChanged
+                    ? JsonAdaptedCardFolderChange.setScore(index, newCard.getScore())
+                    : JsonAdaptedCardFolderChange.setCard(index, newCard);
+        }
+
+        /**
+         * Returns true if {@code first} and {@code second} are equal and have the same id. Cards are immutable, so
+         * unchanged cards are usually the same instance and the full comparison is rarely needed.
+         */
+        private static boolean isSameCard(Card first, Card second) {
+            return first == second || (first.getId() == second.getId() && first.equals(second));
+        }
+    }
+
+    /**
+     * The length of the complete entries at the start of a journal and the number of changes they hold.
+     */
+    private static class JournalPosition {
+        private final long length;
+        private final int changeCount;
+
+        JournalPosition(long length, int changeCount) {
+            this.length = length;
+            this.changeCount = changeCount;
+        }
+    }
+
+}
@@ -23,21 +23,25 @@ import seedu.knowitall.model.hint.Hint;
 class JsonAdaptedCard {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Card's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Card's id should not be negative";
 
     private final String question;
     private final String answer;
     private final String score;
     private final List<JsonAdaptedOption> optionList = new ArrayList<>();
     private final List<JsonAdaptedHint> hintList = new ArrayList<>();
+    private final long id;
 
     /**
      * Constructs a {@code JsonAdaptedCard} with the given card details.
+     * Cards saved before cards had ids have no {@code id}, and are given one by the folder they are added to.
      */
     @JsonCreator
     public JsonAdaptedCard(@JsonProperty("question") String question, @JsonProperty("answer") String answer,
                            @JsonProperty("score") String score,
                            @JsonProperty("option") List<JsonAdaptedOption> optionList,
-                           @JsonProperty("hint") List<JsonAdaptedHint> hintList) {
+                           @JsonProperty("hint") List<JsonAdaptedHint> hintList,
+                           @JsonProperty("id") Long id) {
         this.question = question;
         this.answer = answer;
         this.score = score;
@@ -47,6 +51,7 @@ class JsonAdaptedCard {
         if (hintList != null) {
             this.hintList.addAll(hintList);
         }
+        this.id = id == null ? Card.UNASSIGNED_ID : id;
     }
 
     /**
@@ -62,6 +67,7 @@ class JsonAdaptedCard {
         hintList.addAll(source.getHints().stream()
                 .map(JsonAdaptedHint::new)
                 .collect(Collectors.toList()));
+        id = source.getId();
     }
 
     /**
@@ -104,9 +110,14 @@ class JsonAdaptedCard {
             throw new IllegalValueException(Score.MESSAGE_CONSTRAINTS);
         }
         final Score modelScore = new Score(score);
+
+        if (id < 0) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+
         final Set<Hint> modelHints = new HashSet<>(cardHints);
         final Set<Option> modelOptions = new HashSet<>(cardOptions);
-        return new Card(modelQuestion, modelAnswer, modelScore, modelOptions, modelHints);
+        return new Card(modelQuestion, modelAnswer, modelScore, modelOptions, modelHints, id);
     }
 
 }
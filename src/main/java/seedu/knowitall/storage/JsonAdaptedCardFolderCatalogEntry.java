@@ -0,0 +1,82 @@
+package seedu.knowitall.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderSummary;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+
+/**
+ * Jackson-friendly version of an entry of a {@link CardFolderCatalog}.
+ */
+class JsonAdaptedCardFolderCatalogEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Catalog entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_CARD_COUNT = "Catalog entry's card count must not be negative.";
+
+    private final String folderName;
+    private final String fileName;
+    private final int cardCount;
+    private final Double lastFolderScore;
+    private final long lastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedCardFolderCatalogEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedCardFolderCatalogEntry(@JsonProperty("folderName") String folderName,
+                                             @JsonProperty("fileName") String fileName,
+                                             @JsonProperty("cardCount") int cardCount,
+                                             @JsonProperty("lastFolderScore") Double lastFolderScore,
+                                             @JsonProperty("lastModified") long lastModified) {
+        this.folderName = folderName;
+        this.fileName = fileName;
+        this.cardCount = cardCount;
+        this.lastFolderScore = lastFolderScore;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Converts the {@code source} folder saved in the data file {@code fileName} at time {@code lastModified} into
+     * this class for Jackson use.
+     */
+    public JsonAdaptedCardFolderCatalogEntry(ReadOnlyCardFolder source, String fileName, long lastModified) {
+        CardFolderSummary summary = CardFolderSummary.of(source);
+        folderName = summary.getFolderName();
+        this.fileName = fileName;
+        cardCount = summary.getCardCount();
+        lastFolderScore = summary.getLastFolderScore().orElse(null);
+        this.lastModified = lastModified;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the time the folder was last saved, in milliseconds since the epoch.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry into the model's {@code CardFolderSummary} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public CardFolderSummary toModelType() throws IllegalValueException {
+        if (folderName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "folderName"));
+        }
+        if (!CardFolder.isValidFolderName(folderName)) {
+            throw new IllegalValueException(ReadOnlyCardFolder.MESSAGE_CONSTRAINTS);
+        }
+        if (cardCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_CARD_COUNT);
+        }
+        return new CardFolderSummary(folderName, cardCount, lastFolderScore);
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.knowitall.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.Score;
+
+/**
+ * Jackson-friendly version of a single change to a card folder, as recorded in a card folder journal.
+ * Only the fields used by the type of change are serialized.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedCardFolderChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Card folder change's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Card folder change refers to a card that does not exist!";
+
+    /**
+     * Types of changes to a card folder.
+     */
+    enum Type {
+        ADD_CARD, SET_CARD, REMOVE_CARD, SET_SCORE, ADD_FOLDER_SCORES, SET_FOLDER_SCORES, SET_FOLDER_NAME
+    }
+
+    private final Type type;
+    private final Integer index;
+    private final JsonAdaptedCard card;
+    private final String score;
+    private final List<Double> folderScores;
+    private final String folderName;
+
+    /**
+     * Constructs a {@code JsonAdaptedCardFolderChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedCardFolderChange(@JsonProperty("type") Type type, @JsonProperty("index") Integer index,
+                                       @JsonProperty("card") JsonAdaptedCard card,
+                                       @JsonProperty("score") String score,
+                                       @JsonProperty("folderScores") List<Double> folderScores,
+                                       @JsonProperty("folderName") String folderName) {
+        this.type = type;
+        this.index = index;
+        this.card = card;
+        this.score = score;
+        this.folderScores = folderScores;
+        this.folderName = folderName;
+    }
+
+    /**
+     * Returns a change that inserts {@code card} at {@code index}.
+     */
+    static JsonAdaptedCardFolderChange addCard(int index, Card card) {
+        return new JsonAdaptedCardFolderChange(Type.ADD_CARD, index, new JsonAdaptedCard(card), null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces the card at {@code index} with {@code card}.
+     */
+    static JsonAdaptedCardFolderChange setCard(int index, Card card) {
+        return new JsonAdaptedCardFolderChange(Type.SET_CARD, index, new JsonAdaptedCard(card), null, null, null);
+    }
+
+    /**
+     * Returns a change that removes the card at {@code index}.
+     */
+    static JsonAdaptedCardFolderChange removeCard(int index) {
+        return new JsonAdaptedCardFolderChange(Type.REMOVE_CARD, index, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that sets the score of the card at {@code index} to {@code score}.
+     */
+    static JsonAdaptedCardFolderChange setScore(int index, Score score) {
+        return new JsonAdaptedCardFolderChange(Type.SET_SCORE, index, null, score.toString(), null, null);
+    }
+
+    /**
+     * Returns a change that appends {@code folderScores} to the folder scores.
+     */
+    static JsonAdaptedCardFolderChange addFolderScores(List<Double> folderScores) {
+        return new JsonAdaptedCardFolderChange(Type.ADD_FOLDER_SCORES, null, null, null,
+                new ArrayList<>(folderScores), null);
+    }
+
+    /**
+     * Returns a change that replaces the folder scores with {@code folderScores}.
+     */
+    static JsonAdaptedCardFolderChange setFolderScores(List<Double> folderScores) {
+        return new JsonAdaptedCardFolderChange(Type.SET_FOLDER_SCORES, null, null, null,
+                new ArrayList<>(folderScores), null);
+    }
+
+    /**
+     * Returns a change that renames the folder to {@code folderName}.
+     */
+    static JsonAdaptedCardFolderChange setFolderName(String folderName) {
+        return new JsonAdaptedCardFolderChange(Type.SET_FOLDER_NAME, null, null, null, null, folderName);
+    }
+
+    /**
+     * Applies this change to {@code folderState}.
+     *
+     * @throws IllegalValueException if this change is incomplete, refers to a card that does not exist, or if there
+     *     were any data constraints violated in the card or score it contains.
+     */
+    void applyTo(JournalCardFolderStorage.FolderState folderState) throws IllegalValueException {
+        requireField(type, "type");
+
+        List<Card> cards = folderState.getCards();
+        switch (type) {
+        case ADD_CARD:
+            requireField(card, "card");
+            cards.add(checkIndex(cards.size() + 1), card.toModelType());
+            break;
+        case SET_CARD:
+            requireField(card, "card");
+            cards.set(checkIndex(cards.size()), card.toModelType());
+            break;
+        case REMOVE_CARD:
+            cards.remove(checkIndex(cards.size()));
+            break;
+        case SET_SCORE:
+            requireField(score, "score");
+            if (!Score.isValidScore(score)) {
+                throw new IllegalValueException(Score.MESSAGE_CONSTRAINTS);
+            }
+            int scoredIndex = checkIndex(cards.size());
+            Card scoredCard = cards.get(scoredIndex);
+            cards.set(scoredIndex, new Card(scoredCard.getQuestion(), scoredCard.getAnswer(), new Score(score),
+                    scoredCard.getOptions(), scoredCard.getHints(), scoredCard.getId()));
+            break;
+        case ADD_FOLDER_SCORES:
+            requireField(folderScores, "folderScores");
+            folderState.getFolderScores().addAll(folderScores);
+            break;
+        case SET_FOLDER_SCORES:
+            requireField(folderScores, "folderScores");
+            folderState.getFolderScores().clear();
+            folderState.getFolderScores().addAll(folderScores);
+            break;
+        case SET_FOLDER_NAME:
+            requireField(folderName, "folderName");
+            folderState.setFolderName(folderName);
+            break;
+        default:
+            throw new AssertionError("Unknown card folder change type: " + type);
+        }
+    }
+
+    /**
+     * Returns the index of this change, after checking that it is below {@code bound}.
+     */
+    private int checkIndex(int bound) throws IllegalValueException {
+        requireField(index, "index");
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return index;
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.knowitall.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of one line of a card folder journal.
+ * The first line of a journal only holds the checksum of the json file the journal applies to. Every following line
+ * holds the changes made by one save, so that a save is either replayed in full or not at all.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonCardFolderJournalEntry {
+
+    private final Long baseChecksum;
+    private final List<JsonAdaptedCardFolderChange> changes;
+
+    /**
+     * Constructs a {@code JsonCardFolderJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonCardFolderJournalEntry(@JsonProperty("baseChecksum") Long baseChecksum,
+                                      @JsonProperty("changes") List<JsonAdaptedCardFolderChange> changes) {
+        this.baseChecksum = baseChecksum;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns the first entry of a journal that applies to a json file with the given checksum.
+     */
+    static JsonCardFolderJournalEntry header(long baseChecksum) {
+        return new JsonCardFolderJournalEntry(baseChecksum, null);
+    }
+
+    /**
+     * Returns an entry that records the changes made by one save.
+     */
+    static JsonCardFolderJournalEntry changes(List<JsonAdaptedCardFolderChange> changes) {
+        return new JsonCardFolderJournalEntry(null, new ArrayList<>(changes));
+    }
+
+    boolean isHeader() {
+        return baseChecksum != null;
+    }
+
+    long getBaseChecksum() {
+        assert isHeader();
+        return baseChecksum;
+    }
+
+    List<JsonAdaptedCardFolderChange> getChanges() {
+        return changes == null ? new ArrayList<>() : changes;
+    }
+
+}
@@ -7,37 +7,59 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.knowitall.commons.core.LogsCenter;
 import seedu.knowitall.commons.exceptions.DataConversionException;
 import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.commons.util.ByteBufferInputStream;
 import seedu.knowitall.commons.util.FileUtil;
 import seedu.knowitall.commons.util.JsonUtil;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 
 /**
  * A class to access CardFolder data stored as a json file on the hard disk.
+ * The file is written and parsed as a stream, one card at a time.
  */
 public class JsonCardFolderStorage implements CardFolderStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonCardFolderStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonCardFolderStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonCardFolderStorage} for the json file at {@code filePath}.
+     * @param isPrettyPrinted whether the file is indented over several lines when saved, or written on one line.
+     */
+    public JsonCardFolderStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     /**
      * Returns true if provided {@code filePath} is a file that can be read as a {@code JsonCardFolderStorage}.
+     * Only the start of the file is inspected, so that discovering folder files does not parse them in full.
+     * The rest of the file is validated when the card folder is read.
      */
     public static boolean isCardFolderStorage(Path filePath) {
-        JsonCardFolderStorage cardFolderStorage = new JsonCardFolderStorage(filePath);
+        if (!FileUtil.isFileExists(filePath) || FileUtil.isTempFile(filePath)) {
+            return false;
+        }
+
         try {
-            cardFolderStorage.readCardFolder();
-        } catch (DataConversionException | IOException e) {
+            return JsonUtil.readFirstFieldName(filePath)
+                    .map(JsonSerializableCardFolder.FIELD_NAMES::contains)
+                    .orElse(false);
+        } catch (IOException e) {
             return false;
         }
-        return true;
     }
 
     public Path getcardFolderFilesPath() {
@@ -51,6 +73,7 @@ public class JsonCardFolderStorage implements CardFolderStorage {
 
     /**
      * Similar to {@link #readCardFolder()}.
+     * If the folder was last saved with a journal, the changes in the journal are included.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -58,24 +81,26 @@ public class JsonCardFolderStorage implements CardFolderStorage {
     public Optional<ReadOnlyCardFolder> readCardFolder(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCardFolder> jsonCardFolder = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCardFolder.class);
-        if (!jsonCardFolder.isPresent()) {
+        if (JournalCardFolderStorage.hasJournal(filePath)) {
+            return new JournalCardFolderStorage(filePath).readCardFolder();
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
             logger.info("File not found at " + filePath);
             throw new IOException();
         }
 
-        try {
-            return Optional.of(jsonCardFolder.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        try (JsonParser parser = JsonUtil.createParser(new ByteBufferInputStream(FileUtil.readToBuffer(filePath)))) {
+            return Optional.of(JsonSerializableCardFolder.readCardFolder(parser));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
         }
     }
 
     @Override
-    public void saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException {
-        saveCardFolder(cardFolder, filePath);
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder) throws IOException {
+        return saveCardFolder(cardFolder, filePath);
     }
 
     /**
@@ -83,12 +108,18 @@ public class JsonCardFolderStorage implements CardFolderStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
+    public long saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
         requireNonNull(cardFolder);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCardFolder(cardFolder), filePath);
+        long bytesWritten = AtomicFileWriter.write(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                JsonSerializableCardFolder.writeCardFolder(cardFolder, generator);
+            }
+        });
+        // The json file now holds every change, so a journal left from a previous save no longer applies
+        AtomicFileWriter.whenCommitted(() -> JournalCardFolderStorage.deleteJournal(filePath));
+        return bytesWritten;
     }
 
     @Override
@@ -96,6 +127,7 @@ public class JsonCardFolderStorage implements CardFolderStorage {
         requireNonNull(filePath);
 
         FileUtil.deleteFile(filePath);
+        JournalCardFolderStorage.deleteJournal(filePath);
     }
 
 }
@@ -1,17 +1,25 @@
 package seedu.knowitall.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.knowitall.commons.exceptions.IllegalValueException;
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderTransaction;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.exceptions.DuplicateCardException;
 
 /**
  * An Immutable CardFolder that is serializable to JSON format.
@@ -20,6 +28,16 @@ import seedu.knowitall.model.card.Card;
 class JsonSerializableCardFolder {
 
     public static final String MESSAGE_DUPLICATE_CARD = "Cards list contains duplicate card(s).";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Card folder's %s field is missing!";
+
+    static final String FIELD_FOLDER_NAME = "folderName";
+    static final String FIELD_CARDS = "cards";
+    static final String FIELD_FOLDER_SCORES = "folderScores";
+
+    /** Names of the top-level fields of a serialized card folder */
+    static final List<String> FIELD_NAMES = Arrays.asList(FIELD_FOLDER_NAME, FIELD_CARDS, FIELD_FOLDER_SCORES);
+
+    private static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in card folder";
 
     private final String folderName;
     private final List<Double> folderScores = new ArrayList<>();
@@ -55,15 +73,133 @@ class JsonSerializableCardFolder {
      */
     public CardFolder toModelType() throws IllegalValueException {
         CardFolder cardFolder = new CardFolder(folderName);
-        cardFolder.setFolderScores(folderScores);
+        CardFolderTransaction transaction = cardFolder.beginTransaction().setFolderScores(folderScores);
         for (JsonAdaptedCard jsonAdaptedCard : cards) {
-            Card card = jsonAdaptedCard.toModelType();
-            if (cardFolder.hasCard(card)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+            transaction.addCard(jsonAdaptedCard.toModelType());
+        }
+        try {
+            transaction.commit();
+        } catch (DuplicateCardException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+        }
+        return cardFolder;
+    }
+
+    /**
+     * Writes {@code cardFolder} to {@code generator} in the same form as a serialized
+     * {@code JsonSerializableCardFolder}. Cards are adapted and written one at a time, so that no adapted copy of the
+     * whole folder is built.
+     */
+    static void writeCardFolder(ReadOnlyCardFolder cardFolder, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(FIELD_FOLDER_NAME, cardFolder.getFolderName());
+
+        generator.writeArrayFieldStart(FIELD_CARDS);
+        for (Card card : cardFolder.getCardList()) {
+            generator.writeObject(new JsonAdaptedCard(card));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(FIELD_FOLDER_SCORES);
+        for (double folderScore : cardFolder.getFolderScores()) {
+            generator.writeNumber(folderScore);
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a card folder in the form of a serialized {@code JsonSerializableCardFolder} from {@code parser}.
+     * Cards are read and converted one at a time, so that no adapted copy of the whole folder is built.
+     * Fields other than those in {@link #FIELD_NAMES} are skipped.
+     *
+     * @throws IOException if the data is not valid json, or not structured as a card folder.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static CardFolder readCardFolder(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        String folderName = null;
+        List<Card> cards = null;
+        List<Double> folderScores = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case FIELD_FOLDER_NAME:
+                expectToken(parser, valueToken, JsonToken.VALUE_STRING);
+                folderName = parser.getText();
+                break;
+            case FIELD_CARDS:
+                cards = readCards(parser);
+                break;
+            case FIELD_FOLDER_SCORES:
+                folderScores = readFolderScores(parser);
+                break;
+            default:
+                parser.skipChildren();
+                break;
             }
-            cardFolder.addCard(card);
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        if (folderName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, FIELD_FOLDER_NAME));
+        }
+        if (cards == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, FIELD_CARDS));
+        }
+        if (folderScores == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, FIELD_FOLDER_SCORES));
+        }
+
+        CardFolder cardFolder = new CardFolder(folderName);
+        cardFolder.setFolderScores(folderScores);
+        try {
+            cardFolder.setCards(cards);
+        } catch (DuplicateCardException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
         }
         return cardFolder;
     }
 
+    /**
+     * Reads the array of cards that {@code parser} is at the start of.
+     */
+    private static List<Card> readCards(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        List<Card> cards = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            cards.add(parser.readValueAs(JsonAdaptedCard.class).toModelType());
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+        return cards;
+    }
+
+    /**
+     * Reads the array of folder scores that {@code parser} is at the start of.
+     */
+    private static List<Double> readFolderScores(JsonParser parser) throws IOException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        List<Double> folderScores = new ArrayList<>();
+        while (parser.nextToken().isNumeric()) {
+            folderScores.add(parser.getDoubleValue());
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+        return folderScores;
+    }
+
+    /**
+     * Throws a {@code JsonParseException} if {@code actual} is not the {@code expected} token.
+     */
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format(MESSAGE_UNEXPECTED_TOKEN, actual));
+        }
+    }
+
 }
@@ -0,0 +1,31 @@
+package seedu.knowitall.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An Immutable card folder catalog that is serializable to JSON format.
+ */
+class JsonSerializableCardFolderCatalog {
+
+    private final List<JsonAdaptedCardFolderCatalogEntry> folders = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableCardFolderCatalog} with the given entries.
+     */
+    @JsonCreator
+    public JsonSerializableCardFolderCatalog(
+            @JsonProperty("folders") Collection<JsonAdaptedCardFolderCatalogEntry> folders) {
+        if (folders != null) {
+            this.folders.addAll(folders);
+        }
+    }
+
+    public List<JsonAdaptedCardFolderCatalogEntry> getFolders() {
+        return folders;
+    }
+}
@@ -2,10 +2,14 @@ package seedu.knowitall.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.model.CardFolderSummary;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.ReadOnlyUserPrefs;
 import seedu.knowitall.model.UserPrefs;
@@ -23,7 +27,53 @@ public interface Storage {
 
     void readCardFolders(List<ReadOnlyCardFolder> readFolders) throws Exception;
 
+    /**
+     * Reads the summaries of all card folders into {@code readSummaries}, without reading the cards of folders whose
+     * summary is already known.
+     * The cards of the folder of each summary are then read with {@link #readCardFolder(int)}.
+     */
+    void readCardFolderSummaries(List<CardFolderSummary> readSummaries) throws Exception;
+
+    /**
+     * Reads the card folder at position {@code index} of the list of card folders.
+     */
+    ReadOnlyCardFolder readCardFolder(int index) throws DataConversionException, IOException;
+
+    /**
+     * Re-reads the data files at {@code changedFilePaths} that other programs changed since this storage last read
+     * or saved them, and returns the resulting changes to the list of card folders, in the order of the paths.
+     * The indexes of the changes refer to the list of card folders last saved, and the changes are not applied to
+     * it. Files that are unchanged, not card folder data files or cannot be read, such as files still being
+     * written, are left out.
+     * @throws IOException if the data files cannot be re-read at all.
+     */
+    List<CardFolderFileChange> readChangedCardFolders(Collection<Path> changedFilePaths) throws IOException;
+
     void saveCardFolder(ReadOnlyCardFolder cardFolder, int index) throws IOException;
 
     void saveCardFolders(List<ReadOnlyCardFolder> cardFolders, Path cardFolderFilesPath) throws IOException;
+
+    /**
+     * Returns the total number of bytes of card folder data written so far.
+     */
+    long getBytesWritten();
+
+    /**
+     * Calls {@code bytesWrittenHandler} with the number of bytes of card folder data written by the saves requested
+     * since the last call, once those saves have been written.
+     * The handler may be called from a thread other than the one that requested the saves.
+     */
+    void reportBytesWritten(LongConsumer bytesWrittenHandler);
+
+    /**
+     * Blocks until every card folder save requested so far has been written to its data file.
+     * @throws IOException if any of those saves failed after the save method had returned.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler to notify of card folder saves that fail after the save method has returned.
+     * The handler may be called from a thread other than the one that requested the save.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
 }
@@ -6,13 +6,32 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import seedu.knowitall.commons.core.DataFileFormat;
 import seedu.knowitall.commons.core.LogsCenter;
 import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.model.CardFolderSummary;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.ReadOnlyUserPrefs;
 import seedu.knowitall.model.UserPrefs;
@@ -23,14 +42,101 @@ import seedu.knowitall.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final int MAX_READER_THREADS = Runtime.getRuntime().availableProcessors();
     private List<CardFolderStorage> cardFolderStorageList;
+    /** Storages of folders no longer in the list, whose data files are left to delete after a failed save */
+    private List<CardFolderStorage> staleCardFolderStorages = new ArrayList<>();
     private UserPrefsStorage userPrefsStorage;
+    private final ReadOnlyUserPrefs userPrefs;
+    private final DataFileFormat cardFolderFileFormat;
+    private final Function<Path, CardFolderStorage> cardFolderStorageFactory;
+    /** Catalog of the card folder data files, or null if no catalog is kept */
+    private final CardFolderCatalog cardFolderCatalog;
+    /** Snapshot of the card folders in the data files, or null if no snapshot is kept */
+    private final CardFolderSnapshot cardFolderSnapshot;
+    private volatile long bytesWritten = 0;
+    /** Bytes written up to the last report of the bytes written */
+    private long bytesReported = 0;
 
 
+    /**
+     * Creates a {@code StorageManager} that saves new card folders in the default card folder file format, and does
+     * not keep a catalog or snapshot of the data files.
+     */
     public StorageManager(List<CardFolderStorage> cardFolderStorageList, UserPrefsStorage userPrefsStorage) {
+        this(cardFolderStorageList, userPrefsStorage, new UserPrefs(), null, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves new card folders in the card folder file format and layout set in
+     * {@code userPrefs}, and keeps a {@link CardFolderCatalog} and a {@link CardFolderSnapshot} of the data files in
+     * the card folder directory set in {@code userPrefs}.
+     */
+    public StorageManager(List<CardFolderStorage> cardFolderStorageList, UserPrefsStorage userPrefsStorage,
+            ReadOnlyUserPrefs userPrefs) {
+        this(cardFolderStorageList, userPrefsStorage, userPrefs,
+                new CardFolderCatalog(userPrefs.getcardFolderFilesPath()),
+                new CardFolderSnapshot(userPrefs.getcardFolderFilesPath()));
+    }
+
+    private StorageManager(List<CardFolderStorage> cardFolderStorageList, UserPrefsStorage userPrefsStorage,
+            ReadOnlyUserPrefs userPrefs, CardFolderCatalog cardFolderCatalog, CardFolderSnapshot cardFolderSnapshot) {
         super();
         this.cardFolderStorageList = new ArrayList<>(cardFolderStorageList);
         this.userPrefsStorage = userPrefsStorage;
+        this.userPrefs = userPrefs;
+        this.cardFolderFileFormat = userPrefs.getCardFolderFileFormat();
+        this.cardFolderStorageFactory = getCardFolderStorageFactory(userPrefs);
+        this.cardFolderCatalog = cardFolderCatalog;
+        this.cardFolderSnapshot = cardFolderSnapshot;
+        if (cardFolderCatalog != null) {
+            cardFolderCatalog.read();
+        }
+        if (cardFolderSnapshot != null) {
+            cardFolderSnapshot.read();
+        }
+    }
+
+    /**
+     * Returns a function that creates a {@code CardFolderStorage} for the data file at a path, which saves its card
+     * folder in the card folder file format and layout set in {@code userPrefs}.
+     */
+    public static Function<Path, CardFolderStorage> getCardFolderStorageFactory(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+
+        boolean isPrettyPrinted = userPrefs.isCardFolderFilePrettyPrinted();
+        switch (userPrefs.getCardFolderFileFormat()) {
+        case JSON:
+            return filePath -> new JsonCardFolderStorage(filePath, isPrettyPrinted);
+        case JOURNAL:
+            return filePath -> new JournalCardFolderStorage(filePath, isPrettyPrinted);
+        case BINARY:
+            return BinaryCardFolderStorage::new;
+        default:
+            throw new AssertionError("Unknown data file format: " + userPrefs.getCardFolderFileFormat());
+        }
+    }
+
+    /**
+     * Returns a {@code CardFolderStorage} for the existing data file at {@code filePath}, or an empty Optional if it
+     * is not a card folder data file.
+     * Json data files are given a storage of the card folder file format in {@code userPrefs} if it is json based,
+     * so that they keep being saved in that format.
+     */
+    public static Optional<CardFolderStorage> getExistingCardFolderStorage(Path filePath,
+            ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(filePath);
+        requireNonNull(userPrefs);
+
+        if (BinaryCardFolderStorage.isCardFolderStorage(filePath)) {
+            return Optional.of(new BinaryCardFolderStorage(filePath));
+        }
+        if (JsonCardFolderStorage.isCardFolderStorage(filePath)) {
+            return Optional.of(userPrefs.getCardFolderFileFormat() == DataFileFormat.BINARY
+                    ? new JsonCardFolderStorage(filePath, userPrefs.isCardFolderFilePrettyPrinted())
+                    : getCardFolderStorageFactory(userPrefs).apply(filePath));
+        }
+        return Optional.empty();
     }
 
     // ================ UserPrefs methods ==============================
@@ -53,78 +159,508 @@ public class StorageManager implements Storage {
         requireNonNull(readFolders);
 
         readFolders.clear();
-        Exception exception = null;
-        List<CardFolderStorage> unavailableCardFolderStorages = new ArrayList<>();
+        Map<CardFolderStorage, Exception> failures = new LinkedHashMap<>();
+        List<Optional<ReadOnlyCardFolder>> results = readConcurrently(cardFolderStorageList, failures);
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isPresent()) {
+                ReadOnlyCardFolder readFolder = results.get(i).get();
+                readFolders.add(readFolder);
+                updateCatalog(cardFolderStorageList.get(i).getcardFolderFilesPath(), readFolder);
+                if (!isInCardFolderFileFormat(cardFolderStorageList.get(i))) {
+                    convertCardFolder(i, readFolder);
+                }
+            }
+        }
+        removeUnavailableCardFolderStorages(failures);
+    }
+
+    /**
+     * Reads the summaries of the card folders, in storage order.
+     * A folder with an up to date entry in the card folder catalog is summarised from its entry without reading its
+     * data file; every other folder is read, and converted to the card folder file format if needed.
+     * Folders that cannot be read are left out, and their storages removed, so that the summaries stay in line with
+     * the storages.
+     */
+    @Override
+    public void readCardFolderSummaries(List<CardFolderSummary> readSummaries) throws Exception {
+        requireNonNull(readSummaries);
+
+        readSummaries.clear();
+        List<Optional<CardFolderSummary>> catalogSummaries = new ArrayList<>();
+        List<CardFolderStorage> storagesToRead = new ArrayList<>();
         for (CardFolderStorage cardFolderStorage : cardFolderStorageList) {
-            try {
-                Optional<ReadOnlyCardFolder> cardFolder = readCardFolder(cardFolderStorage);
-                cardFolder.ifPresent(readFolders::add);
-            } catch (DataConversionException | IOException e) {
-                exception = e;
-                unavailableCardFolderStorages.add(cardFolderStorage);
+            Optional<CardFolderSummary> catalogSummary = cardFolderCatalog == null
+                    || !isInCardFolderFileFormat(cardFolderStorage)
+                    ? Optional.empty()
+                    : cardFolderCatalog.getSummary(cardFolderStorage.getcardFolderFilesPath());
+            catalogSummaries.add(catalogSummary);
+            if (!catalogSummary.isPresent()) {
+                storagesToRead.add(cardFolderStorage);
             }
         }
-        if (exception != null) {
-            cardFolderStorageList.removeAll(unavailableCardFolderStorages);
-            throw exception;
+        logger.info("Summarised " + (cardFolderStorageList.size() - storagesToRead.size())
+                + " card folders from the catalog, reading " + storagesToRead.size() + " data files");
+
+        Map<CardFolderStorage, Exception> failures = new LinkedHashMap<>();
+        Iterator<Optional<ReadOnlyCardFolder>> readFolders = readConcurrently(storagesToRead, failures).iterator();
+        for (int i = 0; i < catalogSummaries.size(); i++) {
+            if (catalogSummaries.get(i).isPresent()) {
+                readSummaries.add(catalogSummaries.get(i).get());
+                continue;
+            }
+
+            Optional<ReadOnlyCardFolder> readFolder = readFolders.next();
+            if (!readFolder.isPresent()) {
+                failures.putIfAbsent(cardFolderStorageList.get(i), null);
+                continue;
+            }
+            readSummaries.add(CardFolderSummary.of(readFolder.get()));
+            updateCatalog(cardFolderStorageList.get(i).getcardFolderFilesPath(), readFolder.get());
+            if (!isInCardFolderFileFormat(cardFolderStorageList.get(i))) {
+                convertCardFolder(i, readFolder.get());
+            }
         }
+        removeUnavailableCardFolderStorages(failures);
+    }
+
+    /**
+     * Reads the card folder of the storage at {@code index}, and converts it to the card folder file format if
+     * needed.
+     */
+    @Override
+    public ReadOnlyCardFolder readCardFolder(int index) throws DataConversionException, IOException {
+        assert index < cardFolderStorageList.size();
+        CardFolderStorage cardFolderStorage = cardFolderStorageList.get(index);
+        ReadOnlyCardFolder cardFolder = readCardFolder(cardFolderStorage).orElseThrow(() ->
+                new IOException("Data file not found: " + cardFolderStorage.getcardFolderFilesPath()));
+        if (!isInCardFolderFileFormat(cardFolderStorage)) {
+            convertCardFolder(index, cardFolder);
+        }
+        return cardFolder;
     }
 
     /**
      * Reads a {@code ReadOnlyCardFolder} from a {@code CardFolderStorage}.
+     * A folder whose data file is unchanged since it was recorded in the snapshot is taken from the snapshot;
+     * every other folder is read from its data file and recorded in the snapshot.
      * @return {@code Optional.empty} if the file is not found.
      */
     private Optional<ReadOnlyCardFolder> readCardFolder(CardFolderStorage cardFolderStorage)
             throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + cardFolderStorage.getcardFolderFilesPath());
-        return cardFolderStorage.readCardFolder();
+        Path filePath = cardFolderStorage.getcardFolderFilesPath();
+        if (cardFolderSnapshot != null) {
+            Optional<ReadOnlyCardFolder> snapshotFolder = cardFolderSnapshot.getCardFolder(filePath);
+            if (snapshotFolder.isPresent()) {
+                logger.fine("Read data of file " + filePath + " from the snapshot");
+                return snapshotFolder;
+            }
+        }
+
+        logger.fine("Attempting to read data from file: " + filePath);
+        Optional<ReadOnlyCardFolder> readFolder = cardFolderStorage.readCardFolder();
+        if (readFolder.isPresent()) {
+            updateSnapshot(filePath, readFolder.get());
+        }
+        return readFolder;
     }
 
     /**
-     * Saves the CardFolder to the specified filePath
+     * Re-reads the data files at {@code changedFilePaths} that are not up to date in the snapshot, so that the data
+     * files this storage manager wrote itself are left out. Without a snapshot, every existing data file is re-read.
+     * A new data file is only picked up if it is in the card folder file format and named after its folder, so
+     * that it keeps its name when the list of card folders is next saved.
+     */
+    @Override
+    public List<CardFolderFileChange> readChangedCardFolders(Collection<Path> changedFilePaths) {
+        requireNonNull(changedFilePaths);
+
+        List<CardFolderFileChange> changes = new ArrayList<>();
+        for (Path changedFilePath : changedFilePaths) {
+            Path filePath = normalize(changedFilePath);
+            OptionalInt index = IntStream.range(0, cardFolderStorageList.size())
+                    .filter(i -> normalize(cardFolderStorageList.get(i).getcardFolderFilesPath()).equals(filePath))
+                    .findFirst();
+            try {
+                Optional<CardFolderFileChange> change = index.isPresent()
+                        ? readChangedCardFolder(index.getAsInt())
+                        : readAddedCardFolder(filePath);
+                change.ifPresent(changes::add);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not read changed data file " + filePath + ": " + e);
+            }
+        }
+        saveCatalog();
+        return changes;
+    }
+
+    /**
+     * Returns the change to the data file of the storage at {@code index}, or an empty Optional if it is unchanged.
+     */
+    private Optional<CardFolderFileChange> readChangedCardFolder(int index)
+            throws DataConversionException, IOException {
+        CardFolderStorage cardFolderStorage = cardFolderStorageList.get(index);
+        Path filePath = cardFolderStorage.getcardFolderFilesPath();
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Data file " + filePath + " was deleted by another program");
+            return Optional.of(CardFolderFileChange.deleted(index));
+        }
+        if (cardFolderSnapshot != null && cardFolderSnapshot.isUpToDate(filePath)) {
+            return Optional.empty();
+        }
+
+        logger.info("Data file " + filePath + " was modified by another program");
+        Optional<ReadOnlyCardFolder> readFolder = readCardFolder(cardFolderStorage);
+        if (!readFolder.isPresent()) {
+            return Optional.empty();
+        }
+        updateCatalog(filePath, readFolder.get());
+        return Optional.of(CardFolderFileChange.modified(index, readFolder.get()));
+    }
+
+    /**
+     * Returns the addition of the folder in the new data file at {@code filePath}, or an empty Optional if it is not
+     * a card folder data file that can be picked up.
+     */
+    private Optional<CardFolderFileChange> readAddedCardFolder(Path filePath)
+            throws DataConversionException, IOException {
+        Optional<CardFolderStorage> cardFolderStorage = getExistingCardFolderStorage(filePath, userPrefs);
+        if (!cardFolderStorage.isPresent()) {
+            return Optional.empty();
+        }
+        if (!isInCardFolderFileFormat(cardFolderStorage.get())) {
+            logger.warning("Ignoring new data file " + filePath + " that is not in the " + cardFolderFileFormat
+                    + " format");
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyCardFolder> readFolder = readCardFolder(cardFolderStorage.get());
+        if (!readFolder.isPresent()) {
+            return Optional.empty();
+        }
+        String expectedFileName = readFolder.get().getFolderName() + cardFolderFileFormat.getFileExtension();
+        if (!filePath.getFileName().toString().equals(expectedFileName)) {
+            logger.warning("Ignoring new data file " + filePath + " that is not named " + expectedFileName);
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " was added by another program");
+        updateCatalog(filePath, readFolder.get());
+        return Optional.of(CardFolderFileChange.added(readFolder.get()));
+    }
+
+    /**
+     * Reads the card folders of {@code cardFolderStorages} concurrently, and returns them in storage order.
+     * The folder of a storage that cannot be read is empty, and the storage is put in {@code failures} with the
+     * exception it threw.
+     */
+    private List<Optional<ReadOnlyCardFolder>> readConcurrently(List<CardFolderStorage> cardFolderStorages,
+            Map<CardFolderStorage, Exception> failures) throws InterruptedException {
+        List<Optional<ReadOnlyCardFolder>> readFolders = new ArrayList<>();
+        if (cardFolderStorages.isEmpty()) {
+            return readFolders;
+        }
+
+        // Folders are read and validated concurrently, but collected in storage order.
+        int poolSize = Math.min(cardFolderStorages.size(), MAX_READER_THREADS);
+        ExecutorService readers = Executors.newFixedThreadPool(poolSize);
+        List<Future<Optional<ReadOnlyCardFolder>>> pendingReads = new ArrayList<>();
+        try {
+            for (CardFolderStorage cardFolderStorage : cardFolderStorages) {
+                pendingReads.add(readers.submit(() -> readCardFolder(cardFolderStorage)));
+            }
+
+            for (int i = 0; i < pendingReads.size(); i++) {
+                try {
+                    readFolders.add(pendingReads.get(i).get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    readFolders.add(Optional.empty());
+                    failures.put(cardFolderStorages.get(i), (Exception) e.getCause());
+                }
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        return readFolders;
+    }
+
+    /**
+     * Removes the storages in {@code failures} and their catalog and snapshot entries, and saves the catalog and
+     * snapshot.
+     * @throws Exception the last of the exceptions in {@code failures}, if any.
+     */
+    private void removeUnavailableCardFolderStorages(Map<CardFolderStorage, Exception> failures) throws Exception {
+        cardFolderStorageList.removeAll(failures.keySet());
+        List<Path> filePaths = cardFolderStorageList.stream()
+                .map(CardFolderStorage::getcardFolderFilesPath)
+                .collect(Collectors.toList());
+        if (cardFolderCatalog != null) {
+            cardFolderCatalog.retainAll(filePaths);
+        }
+        if (cardFolderSnapshot != null) {
+            cardFolderSnapshot.retainAll(filePaths);
+        }
+        saveCatalog();
+        saveSnapshot();
+
+        Exception exception = null;
+        for (Exception failure : failures.values()) {
+            exception = failure != null ? failure : exception;
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Saves {@code cardFolder}, read from the storage at {@code index}, in a new data file of the card folder file
+     * format of this storage manager, and replaces that storage and its data file with the new ones.
+     * This converts json and binary data files when the preferred format changes. A folder that cannot be
+     * converted is left in its current data file.
+     */
+    private void convertCardFolder(int index, ReadOnlyCardFolder cardFolder) {
+        CardFolderStorage cardFolderStorage = cardFolderStorageList.get(index);
+        Path filePath = cardFolderStorage.getcardFolderFilesPath();
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        Path newFilePath = filePath.resolveSibling(baseName + cardFolderFileFormat.getFileExtension());
+
+        logger.info("Converting data file " + filePath + " to " + newFilePath);
+        CardFolderStorage convertedStorage = cardFolderStorageFactory.apply(newFilePath);
+        try {
+            convertedStorage.saveCardFolder(cardFolder);
+            AtomicFileWriter.whenCommitted(() -> updateSnapshot(newFilePath, cardFolder));
+            if (!normalize(newFilePath).equals(normalize(filePath))) {
+                cardFolderStorage.deleteCardFolder(filePath);
+                if (cardFolderSnapshot != null) {
+                    cardFolderSnapshot.remove(filePath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not convert data file " + filePath + ": " + e);
+            return;
+        }
+        cardFolderStorageList.set(index, convertedStorage);
+        if (cardFolderCatalog != null) {
+            cardFolderCatalog.remove(filePath);
+            cardFolderCatalog.update(newFilePath, cardFolder);
+            saveCatalog();
+        }
+    }
+
+    /**
+     * Returns true if {@code cardFolderStorage} saves its folder in the card folder file format of this storage
+     * manager. Json and journal storages read each other's files, so either is in the format of the other.
+     */
+    private boolean isInCardFolderFileFormat(CardFolderStorage cardFolderStorage) {
+        return (cardFolderStorage instanceof BinaryCardFolderStorage)
+                == (cardFolderFileFormat == DataFileFormat.BINARY);
+    }
+
+    /**
+     * Saves the CardFolder to the specified filePath.
+     * A folder whose cards are not loaded is not saved, as its data file already holds its cards. Its catalog entry
+     * is updated in memory only, and written with the next save of the list of card folders or flush.
      */
     @Override
     public void saveCardFolder(ReadOnlyCardFolder cardFolder, int index) throws IOException {
-        assert index < cardFolderStorageList.size();
+        if (index < 0 || index >= cardFolderStorageList.size()) {
+            throw new IOException("No data file for card folder " + cardFolder.getFolderName() + " at index " + index
+                    + " of " + cardFolderStorageList.size() + " data files");
+        }
         Path filePath = cardFolderStorageList.get(index).getcardFolderFilesPath();
+        if (!cardFolder.isLoaded()) {
+            logger.fine("Not writing data file " + filePath + " of a card folder whose cards are not loaded");
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
-        cardFolderStorageList.get(index).saveCardFolder(cardFolder, filePath);
+        bytesWritten += cardFolderStorageList.get(index).saveCardFolder(cardFolder, filePath);
+        AtomicFileWriter.whenCommitted(() -> updateSnapshot(filePath, cardFolder));
+        updateCatalog(filePath, cardFolder);
     }
 
+    /**
+     * Brings the folder data files at {@code path} in line with {@code cardFolders}.
+     * Only folders that were added, renamed or deleted since the last save are written: a folder without a data file
+     * of its name, which is either new or renamed, gets a new data file, and the data files of folders that are no
+     * longer in the list are deleted once every new data file is written. A renamed folder thus never takes over the
+     * data file of another folder, and a failed save leaves the previous data files in place.
+     * The storages follow {@code cardFolders} even if the save fails part way, so that later saves of single folders
+     * write to the data files of their own folders. Data files that failed to be written are written, and stale data
+     * files deleted, by the next save of the list of card folders.
+     * Changes to the cards within a folder are saved through {@link #saveCardFolder(ReadOnlyCardFolder, int)}.
+     * @throws IOException without changing any data file if a folder whose cards are not loaded needs a new one.
+     */
     @Override
     public void saveCardFolders(List<ReadOnlyCardFolder> cardFolders, Path path) throws IOException {
-        cardFolderStorageList.clear();
+        List<Path> filePaths = cardFolders.stream()
+                .map(cardFolder -> path.resolve(cardFolder.getFolderName() + cardFolderFileFormat.getFileExtension()))
+                .collect(Collectors.toList());
+        Set<Path> normalizedFilePaths = filePaths.stream()
+                .map(StorageManager::normalize)
+                .collect(Collectors.toSet());
+
+        Map<Path, CardFolderStorage> unchangedStorages = new HashMap<>();
+        List<CardFolderStorage> staleStorages = new ArrayList<>();
+        List<CardFolderStorage> knownStorages = new ArrayList<>(cardFolderStorageList);
+        knownStorages.addAll(staleCardFolderStorages);
+        for (CardFolderStorage cardFolderStorage : knownStorages) {
+            Path filePath = normalize(cardFolderStorage.getcardFolderFilesPath());
+            if (normalizedFilePaths.contains(filePath)) {
+                unchangedStorages.putIfAbsent(filePath, cardFolderStorage);
+            } else {
+                staleStorages.add(cardFolderStorage);
+            }
+        }
+        List<Boolean> isNewDataFile = new ArrayList<>();
+        for (int i = 0; i < cardFolders.size(); i++) {
+            Path filePath = filePaths.get(i);
+            isNewDataFile.add(!unchangedStorages.containsKey(normalize(filePath)) || !FileUtil.isFileExists(filePath));
+            if (!cardFolders.get(i).isLoaded() && isNewDataFile.get(i)) {
+                throw new IOException("Cannot write the data file of card folder " + cardFolders.get(i).getFolderName()
+                        + " whose cards are not loaded");
+            }
+        }
+
+        List<CardFolderStorage> updatedCardFolderStorageList = new ArrayList<>();
+        for (Path filePath : filePaths) {
+            CardFolderStorage cardFolderStorage = unchangedStorages.get(normalize(filePath));
+            updatedCardFolderStorageList.add(cardFolderStorage != null
+                    ? cardFolderStorage
+                    : cardFolderStorageFactory.apply(filePath));
+        }
+        cardFolderStorageList = updatedCardFolderStorageList;
+        staleCardFolderStorages = staleStorages;
+
+        for (int i = 0; i < cardFolders.size(); i++) {
+            Path filePath = filePaths.get(i);
+            if (isNewDataFile.get(i)) {
+                logger.fine("Attempting to write to data file: " + filePath);
+                bytesWritten += cardFolderStorageList.get(i).saveCardFolder(cardFolders.get(i));
+                updateSnapshot(filePath, cardFolders.get(i));
+                updateCatalog(filePath, cardFolders.get(i));
+            }
+        }
+
+        Iterator<CardFolderStorage> staleStorageIterator = staleCardFolderStorages.iterator();
+        while (staleStorageIterator.hasNext()) {
+            CardFolderStorage staleStorage = staleStorageIterator.next();
+            Path filePath = staleStorage.getcardFolderFilesPath();
+            if (FileUtil.isFileExists(filePath) && !isSameFileAsAny(filePath, filePaths)) {
+                logger.fine("Deleting data file: " + filePath);
+                staleStorage.deleteCardFolder(filePath);
+            }
+            staleStorageIterator.remove();
+        }
+        if (cardFolderCatalog != null) {
+            cardFolderCatalog.retainAll(filePaths);
+        }
+        if (cardFolderSnapshot != null) {
+            cardFolderSnapshot.retainAll(filePaths);
+        }
+        saveCatalog();
+    }
+
+    /**
+     * Returns the number of bytes the folder storages wrote to the data files, which for a journal is only the bytes
+     * appended to it. The bytes written in a batch are counted as they are written, before the batch commits.
+     */
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Calls {@code bytesWrittenHandler} at once, as card folders are written before the save methods return.
+     */
+    @Override
+    public void reportBytesWritten(LongConsumer bytesWrittenHandler) {
+        long bytesWrittenNow = bytesWritten;
+        bytesWrittenHandler.accept(bytesWrittenNow - bytesReported);
+        bytesReported = bytesWrittenNow;
+    }
+
+    /**
+     * Writes the catalog and snapshot of the card folders, if they are kept, as card folders themselves are written
+     * before the save methods return.
+     */
+    @Override
+    public void flush() {
+        saveCatalog();
+        saveSnapshot();
+    }
+
+    /**
+     * Does nothing, as a save that fails throws its exception from the save method.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+    }
 
-        // Clear directory before saving
-        if (Files.exists(path)) {
-            clearDirectory(path);
+    /**
+     * Records {@code cardFolder} as the folder in the data file at {@code filePath} in the catalog, if one is kept.
+     */
+    private void updateCatalog(Path filePath, ReadOnlyCardFolder cardFolder) {
+        if (cardFolderCatalog != null) {
+            cardFolderCatalog.update(filePath, cardFolder);
         }
+    }
 
-        for (ReadOnlyCardFolder cardFolder : cardFolders) {
-            Path filePath = path.resolve(cardFolder.getFolderName() + Storage.FILE_FORMAT);
-            CardFolderStorage cardFolderStorage = new JsonCardFolderStorage(filePath);
-            cardFolderStorageList.add(cardFolderStorage);
-            cardFolderStorage.saveCardFolder(cardFolder);
+    /**
+     * Writes the catalog, if one is kept.
+     * A catalog that fails to be written is only logged, as its out of date entries are ignored when it is read.
+     */
+    private void saveCatalog() {
+        if (cardFolderCatalog == null) {
+            return;
+        }
+        try {
+            cardFolderCatalog.save();
+        } catch (IOException e) {
+            logger.warning("Could not save the card folder catalog: " + e);
         }
     }
 
     /**
-     * Deletes every folder data file at the specified {@code path}
-     * If {@code path} is a folder data file, only the file will be deleted.
-     * If {@code path} is a folder, all folder data files inside the folder (but not the folder itself) will be deleted.
+     * Records {@code cardFolder} as the folder in the data file at {@code filePath} in the snapshot, if one is kept.
      */
-    private void clearDirectory(Path path) throws IOException {
-        // Obtain all files in directory
-        List<Path> pathsToDelete = Files.walk(path)
-                .filter(Files::isRegularFile)
-                .collect(Collectors.toList());
+    private void updateSnapshot(Path filePath, ReadOnlyCardFolder cardFolder) {
+        if (cardFolderSnapshot != null) {
+            cardFolderSnapshot.update(filePath, cardFolder);
+        }
+    }
 
-        // Process each file
-        for (Path pathToDelete : pathsToDelete) {
-            // Delete if file is indeed a folder data file
-            if (JsonCardFolderStorage.isCardFolderStorage(pathToDelete)) {
-                Files.deleteIfExists(pathToDelete);
+    /**
+     * Writes the snapshot, if one is kept.
+     * A snapshot that fails to be written is only logged, as its folders are read from their data files instead.
+     */
+    private void saveSnapshot() {
+        if (cardFolderSnapshot == null) {
+            return;
+        }
+        try {
+            cardFolderSnapshot.save();
+        } catch (IOException e) {
+            logger.warning("Could not save the card folder snapshot: " + e);
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} is the same file as any of {@code otherFilePaths}, as when a folder is renamed
+     * to a name that differs only in case on a file system that ignores case.
+     */
+    private static boolean isSameFileAsAny(Path filePath, List<Path> otherFilePaths) throws IOException {
+        for (Path otherFilePath : otherFilePaths) {
+            if (FileUtil.isFileExists(otherFilePath) && Files.isSameFile(filePath, otherFilePath)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private static Path normalize(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
     }
 }
@@ -0,0 +1,388 @@
+package seedu.knowitall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.knowitall.commons.core.LogsCenter;
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.util.AtomicFileWriter;
+import seedu.knowitall.model.CardFolderSummary;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.ReadOnlyUserPrefs;
+import seedu.knowitall.model.UserPrefs;
+
+/**
+ * Saves card folders to a {@code Storage} on a background thread, so that commands do not wait for data files to be
+ * written.
+ * Each save takes an {@link ImmutableCardFolder} copy of the card folders to be saved and returns once the save is
+ * queued. Queued saves are written as a group once the first of them has waited for the maximum save latency, in the
+ * order they were requested, and consecutive saves of the same folder are combined into a single write of its latest
+ * copy.
+ * The data files written by consecutive saves of single folders are committed to disk together. Saves that fail are
+ * reported to the save failure handler.
+ * The bytes written by queued saves are reported to the handler given with the saves, once they are written. A write
+ * that combines several saves of a folder is counted towards the first of them.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+    private static final String WRITER_THREAD_NAME = "card-folder-writer";
+
+    private final Storage storage;
+    private final long maxSaveLatencyMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Saves that have been queued but not started, in the order they were requested. Guarded by {@code this}. */
+    private final Deque<PendingSave> pendingSaves = new ArrayDeque<>();
+    /** Whether the queued saves are due to be written. Guarded by {@code this}. */
+    private boolean isWriteScheduled = false;
+    /** Whether saves were requested since the bytes written were last reported. Guarded by {@code this}. */
+    private boolean hasUnreportedSaves = false;
+    /** Bytes written by the storage up to the last report of the bytes written. Used by the writer thread only. */
+    private long bytesReported;
+    private volatile Consumer<IOException> saveFailureHandler = exception -> { };
+    /** The first save failure since the last flush. Guarded by {@code this}. */
+    private IOException unflushedFailure;
+
+    public WriteBehindStorage(Storage storage) {
+        this(storage, 0);
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes queued saves to {@code storage} at most
+     * {@code maxSaveLatencyMillis} milliseconds after they are queued, unless the writer is still busy with earlier
+     * saves.
+     */
+    public WriteBehindStorage(Storage storage, long maxSaveLatencyMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.maxSaveLatencyMillis = maxSaveLatencyMillis;
+        bytesReported = storage.getBytesWritten();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ CardFolder methods ==============================
+
+    /**
+     * Reads the card folders after waiting for all queued saves to be written.
+     */
+    @Override
+    public void readCardFolders(List<ReadOnlyCardFolder> readFolders) throws Exception {
+        flush();
+        storage.readCardFolders(readFolders);
+    }
+
+    /**
+     * Reads the card folder summaries after waiting for all queued saves to be written.
+     */
+    @Override
+    public void readCardFolderSummaries(List<CardFolderSummary> readSummaries) throws Exception {
+        flush();
+        storage.readCardFolderSummaries(readSummaries);
+    }
+
+    /**
+     * Reads the card folder at {@code index} after waiting for all queued saves to be written, so that the index
+     * refers to the same folder as in the list of card folders last saved.
+     * Failures of those saves have already been reported, and are left for the next flush to throw.
+     */
+    @Override
+    public ReadOnlyCardFolder readCardFolder(int index) throws DataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readCardFolder(index);
+    }
+
+    /**
+     * Re-reads the changed card folders after waiting for all queued saves to be written, so that the indexes of the
+     * changes refer to the list of card folders last saved, and the data files written by those saves are not taken
+     * for changes by other programs.
+     */
+    @Override
+    public List<CardFolderFileChange> readChangedCardFolders(Collection<Path> changedFilePaths)
+            throws IOException {
+        awaitPendingSaves();
+        return storage.readChangedCardFolders(changedFilePaths);
+    }
+
+    /**
+     * Queues a save of a copy of {@code cardFolder}.
+     * A folder whose cards are not loaded is not saved, as its data file already holds its cards.
+     */
+    @Override
+    public void saveCardFolder(ReadOnlyCardFolder cardFolder, int index) {
+        if (!cardFolder.isLoaded()) {
+            logger.fine("Not saving card folder " + cardFolder.getFolderName() + " whose cards are not loaded");
+            return;
+        }
+        enqueue(new PendingSave(index, ImmutableCardFolder.of(cardFolder)));
+    }
+
+    @Override
+    public void saveCardFolders(List<ReadOnlyCardFolder> cardFolders, Path cardFolderFilesPath) {
+        List<ReadOnlyCardFolder> snapshots = cardFolders.stream()
+                .map(ImmutableCardFolder::of)
+                .collect(Collectors.toList());
+        enqueue(new PendingSave(snapshots, cardFolderFilesPath));
+    }
+
+    /**
+     * Returns the number of bytes of card folder data written so far, which excludes saves that are still queued.
+     */
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+
+    /**
+     * Calls {@code bytesWrittenHandler} on the writer thread once the saves queued since the last call are written,
+     * or at once if there are none.
+     */
+    @Override
+    public void reportBytesWritten(LongConsumer bytesWrittenHandler) {
+        requireNonNull(bytesWrittenHandler);
+        synchronized (this) {
+            if (hasUnreportedSaves) {
+                hasUnreportedSaves = false;
+                enqueue(new PendingSave(bytesWrittenHandler));
+                return;
+            }
+        }
+        bytesWrittenHandler.accept(0);
+    }
+
+    /**
+     * Writes every save queued so far without waiting for the maximum save latency, blocks until they are
+     * written, and then flushes the underlying storage.
+     * @throws IOException if any save since the last flush failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitPendingSaves();
+        storage.flush();
+
+        synchronized (this) {
+            IOException failure = unflushedFailure;
+            unflushedFailure = null;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Writes every save queued so far without waiting for the maximum save latency, and blocks until they are
+     * written.
+     */
+    private void awaitPendingSaves() throws InterruptedIOException {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for card folders to be saved");
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting for queued saves should not fail.", e);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Queues {@code save}, combining it with a queued save of the same folder if there is one.
+     * Only saves queued after the last save of the list of card folders are combined, as that save may change which
+     * data file a folder index refers to.
+     */
+    private synchronized void enqueue(PendingSave save) {
+        hasUnreportedSaves |= !save.isBytesWrittenReport();
+        if (save.isSingleFolder()) {
+            Iterator<PendingSave> queuedSaves = pendingSaves.descendingIterator();
+            while (queuedSaves.hasNext()) {
+                PendingSave queuedSave = queuedSaves.next();
+                if (queuedSave.isBytesWrittenReport()) {
+                    continue;
+                }
+                if (queuedSave.isListOfFolders()) {
+                    break;
+                }
+                if (queuedSave.index == save.index) {
+                    queuedSave.cardFolder = save.cardFolder;
+                    return;
+                }
+            }
+        }
+
+        pendingSaves.add(save);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingSaves, maxSaveLatencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all queued saves. Runs on the writer thread.
+     * Every save that fails, including with an unexpected runtime exception, is reported, and the saves after it
+     * are still written.
+     * The saves of single folders between saves of the list of card folders are written in one batch, so that their
+     * data files are committed to disk together. Saves of the list of card folders write and delete data files, so
+     * they are written on their own. The bytes written by the saves in a batch are reported once the batch is
+     * committed or has failed.
+     */
+    private void writePendingSaves() {
+        List<PendingSave> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(pendingSaves);
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        int i = 0;
+        while (i < saves.size()) {
+            if (saves.get(i).isBytesWrittenReport()) {
+                saves.get(i++).bytesWrittenHandler.accept(getBytesWrittenSinceLastReport());
+                continue;
+            }
+            if (saves.get(i).isListOfFolders()) {
+                PendingSave save = saves.get(i++);
+                try {
+                    storage.saveCardFolders(save.cardFolders, save.cardFolderFilesPath);
+                } catch (IOException e) {
+                    reportFailure(e);
+                } catch (RuntimeException e) {
+                    reportFailure(new IOException("Unexpected failure saving card folders: " + e, e));
+                }
+                continue;
+            }
+
+            List<Runnable> bytesWrittenReports = new ArrayList<>();
+            try (AtomicFileWriter.Batch batch = AtomicFileWriter.beginBatch()) {
+                for (; i < saves.size() && !saves.get(i).isListOfFolders(); i++) {
+                    if (saves.get(i).isBytesWrittenReport()) {
+                        LongConsumer bytesWrittenHandler = saves.get(i).bytesWrittenHandler;
+                        long bytesWritten = getBytesWrittenSinceLastReport();
+                        bytesWrittenReports.add(() -> bytesWrittenHandler.accept(bytesWritten));
+                        continue;
+                    }
+                    try {
+                        storage.saveCardFolder(saves.get(i).cardFolder, saves.get(i).index);
+                    } catch (IOException e) {
+                        reportFailure(e);
+                    } catch (RuntimeException e) {
+                        reportFailure(new IOException("Unexpected failure saving card folder: " + e, e));
+                    }
+                }
+                batch.commit();
+            } catch (IOException e) {
+                reportFailure(e);
+            } catch (RuntimeException e) {
+                reportFailure(new IOException("Unexpected failure committing card folders: " + e, e));
+            }
+            bytesWrittenReports.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Returns the bytes written since the last report, which is then counted as reported. Runs on the writer thread.
+     */
+    private long getBytesWrittenSinceLastReport() {
+        long bytesWrittenNow = storage.getBytesWritten();
+        long bytesWritten = bytesWrittenNow - bytesReported;
+        bytesReported = bytesWrittenNow;
+        return bytesWritten;
+    }
+
+    /**
+     * Records {@code e} as a save failure to be thrown by the next flush, and reports it to the save failure handler.
+     */
+    private void reportFailure(IOException e) {
+        logger.warning("Failed to save card folder data: " + e);
+        synchronized (this) {
+            if (unflushedFailure == null) {
+                unflushedFailure = e;
+            }
+        }
+        saveFailureHandler.accept(e);
+    }
+
+    /**
+     * A queued save of either a single card folder or the list of all card folders, or a report of the bytes written
+     * by the saves queued before it.
+     */
+    private static class PendingSave {
+        private final int index;
+        private ReadOnlyCardFolder cardFolder;
+        private final List<ReadOnlyCardFolder> cardFolders;
+        private final Path cardFolderFilesPath;
+        private final LongConsumer bytesWrittenHandler;
+
+        PendingSave(int index, ReadOnlyCardFolder cardFolder) {
+            this.index = index;
+            this.cardFolder = cardFolder;
+            this.cardFolders = null;
+            this.cardFolderFilesPath = null;
+            this.bytesWrittenHandler = null;
+        }
+
+        PendingSave(List<ReadOnlyCardFolder> cardFolders, Path cardFolderFilesPath) {
+            this.index = -1;
+            this.cardFolder = null;
+            this.cardFolders = cardFolders;
+            this.cardFolderFilesPath = cardFolderFilesPath;
+            this.bytesWrittenHandler = null;
+        }
+
+        PendingSave(LongConsumer bytesWrittenHandler) {
+            this.index = -1;
+            this.cardFolder = null;
+            this.cardFolders = null;
+            this.cardFolderFilesPath = null;
+            this.bytesWrittenHandler = bytesWrittenHandler;
+        }
+
+        boolean isSingleFolder() {
+            return cardFolder != null;
+        }
+
+        boolean isListOfFolders() {
+            return cardFolders != null;
+        }
+
+        boolean isBytesWrittenReport() {
+            return bytesWrittenHandler != null;
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package seedu.knowitall.storage.csvmanager;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import seedu.knowitall.commons.core.Messages;
+import seedu.knowitall.commons.util.FileUtil;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.CardFolder;
 import seedu.knowitall.model.ReadOnlyCardFolder;
@@ -34,9 +43,14 @@ public class CsvManager implements CsvCommands {
 
 
     private static final String COMMA_DELIMITTER = ",";
-    private static final String NEW_LINE_SEPARATOR = "\n";
     private static final String CARD_HEADERS = "Question,Answer,Hints,Options";
     private static final String TEST_FOLDER_PATH = "test";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final int MAX_WRITER_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    private static final String MESSAGE_DUPLICATE_CARD = "Card with the same question and answer appears "
+            + "earlier in the file";
+    private static final int NUM_CARD_FIELDS = 4;
 
     private String defaultPath;
     private boolean isImportTest = false;
@@ -54,52 +68,75 @@ public class CsvManager implements CsvCommands {
         if (!fileExists(csvFile)) {
             throw new FileNotFoundException();
         }
-        String filePath = defaultPath + "/" + csvFile.filename;
+        Path filePath = Paths.get(defaultPath, csvFile.filename);
         String filename = csvFile.filename;
         String folderName = filename.split("\\.")[0];
         CardFolder cardFolder = new CardFolder(folderName);
-        BufferedReader bufferedReader = new BufferedReader(new FileReader(filePath));
-        String line;
-        String header = bufferedReader.readLine();
-
-        if (!checkCorrectHeaders(header)) {
-            throw new IncorrectCsvHeadersException(Messages.MESSAGE_INCORRECT_CSV_FILE_HEADER);
-        }
-
-        while ((line = bufferedReader.readLine()) != null) {
-
-            // split quotes within card field by commas
-            String[] stringCard = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
 
+        try (CsvReader csvReader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            if (!checkCorrectHeaders(readRow(csvReader))) {
+                throw new IncorrectCsvHeadersException(Messages.MESSAGE_INCORRECT_CSV_FILE_HEADER);
+            }
 
-            Card card = buildCard(stringCard);
-            cardFolder.addCard(card);
-        }
-        if (bufferedReader != null) {
-            bufferedReader.close();
+            // cards are only added to the folder once every row has been read and checked
+            List<Card> cards = new ArrayList<>();
+            Set<List<Object>> cardIdentities = new HashSet<>();
+            List<String> row;
+            while ((row = readRow(csvReader)) != null) {
+                if (isBlankRow(row)) {
+                    continue;
+                }
+
+                Card card = buildCard(row, csvReader.getRecordLineNumber());
+                if (!cardIdentities.add(Arrays.asList(card.getQuestion(), card.getAnswer()))) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_ROW_ERROR,
+                            csvReader.getRecordLineNumber(), MESSAGE_DUPLICATE_CARD));
+                }
+                cards.add(card);
+            }
+            cardFolder.setCards(cards);
         }
         return cardFolder;
     }
 
     /**
-     * Builds a card object from each line of the csv file imported. Throws IllegalArgumentException in the event that
-     * lines in csv file do not follow {@code Card} field specifications.
+     * Returns the next row of the csv file, or {@code null} if there are no more rows.
+     * Throws IllegalArgumentException with the line number of the row if it is not valid csv.
      */
-    private Card buildCard(String[] rawStringCard) throws IllegalArgumentException {
-        // cardValues = {"question", "answer", "hint","option"}
+    private List<String> readRow(CsvReader csvReader) throws IOException {
+        try {
+            return csvReader.readRecord();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_ROW_ERROR,
+                    csvReader.getRecordLineNumber(), e.getMessage()), e);
+        }
+    }
 
-        // Allow only one option per card
-        String[] stringCard = Arrays.copyOfRange(rawStringCard, 0, 4);
+    private boolean isBlankRow(List<String> row) {
+        return row.size() == 1 && row.get(0).trim().isEmpty();
+    }
 
-        // remove double quotes from each string array
-        String[] cardValues = Stream.of(stringCard).map(line -> line.replace("\"", ""))
-                .toArray(String[]::new);
+    /**
+     * Builds a card object from a row of the csv file imported. Throws IllegalArgumentException with the line
+     * number of the row in the event that the row does not follow {@code Card} field specifications.
+     */
+    private Card buildCard(List<String> row, int lineNumber) throws IllegalArgumentException {
+        // cardValues = {"question", "answer", "hint","option"}
+        // Allow only one option per card, missing trailing fields are left empty
+        String[] cardValues = new String[NUM_CARD_FIELDS];
+        for (int i = 0; i < NUM_CARD_FIELDS; i++) {
+            cardValues[i] = i < row.size() ? row.get(i) : "";
+        }
 
-        Question question = new Question(cardValues[0]);
-        Answer answer = new Answer(cardValues[1]);
-        Set<Option> optionSet = buildOptions(cardValues);
-        Set<Hint> hintSet = buildHint(cardValues);
-        return new Card(question, answer, new Score(0, 0), optionSet, hintSet);
+        try {
+            Question question = new Question(cardValues[0]);
+            Answer answer = new Answer(cardValues[1]);
+            Set<Option> optionSet = buildOptions(cardValues);
+            Set<Hint> hintSet = buildHint(cardValues);
+            return new Card(question, answer, new Score(0, 0), optionSet, hintSet);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_ROW_ERROR, lineNumber, e.getMessage()), e);
+        }
     }
 
     /**
@@ -133,40 +170,92 @@ public class CsvManager implements CsvCommands {
      * checks whether the headers of the imported file conforms to the specifications of the csv file header. Throws
      * Command Exception if file is empty or headers do not follow specifications.
      */
-    private boolean checkCorrectHeaders(String header) throws CommandException {
+    private boolean checkCorrectHeaders(List<String> header) throws CommandException {
         if (header == null) {
             throw new CommandException(Messages.MESSAGE_EMPTY_CSV_FILE);
         }
 
         String[] cardHeaders = CARD_HEADERS.split(",");
-        String[] fileHeaders = header.split(",");
 
-        if (cardHeaders.length != fileHeaders.length) {
+        if (cardHeaders.length != header.size()) {
             return false;
         }
 
         for (int i = 0; i < cardHeaders.length; i++) {
-            if (!cardHeaders[i].toLowerCase().equals(fileHeaders[i].toLowerCase())) {
+            if (!cardHeaders[i].equalsIgnoreCase(header.get(i))) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Exports each of {@code cardFolders} to its own csv file, with the folders written concurrently.
+     * Each file is first written in full to a temporary file next to it, and then renamed over the target file, so
+     * an existing export is never left partially overwritten.
+     */
     @Override
     public void writeFoldersToCsv(List<ReadOnlyCardFolder> cardFolders) throws IOException {
-        for (ReadOnlyCardFolder readOnlyCardFolder : cardFolders) {
-            List<Card> cardList = readOnlyCardFolder.getCardList();
-            String folderName = getFolderName(readOnlyCardFolder);
-            FileWriter fileWriter = new FileWriter(defaultPath + "/" + folderName + ".csv");
-            fileWriter.append(CARD_HEADERS + NEW_LINE_SEPARATOR);
-            for (Card card : cardList) {
-                String cardRepresentation = getCardString(card);
-                fileWriter.append(cardRepresentation);
-                fileWriter.append(NEW_LINE_SEPARATOR);
+        if (cardFolders.isEmpty()) {
+            return;
+        }
+
+        int poolSize = Math.min(cardFolders.size(), MAX_WRITER_THREADS);
+        ExecutorService writers = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<Void>> pendingWrites = new ArrayList<>();
+            for (ReadOnlyCardFolder cardFolder : cardFolders) {
+                pendingWrites.add(writers.submit(() -> {
+                    writeFolderToCsv(cardFolder);
+                    return null;
+                }));
             }
-            fileWriter.flush();
-            fileWriter.close();
+
+            IOException exception = null;
+            for (Future<Void> pendingWrite : pendingWrites) {
+                try {
+                    pendingWrite.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        exception = (IOException) e.getCause();
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else {
+                        throw (Error) e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while exporting card folders");
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes {@code cardFolder} to a temporary file, then moves it to the folder's csv file.
+     */
+    private void writeFolderToCsv(ReadOnlyCardFolder cardFolder) throws IOException {
+        Path filePath = Paths.get(defaultPath, getFolderName(cardFolder) + CSV_EXTENSION);
+        Path tempFilePath = FileUtil.createTempFileFor(filePath);
+        try {
+            try (CsvWriter csvWriter = new CsvWriter(FileChannel.open(tempFilePath, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING))) {
+                for (String header : CARD_HEADERS.split(COMMA_DELIMITTER)) {
+                    csvWriter.writeField(header);
+                }
+                csvWriter.endRecord();
+                for (Card card : cardFolder.getCardList()) {
+                    writeCard(card, csvWriter);
+                }
+            }
+            FileUtil.moveReplacing(tempFilePath, filePath);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
         }
     }
 
@@ -198,59 +287,28 @@ public class CsvManager implements CsvCommands {
         }
     }
 
-    private String getCardString(Card card) {
-        StringBuilder stringBuilder = new StringBuilder();
-        parseQuestion(card.getQuestion(), stringBuilder);
-        parseAnswer(card.getAnswer(), stringBuilder);
-        parseHints(card.getHints(), stringBuilder);
-        parseOptions(card.getOptions(), stringBuilder);
-        return stringBuilder.toString();
-    }
-
     /**
-     * Parses quotation marks to card field strings if comma value is present within field.
+     * Writes {@code card} as one record: its question and answer, then one field per hint (or an empty field if it
+     * has none), then one field per option (or an empty field if it has none).
      */
-    private String parseQuotationMarks(String cardField) {
-        if (cardField.contains(",")) {
-            return "\"" + cardField + "\"";
-        } else {
-            return cardField;
-        }
-    }
-
-    private void parseQuestion(Question question, StringBuilder stringBuilder) {
-        String questionString = parseQuotationMarks(question.toString());
-        stringBuilder.append(questionString + COMMA_DELIMITTER);
-    }
-
-    private void parseAnswer(Answer answer, StringBuilder stringBuilder) {
-        String answerString = parseQuotationMarks(answer.toString());
-        stringBuilder.append(answerString + COMMA_DELIMITTER);
+    private void writeCard(Card card, CsvWriter csvWriter) throws IOException {
+        csvWriter.writeField(card.getQuestion().toString());
+        csvWriter.writeField(card.getAnswer().toString());
+        writeFields(card.getHints().stream().map(hint -> hint.hintName), csvWriter);
+        writeFields(card.getOptions().stream().map(option -> option.optionValue), csvWriter);
+        csvWriter.endRecord();
     }
 
     /**
-     * Parses each {@code Set<Option>} of the card attribute into a string
+     * Writes each of {@code values} as a field, or a single empty field if there are none.
      */
-    private void parseOptions(Set<Option> options, StringBuilder stringBuilder) {
-        if (options.isEmpty()) {
-            return;
-        } else {
-            Set<String> optionString = options.stream().map(x -> x.optionValue).collect(Collectors.toSet());
-            String toJoin = String.join(",", optionString);
-            stringBuilder.append(toJoin);
-
+    private void writeFields(Stream<String> values, CsvWriter csvWriter) throws IOException {
+        Iterator<String> iterator = values.iterator();
+        if (!iterator.hasNext()) {
+            csvWriter.writeField("");
         }
-    }
-
-    /**
-     * Parses each {@code Set<Hint>} of the card attribute into a string
-     */
-    private void parseHints(Set<Hint> hintSet, StringBuilder stringBuilder) {
-        if (hintSet.isEmpty()) {
-            stringBuilder.append("" + COMMA_DELIMITTER);
-        } else {
-            hintSet.forEach(hint -> stringBuilder.append(parseQuotationMarks(hint.hintName))
-                    .append(COMMA_DELIMITTER));
+        while (iterator.hasNext()) {
+            csvWriter.writeField(iterator.next());
         }
     }
 }
@@ -0,0 +1,161 @@
+package seedu.knowitall.storage.csvmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads records from RFC 4180 formatted csv text, one character at a time and in a single pass.
+ * Quoted fields may contain separators, line breaks and escaped (doubled) quotes. A quote that does not open a
+ * field is read as an ordinary character. Records may end with either LF or CRLF.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not closed before the end of the file";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+    private static final int END_OF_INPUT = -1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position = 0;
+    private int limit = 0;
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the line number on which the record last returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Returns the fields of the next record, or {@code null} if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     * @throws IllegalArgumentException if a quoted field is not closed before the end of the input.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean isAtFieldStart = true;
+        while (true) {
+            if (c == QUOTE && isAtFieldStart) {
+                readQuotedField();
+                isAtFieldStart = false;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                isAtFieldStart = true;
+            } else if (c == CARRIAGE_RETURN || c == LINE_FEED || c == END_OF_INPUT) {
+                fields.add(field.toString());
+                skipLineBreak(c);
+                return fields;
+            } else {
+                field.append((char) c);
+                isAtFieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Reads the rest of a quoted field, whose opening quote has just been read, into {@code field}.
+     */
+    private void readQuotedField() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+            }
+
+            if (c == QUOTE) {
+                int next = read();
+                if (next != QUOTE) {
+                    unread(next);
+                    return;
+                }
+                field.append(QUOTE);
+            } else if (c == CARRIAGE_RETURN) {
+                field.append(CARRIAGE_RETURN);
+                int next = read();
+                if (next == LINE_FEED) {
+                    field.append(LINE_FEED);
+                } else {
+                    unread(next);
+                }
+                lineNumber++;
+            } else {
+                if (c == LINE_FEED) {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Consumes the rest of the record terminator {@code c} that has just been read, including the LF of a CRLF pair.
+     */
+    private void skipLineBreak(int c) throws IOException {
+        if (c == END_OF_INPUT) {
+            return;
+        }
+        if (c == CARRIAGE_RETURN) {
+            int next = read();
+            if (next != LINE_FEED) {
+                unread(next);
+            }
+        }
+        lineNumber++;
+    }
+
+    /**
+     * Returns the next character of the input, refilling the buffer when it runs out.
+     */
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Pushes back the character {@code c} that was just returned by {@link #read()}.
+     */
+    private void unread(int c) {
+        if (c != END_OF_INPUT) {
+            position--;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
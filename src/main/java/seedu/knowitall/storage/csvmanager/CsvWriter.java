@@ -0,0 +1,130 @@
+package seedu.knowitall.storage.csvmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 formatted csv records to a byte channel.
+ * Fields are encoded as UTF-8 straight into a reusable byte buffer, which is written out whenever it fills up, so
+ * no intermediate string is built per record. A field is quoted only if it contains a separator, a quote or a line
+ * break, and quotes within it are doubled.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String ESCAPED_QUOTE = "\"\"";
+    private static final String RECORD_SEPARATOR = "\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private boolean isAtRecordStart = true;
+
+    public CsvWriter(WritableByteChannel channel) {
+        requireNonNull(channel);
+        this.channel = channel;
+    }
+
+    /**
+     * Writes {@code value} as the next field of the current record.
+     */
+    public void writeField(String value) throws IOException {
+        requireNonNull(value);
+        if (!isAtRecordStart) {
+            write(String.valueOf(SEPARATOR));
+        }
+        isAtRecordStart = false;
+
+        if (!needsQuotes(value)) {
+            write(value);
+            return;
+        }
+
+        write(String.valueOf(QUOTE));
+        int start = 0;
+        int quoteIndex;
+        while ((quoteIndex = value.indexOf(QUOTE, start)) != -1) {
+            write(CharBuffer.wrap(value, start, quoteIndex));
+            write(ESCAPED_QUOTE);
+            start = quoteIndex + 1;
+        }
+        write(CharBuffer.wrap(value, start, value.length()));
+        write(String.valueOf(QUOTE));
+    }
+
+    /**
+     * Ends the current record.
+     */
+    public void endRecord() throws IOException {
+        write(RECORD_SEPARATOR);
+        isAtRecordStart = true;
+    }
+
+    /**
+     * Returns true if {@code value} must be quoted to be read back as a single field.
+     */
+    private boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(String text) throws IOException {
+        write(CharBuffer.wrap(text));
+    }
+
+    /**
+     * Encodes {@code chars} into the byte buffer, writing the buffer to the channel each time it fills up.
+     */
+    private void write(CharBuffer chars) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, byteBuffer, false);
+            if (result.isOverflow()) {
+                flushBuffer();
+            } else if (result.isError()) {
+                result.throwException();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes everything in the byte buffer to the channel.
+     */
+    private void flushBuffer() throws IOException {
+        byteBuffer.flip();
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+        byteBuffer.clear();
+    }
+
+    /**
+     * Writes out any buffered bytes and closes the channel.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.encode(CharBuffer.allocate(0), byteBuffer, true);
+            encoder.flush(byteBuffer);
+            flushBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import seedu.knowitall.storage.JsonCardFolderStorage;
 import seedu.knowitall.storage.JsonUserPrefsStorage;
 import seedu.knowitall.storage.StorageManager;
 import seedu.knowitall.storage.UserPrefsStorage;
+import seedu.knowitall.storage.WriteBehindStorage;
 import seedu.knowitall.testutil.TestUtil;
 import seedu.knowitall.ui.UiManager;
 import systemtests.ModelHelper;
@@ -73,7 +74,7 @@ public class TestApp extends MainApp {
         Path cardFolderFilesPath = userPrefs.getcardFolderFilesPath();
         cardFolderStorageList.add(new JsonCardFolderStorage(cardFolderFilesPath));
 
-        storage = new StorageManager(cardFolderStorageList, userPrefsStorage);
+        storage = new WriteBehindStorage(new StorageManager(cardFolderStorageList, userPrefsStorage));
 
         initLogging(config);
 
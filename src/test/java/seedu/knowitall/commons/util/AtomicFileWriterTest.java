@@ -0,0 +1,124 @@
+package seedu.knowitall.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class AtomicFileWriterTest {
+
+    private static final String OLD_CONTENTS = "old";
+    private static final String NEW_CONTENTS = "new";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = testFolder.getRoot().toPath().resolve("file.txt");
+        Files.write(file, OLD_CONTENTS.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_noBatch_contentsReplaced() throws Exception {
+        AtomicFileWriter.write(file, out -> out.write(NEW_CONTENTS.getBytes(StandardCharsets.UTF_8)));
+
+        assertContents(NEW_CONTENTS);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void write_writerFails_contentsKept() throws Exception {
+        try {
+            AtomicFileWriter.write(file, out -> {
+                out.write(NEW_CONTENTS.getBytes(StandardCharsets.UTF_8));
+                throw new IOException("dummy exception");
+            });
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertContents(OLD_CONTENTS);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void write_inBatch_contentsReplacedOnCommit() throws Exception {
+        List<String> committedContents = new ArrayList<>();
+
+        try (AtomicFileWriter.Batch batch = AtomicFileWriter.beginBatch()) {
+            AtomicFileWriter.write(file, out -> out.write(NEW_CONTENTS.getBytes(StandardCharsets.UTF_8)));
+            AtomicFileWriter.whenCommitted(() -> committedContents.add(readContents()));
+            assertContents(OLD_CONTENTS);
+            assertTrue(committedContents.isEmpty());
+
+            batch.commit();
+        }
+
+        assertContents(NEW_CONTENTS);
+        assertEquals(1, committedContents.size());
+        assertEquals(NEW_CONTENTS, committedContents.get(0));
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void write_batchClosedWithoutCommit_contentsKept() throws Exception {
+        List<String> committedContents = new ArrayList<>();
+
+        AtomicFileWriter.Batch batch = AtomicFileWriter.beginBatch();
+        AtomicFileWriter.write(file, out -> out.write(NEW_CONTENTS.getBytes(StandardCharsets.UTF_8)));
+        AtomicFileWriter.whenCommitted(() -> committedContents.add(readContents()));
+        batch.close();
+
+        assertContents(OLD_CONTENTS);
+        assertTrue(committedContents.isEmpty());
+        assertNoTempFiles();
+
+        // writes after the batch is closed are not batched
+        AtomicFileWriter.write(file, out -> out.write(NEW_CONTENTS.getBytes(StandardCharsets.UTF_8)));
+        assertContents(NEW_CONTENTS);
+    }
+
+    @Test
+    public void beginBatch_batchAlreadyOpen_throwsIllegalStateException() {
+        AtomicFileWriter.Batch batch = AtomicFileWriter.beginBatch();
+        try {
+            thrown.expect(IllegalStateException.class);
+            AtomicFileWriter.beginBatch();
+        } finally {
+            batch.close();
+        }
+    }
+
+    private String readContents() throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private void assertContents(String expected) throws IOException {
+        assertEquals(expected, readContents());
+    }
+
+    private void assertNoTempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertFalse(files.anyMatch(FileUtil::isTempFile));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.knowitall.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class ChangeListenerManagerTest {
+    private final ChangeListenerManager<String> changeListenerManager = new ChangeListenerManager<>();
+    private final List<List<String>> deliveries = new ArrayList<>();
+
+    @Test
+    public void fireChange_outsideBatch_changeDeliveredImmediately() {
+        changeListenerManager.addListener(deliveries::add);
+        changeListenerManager.fireChange("a");
+        changeListenerManager.fireChange("b");
+        assertEquals(Arrays.asList(Collections.singletonList("a"), Collections.singletonList("b")), deliveries);
+    }
+
+    @Test
+    public void fireChange_withinNestedBatches_changesDeliveredOnceAtOutermostEnd() {
+        changeListenerManager.addListener(deliveries::add);
+        changeListenerManager.beginBatch();
+        changeListenerManager.fireChange("a");
+        changeListenerManager.beginBatch();
+        changeListenerManager.fireChange("b");
+        changeListenerManager.endBatch();
+        assertEquals(Collections.emptyList(), deliveries);
+
+        changeListenerManager.endBatch();
+        assertEquals(Collections.singletonList(Arrays.asList("a", "b")), deliveries);
+    }
+
+    @Test
+    public void endBatch_noChanges_nothingDelivered() {
+        changeListenerManager.addListener(deliveries::add);
+        changeListenerManager.beginBatch();
+        changeListenerManager.endBatch();
+        assertEquals(Collections.emptyList(), deliveries);
+    }
+
+    @Test
+    public void unsubscribe_sameListenerAddedTwice_oneListenerRemoved() {
+        Consumer<List<String>> listener = deliveries::add;
+        changeListenerManager.addListener(listener);
+        Subscription subscription = changeListenerManager.addListener(listener);
+        subscription.unsubscribe();
+        subscription.unsubscribe();
+        changeListenerManager.fireChange("a");
+        assertEquals(1, deliveries.size());
+    }
+
+    @Test
+    public void unsubscribe_listenersBeingCalled_listenerStillCalled() {
+        Subscription[] subscription = new Subscription[1];
+        changeListenerManager.addListener(changes -> subscription[0].unsubscribe());
+        subscription[0] = changeListenerManager.addListener(deliveries::add);
+        changeListenerManager.fireChange("a");
+        changeListenerManager.fireChange("b");
+        assertEquals(Collections.singletonList(Collections.singletonList("a")), deliveries);
+    }
+}
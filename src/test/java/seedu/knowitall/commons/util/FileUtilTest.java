@@ -1,14 +1,25 @@
 package seedu.knowitall.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.knowitall.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +32,29 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readToBuffer_smallFile_contentsRead() throws Exception {
+        assertReadToBuffer(new byte[] {1, 2, 3});
+    }
+
+    @Test
+    public void readToBuffer_largeFile_contentsRead() throws Exception {
+        byte[] contents = new byte[(int) FileUtil.MIN_MAPPED_FILE_SIZE + 1];
+        Arrays.fill(contents, (byte) 7);
+        contents[contents.length - 1] = 8;
+        assertReadToBuffer(contents);
+    }
+
+    /**
+     * Asserts that {@link FileUtil#readToBuffer(Path)} reads back a file with {@code contents} as a read-only buffer.
+     */
+    private void assertReadToBuffer(byte[] contents) throws Exception {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, contents);
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file);
+        assertTrue(buffer.isReadOnly());
+        assertEquals(ByteBuffer.wrap(contents), buffer);
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.knowitall.commons.util;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.Test;
@@ -39,6 +41,17 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void fromJsonBuffer_validJson_correctObject() throws IOException {
+        ByteBuffer json = ByteBuffer.wrap(SerializableTestClass.JSON_STRING_REPRESENTATION
+                .getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+        SerializableTestClass serializableTestClass = JsonUtil.fromJsonBuffer(json, SerializableTestClass.class);
+
+        assertEquals(serializableTestClass.getQuestion(), SerializableTestClass.getQuestionTestValue());
+        assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -2,10 +2,15 @@ package seedu.knowitall.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -137,6 +142,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getSearchWords --------------------------------------
+
+    @Test
+    public void getSearchWords_validInputs_correctResult() {
+        // Empty sentence
+        assertEquals(Collections.emptySet(), StringUtil.getSearchWords("    "));
+
+        // Mixed case, extra spaces and repeated words
+        assertEquals(new HashSet<>(Arrays.asList("aaa", "bbb", "ccc@1")),
+                StringUtil.getSearchWords("  AAA   bBb ccc@1  bbb "));
+
+        // Normalized words are found when containsWordIgnoreCase matches
+        assertTrue(StringUtil.getSearchWords("aaa bBb ccc").contains(StringUtil.toSearchWord("  Bbb  ")));
+        assertFalse(StringUtil.getSearchWords("aaa bbb ccc").contains(StringUtil.toSearchWord("bb")));
+    }
+
+    @Test
+    public void toSearchWord_turkishDefaultLocale_lowerCasedInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // In a Turkish locale, an uppercase I lower cases to a dotless i
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("info", StringUtil.toSearchWord("INFO"));
+            assertTrue(StringUtil.getSearchWords("Info desk").contains(StringUtil.toSearchWord("info")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,116 @@
+package seedu.knowitall.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.knowitall.logic.CommandMetrics.CommandWordMetrics;
+import seedu.knowitall.logic.commands.AnswerCommand;
+import seedu.knowitall.logic.commands.ListCommand;
+import seedu.knowitall.model.card.Answer;
+
+public class CommandMetricsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void record_nullCommandWord_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        metrics.record(null, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void getCommandWord_command_commandWordOfItsClass() {
+        assertEquals(ListCommand.COMMAND_WORD, CommandMetrics.getCommandWord(new ListCommand()));
+        assertEquals(AnswerCommand.COMMAND_WORD, CommandMetrics.getCommandWord(new AnswerCommand(new Answer("a"))));
+    }
+
+    @Test
+    public void record_sameCommandWord_accumulates() {
+        metrics.record("add", millis(1), millis(2), millis(3), 1000);
+        metrics.recordBytesWritten("add", 100);
+        metrics.record("add", 0, millis(25), 0, 500);
+        metrics.recordBytesWritten("add", 50);
+
+        List<CommandWordMetrics> recorded = metrics.getMetrics();
+        assertEquals(1, recorded.size());
+
+        CommandWordMetrics addMetrics = recorded.get(0);
+        assertEquals("add", addMetrics.getCommandWord());
+        assertEquals(2, addMetrics.getCount());
+        assertEquals(150, addMetrics.getTotalBytesWritten());
+        assertEquals(1500, addMetrics.getTotalAllocatedBytes());
+
+        // 6ms falls in the <10ms bucket and 25ms in the <50ms bucket
+        long[] expectedHistogram = new long[CommandMetrics.getLatencyBucketBoundsMillis().length + 1];
+        expectedHistogram[3] = 1;
+        expectedHistogram[5] = 1;
+        assertArrayEquals(expectedHistogram, addMetrics.getLatencyHistogram());
+    }
+
+    @Test
+    public void record_slowCommand_countedInLastBucket() {
+        metrics.record("export", 0, TimeUnit.SECONDS.toNanos(5), 0, 0);
+
+        long[] histogram = metrics.getMetrics().get(0).getLatencyHistogram();
+        assertEquals(1, histogram[histogram.length - 1]);
+    }
+
+    @Test
+    public void record_allocationUnavailable_reportedAsUnavailable() {
+        metrics.record("list", 0, 0, 0, 1000);
+        metrics.record("list", 0, 0, 0, CommandMetrics.ALLOCATION_UNAVAILABLE);
+        metrics.record("list", 0, 0, 0, 1000);
+
+        assertEquals(CommandMetrics.ALLOCATION_UNAVAILABLE, metrics.getMetrics().get(0).getTotalAllocatedBytes());
+    }
+
+    @Test
+    public void getLatencyBucketBoundsMillis_modified_boundsUnchanged() {
+        CommandMetrics.getLatencyBucketBoundsMillis()[0] = 1000;
+        metrics.record("list", millis(5), 0, 0, 0);
+
+        // 5ms still falls in the <10ms bucket
+        assertEquals(1, metrics.getMetrics().get(0).getLatencyHistogram()[3]);
+    }
+
+    @Test
+    public void getMetrics_differentCommandWords_orderedByCommandWord() {
+        metrics.record("list", 0, 0, 0, 0);
+        metrics.record("add", 0, 0, 0, 0);
+
+        List<CommandWordMetrics> recorded = metrics.getMetrics();
+        assertEquals(2, recorded.size());
+        assertEquals("add", recorded.get(0).getCommandWord());
+        assertEquals("list", recorded.get(1).getCommandWord());
+    }
+
+    @Test
+    public void getSummary() {
+        // no commands recorded
+        assertEquals("No commands have been executed yet.", metrics.getSummary());
+
+        metrics.record("add", millis(1), millis(2), millis(3), 1000);
+        metrics.recordBytesWritten("add", 100);
+        String summary = metrics.getSummary();
+        assertTrue(summary.contains("add: 1 runs"));
+        assertTrue(summary.contains("save 3.00"));
+        assertTrue(summary.contains("100 bytes written"));
+        assertTrue(summary.contains("1000 bytes allocated"));
+        assertTrue(summary.contains("<10ms: 1"));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
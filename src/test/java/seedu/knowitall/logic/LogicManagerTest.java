@@ -1,6 +1,7 @@
 package seedu.knowitall.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.knowitall.commons.core.Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX;
 import static seedu.knowitall.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.knowitall.logic.commands.CommandTestUtil.ANSWER_DESC_SAMPLE_1;
@@ -8,6 +9,7 @@ import static seedu.knowitall.logic.commands.CommandTestUtil.QUESTION_DESC_SAMPL
 import static seedu.knowitall.testutil.TypicalCards.CARD_1;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,11 +22,14 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.knowitall.logic.commands.AddCommand;
+import seedu.knowitall.logic.commands.ChangeDirectoryCommand;
 import seedu.knowitall.logic.commands.CommandResult;
 import seedu.knowitall.logic.commands.HistoryCommand;
 import seedu.knowitall.logic.commands.ListCommand;
+import seedu.knowitall.logic.commands.MetricsCommand;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.logic.parser.exceptions.ParseException;
+import seedu.knowitall.model.CardFolder;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.ModelManager;
 import seedu.knowitall.model.ReadOnlyCardFolder;
@@ -34,6 +39,7 @@ import seedu.knowitall.storage.CardFolderStorage;
 import seedu.knowitall.storage.JsonCardFolderStorage;
 import seedu.knowitall.storage.JsonUserPrefsStorage;
 import seedu.knowitall.storage.StorageManager;
+import seedu.knowitall.storage.WriteBehindStorage;
 import seedu.knowitall.testutil.CardBuilder;
 import seedu.knowitall.testutil.TypicalCards;
 
@@ -82,6 +88,80 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_commands_metricsRecorded() {
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess("  " + ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        try {
+            CommandResult result = logic.execute(MetricsCommand.COMMAND_WORD);
+            assertTrue(result.getFeedbackToUser().contains(ListCommand.COMMAND_WORD + ": 2 runs"));
+            assertTrue(result.getFeedbackToUser().contains(LogicManager.UNPARSED_COMMAND_WORD + ": 1 runs"));
+        } catch (ParseException | CommandException e) {
+            throw new AssertionError("Parsing and execution of MetricsCommand.COMMAND_WORD should succeed.", e);
+        }
+    }
+
+    @Test
+    public void execute_savesWrittenBehind_bytesWrittenCreditedToSavingCommand() throws Exception {
+        Path filePath = temporaryFolder.newFile().toPath();
+        StorageManager storageManager = new StorageManager(Collections.singletonList(
+                new JsonCardFolderStorage(filePath)), new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, Long.MAX_VALUE);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_SAMPLE_1 + ANSWER_DESC_SAMPLE_1);
+        logic.execute(ListCommand.COMMAND_WORD);
+        // the save queued by the add command is only written now, after the list command has run
+        storage.flush();
+
+        String summary = logic.execute(MetricsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(summary.contains(AddCommand.COMMAND_WORD + ": 1 runs"));
+        assertTrue(summary.contains(", " + Files.size(filePath) + " bytes written"));
+        assertTrue(summary.contains(", 0 bytes written"));
+    }
+
+    @Test
+    public void reloadChangedCardFolders_inHomeDirectory_modifiedFolderReloaded() throws Exception {
+        Path filePath = temporaryFolder.newFile().toPath();
+        CardFolder changedFolder = useStorageOf(filePath);
+        model.exitFolderToHome();
+
+        logic.reloadChangedCardFolders(Collections.singletonList(filePath));
+        assertEquals(changedFolder.getCardList(), model.getCardFolders().get(0).getCardList());
+    }
+
+    @Test
+    public void reloadChangedCardFolders_inFolder_reloadedOnReturnHome() throws Exception {
+        Path filePath = temporaryFolder.newFile().toPath();
+        CardFolder changedFolder = useStorageOf(filePath);
+
+        logic.reloadChangedCardFolders(Collections.singletonList(filePath));
+        assertEquals(TypicalCards.getTypicalFolderOne().getCardList(), model.getActiveCardFolder().getCardList());
+
+        logic.execute(ChangeDirectoryCommand.COMMAND_WORD + " " + ChangeDirectoryCommand.HOME_SYMBOL);
+        assertEquals(changedFolder.getCardList(), model.getCardFolders().get(0).getCardList());
+    }
+
+    /**
+     * Sets up {@code logic} with a storage of the typical folder in the data file at {@code filePath}, and then
+     * changes the data file as another program would.
+     * @return the folder now in the data file.
+     */
+    private CardFolder useStorageOf(Path filePath) throws Exception {
+        JsonCardFolderStorage cardFolderStorage = new JsonCardFolderStorage(filePath);
+        cardFolderStorage.saveCardFolder(TypicalCards.getTypicalFolderOne());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(Collections.singletonList(cardFolderStorage),
+                userPrefsStorage));
+
+        CardFolder changedFolder = TypicalCards.getTypicalFolderOne();
+        changedFolder.removeCard(changedFolder.getCardList().get(0));
+        new JsonCardFolderStorage(filePath).saveCardFolder(changedFolder);
+        return changedFolder;
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         // Setup LogicManager with JsonCardFolderIoExceptionThrowingStub
@@ -192,7 +272,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
+        public long saveCardFolder(ReadOnlyCardFolder cardFolder, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,11 +21,12 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.util.Subscription;
 import seedu.knowitall.logic.CommandHistory;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderChange;
 import seedu.knowitall.model.Model;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.ReadOnlyUserPrefs;
@@ -194,6 +196,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void recordCardScore(Card cardToMark, boolean markCorrect) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCardAsAnswered() {
             throw new AssertionError("This method should not be called.");
@@ -278,6 +285,11 @@ public class AddCommandTest {
 
         }
 
+        @Override
+        public void reloadFolder(int index, ReadOnlyCardFolder cardFolder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int getActiveCardFolderIndex() {
             throw new AssertionError("This method should not be called.");
@@ -294,7 +306,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public List<FilteredList<Card>> getFilteredCardsList() {
+        public Subscription addCardFolderChangeListener(Consumer<List<CardFolderChange>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginChangeBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endChangeBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ObservableList<Card>> getFilteredCardsList() {
             throw new AssertionError("This method should not be called.");
         }
 
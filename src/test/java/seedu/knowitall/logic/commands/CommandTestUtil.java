@@ -9,10 +9,11 @@ import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_HINT;
 import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_OPTION;
 import static seedu.knowitall.logic.parser.CliSyntax.PREFIX_QUESTION;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.knowitall.commons.core.index.Index;
 import seedu.knowitall.logic.CommandHistory;
 import seedu.knowitall.logic.commands.exceptions.CommandException;
@@ -125,7 +126,8 @@ public class CommandTestUtil {
         // we are unable to defensively copy the model for comparison later, so we can
         // only do so by copying its components.
         int expectedActiveCardFolderIndex = actualModel.getActiveCardFolderIndex();
-        List<FilteredList<Card>> expectedFilteredCardsList = actualModel.getFilteredCardsList();
+        List<List<Card>> expectedFilteredCardsList = actualModel.getFilteredCardsList().stream()
+                .map(ArrayList::new).collect(Collectors.toList());
         Card expectedSelectedCard = actualModel.getSelectedCard();
         Model.State expectedState = actualModel.getState();
 
@@ -40,6 +40,7 @@ public class ImportCommandTest {
     private static final String INVALID_FILE_NAME = "Fake Cards.csv";
     private static final String BLOOD_CARD_FOLDER = "Blood.csv";
     private static final String BLOOD_CARD_FOLDER_TEST = "Blood test.csv";
+    private static final String DUPLICATE_CARDS_FOLDER = "Duplicate Cards.csv";
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -107,6 +108,14 @@ public class ImportCommandTest {
 
 
 
+    @Test
+    public void execute_importDuplicateCards_failureWithLineNumber() throws Exception {
+        ImportCommand importCommand = new ImportCommand(new CsvFile(DUPLICATE_CARDS_FOLDER));
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ImportCommand.MESSAGE_CARD_FIELD_WRONG_SPECIFICATION + "Line 4: ");
+        importCommand.execute(model, commandHistory);
+    }
+
     /**
      * this method checks whether two models are equal. i.e have the same card folders and cards
      */
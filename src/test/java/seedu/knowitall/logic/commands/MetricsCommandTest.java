@@ -0,0 +1,80 @@
+package seedu.knowitall.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.logic.CommandHistory;
+import seedu.knowitall.logic.CommandMetrics;
+import seedu.knowitall.model.Model;
+import seedu.knowitall.model.ModelManager;
+import seedu.knowitall.testutil.TypicalCards;
+
+public class MetricsCommandTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private CommandHistory history = new CommandHistory();
+    private CommandMetrics metrics = new CommandMetrics();
+    private Model model = new ModelManager(TypicalCards.getTypicalFolderOneAsList());
+    private Model expectedModel = new ModelManager(TypicalCards.getTypicalFolderOneAsList());
+
+    @Test
+    public void execute_noDumpFile_showsSummary() {
+        assertCommandSuccess(new MetricsCommand(metrics), model, history, metrics.getSummary(),
+                expectedModel);
+
+        metrics.record("add", 1000, 2000, 3000, 1000);
+        assertCommandSuccess(new MetricsCommand(metrics), model, history, metrics.getSummary(),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_dumpFile_writesMetrics() throws Exception {
+        metrics.record("add", 1000, 2000, 3000, 1000);
+        metrics.recordBytesWritten("add", 100);
+        Path dumpFilePath = temporaryFolder.getRoot().toPath().resolve("metrics.json");
+
+        assertCommandSuccess(new MetricsCommand(metrics, dumpFilePath), model, history,
+                String.format(MetricsCommand.MESSAGE_DUMP_SUCCESS, dumpFilePath), expectedModel);
+
+        String dump = FileUtil.readFromFile(dumpFilePath);
+        assertTrue(dump.contains("\"commandWord\" : \"add\""));
+        assertTrue(dump.contains("\"totalBytesWritten\" : 100"));
+    }
+
+    @Test
+    public void equals() {
+        MetricsCommand showCommand = new MetricsCommand(metrics);
+        MetricsCommand dumpCommand = new MetricsCommand(metrics, Paths.get("metrics.json"));
+
+        // same object -> returns true
+        assertTrue(dumpCommand.equals(dumpCommand));
+
+        // same values -> returns true
+        assertTrue(showCommand.equals(new MetricsCommand(metrics)));
+        assertTrue(dumpCommand.equals(new MetricsCommand(metrics, Paths.get("metrics.json"))));
+
+        // different types -> returns false
+        assertFalse(dumpCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(dumpCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(showCommand.equals(new MetricsCommand(new CommandMetrics())));
+
+        // different dump file -> returns false
+        assertFalse(showCommand.equals(dumpCommand));
+        assertFalse(dumpCommand.equals(new MetricsCommand(metrics, Paths.get("other.json"))));
+    }
+}
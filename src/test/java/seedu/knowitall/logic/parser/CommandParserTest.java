@@ -9,6 +9,7 @@ import static seedu.knowitall.logic.parser.CommandParser.MAX_COMMAND_LENGTH;
 import static seedu.knowitall.testutil.TypicalIndexes.INDEX_FIRST_CARD;
 
 import java.nio.charset.Charset;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -18,6 +19,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.knowitall.logic.CommandMetrics;
 import seedu.knowitall.logic.commands.AddCommand;
 import seedu.knowitall.logic.commands.AnswerCommand;
 import seedu.knowitall.logic.commands.ClearCommand;
@@ -29,6 +31,7 @@ import seedu.knowitall.logic.commands.ExitCommand;
 import seedu.knowitall.logic.commands.HelpCommand;
 import seedu.knowitall.logic.commands.HistoryCommand;
 import seedu.knowitall.logic.commands.ListCommand;
+import seedu.knowitall.logic.commands.MetricsCommand;
 import seedu.knowitall.logic.commands.NextCommand;
 import seedu.knowitall.logic.commands.RedoCommand;
 import seedu.knowitall.logic.commands.RevealCommand;
@@ -48,7 +51,8 @@ public class CommandParserTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
-    private final CommandParser parser = new CommandParser();
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final CommandParser parser = new CommandParser(metrics);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -131,6 +135,13 @@ public class CommandParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertEquals(new MetricsCommand(metrics), parser.parseCommand(MetricsCommand.COMMAND_WORD));
+        assertEquals(new MetricsCommand(metrics, Paths.get("metrics.json")),
+                parser.parseCommand(MetricsCommand.COMMAND_WORD + " metrics.json"));
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -0,0 +1,35 @@
+package seedu.knowitall.logic.parser;
+
+import static seedu.knowitall.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.knowitall.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.knowitall.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.knowitall.logic.CommandMetrics;
+import seedu.knowitall.logic.commands.MetricsCommand;
+
+public class MetricsCommandParserTest {
+
+    private CommandMetrics metrics = new CommandMetrics();
+    private MetricsCommandParser parser = new MetricsCommandParser(metrics);
+
+    @Test
+    public void parse_noArgs_returnsMetricsCommand() {
+        assertParseSuccess(parser, "", new MetricsCommand(metrics));
+        assertParseSuccess(parser, "   ", new MetricsCommand(metrics));
+    }
+
+    @Test
+    public void parse_validFilePath_returnsMetricsCommand() {
+        assertParseSuccess(parser, " metrics.json ", new MetricsCommand(metrics, Paths.get("metrics.json")));
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertParseFailure(parser, "a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MetricsCommand.MESSAGE_USAGE));
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -186,6 +187,30 @@ public class CardFolderTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void addChangeListener_cardsChanged_typedChangesDelivered() {
+        List<CardFolderChange> changes = new ArrayList<>();
+        cardFolder.addChangeListener(changes::addAll);
+        Card editedAlice = new CardBuilder(ALICE).withHint(VALID_HINT_HUSBAND).build();
+        cardFolder.addCard(ALICE);
+        cardFolder.setCard(ALICE, editedAlice);
+        cardFolder.removeCard(editedAlice);
+        cardFolder.setFolderScores(TYPICAL_FOLDER_SCORES);
+
+        assertEquals(Arrays.asList(CardFolderChange.cardAdded(cardFolder, ALICE),
+                CardFolderChange.cardUpdated(cardFolder, ALICE, editedAlice),
+                CardFolderChange.cardRemoved(cardFolder, editedAlice),
+                CardFolderChange.of(CardFolderChange.Kind.SCORES_CHANGED, cardFolder)), changes);
+    }
+
+    @Test
+    public void addChangeListener_unsubscribed_changesNotDelivered() {
+        List<CardFolderChange> changes = new ArrayList<>();
+        cardFolder.addChangeListener(changes::addAll).unsubscribe();
+        cardFolder.addCard(ALICE);
+        assertEquals(Collections.emptyList(), changes);
+    }
+
     /**
      * A stub ReadOnlyCardFolder whose cards list can violate interface constraints.
      */
@@ -201,6 +226,11 @@ public class CardFolderTest {
             return cards;
         }
 
+        @Override
+        public Set<Card> getCardsWithQuestionWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Double> getFolderScores() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,99 @@
+package seedu.knowitall.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.knowitall.logic.commands.CommandTestUtil.VALID_HINT_HUSBAND;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.BENSON;
+import static seedu.knowitall.testutil.TypicalCards.CARL;
+import static seedu.knowitall.testutil.TypicalCards.TYPICAL_FOLDER_SCORES;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.model.card.exceptions.CardNotFoundException;
+import seedu.knowitall.model.card.exceptions.DuplicateCardException;
+import seedu.knowitall.testutil.CardBuilder;
+
+public class CardFolderTransactionTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CardFolder cardFolder = new CardFolder("Folder");
+    private final List<List<CardFolderChange>> deliveries = new ArrayList<>();
+    private int invalidationCount;
+    private int listChangeCount;
+
+    @Before
+    public void setUp() {
+        cardFolder.setCards(Arrays.asList(ALICE, BENSON));
+        cardFolder.addListener(observable -> invalidationCount++);
+        cardFolder.addChangeListener(deliveries::add);
+        cardFolder.getCardList().addListener((ListChangeListener<Card>) change -> listChangeCount++);
+    }
+
+    @Test
+    public void commit_severalEdits_appliedWithOneNotification() {
+        Card editedBenson = new CardBuilder(BENSON).withHint(VALID_HINT_HUSBAND).build();
+        cardFolder.beginTransaction()
+                .addCard(CARL)
+                .setCard(BENSON, editedBenson)
+                .removeCard(ALICE)
+                .setFolderScores(TYPICAL_FOLDER_SCORES)
+                .commit();
+
+        assertEquals(Arrays.asList(editedBenson, CARL), cardFolder.getCardList());
+        assertEquals(TYPICAL_FOLDER_SCORES, cardFolder.getFolderScores());
+        assertEquals(1, invalidationCount);
+        assertEquals(1, listChangeCount);
+        assertEquals(1, deliveries.size());
+    }
+
+    @Test
+    public void commit_cardAddedThenEditedInSameTransaction_editApplied() {
+        Card editedCarl = new CardBuilder(CARL).withHint(VALID_HINT_HUSBAND).build();
+        cardFolder.beginTransaction().addCard(CARL).setCard(CARL, editedCarl).commit();
+
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl), cardFolder.getCardList());
+    }
+
+    @Test
+    public void commit_duplicateCard_folderUnchanged() {
+        CardFolderTransaction transaction = cardFolder.beginTransaction()
+                .setFolderScores(TYPICAL_FOLDER_SCORES)
+                .addCard(new CardBuilder(ALICE).withHint(VALID_HINT_HUSBAND).build());
+        try {
+            transaction.commit();
+            throw new AssertionError("The expected DuplicateCardException was not thrown.");
+        } catch (DuplicateCardException e) {
+            assertEquals(Arrays.asList(ALICE, BENSON), cardFolder.getCardList());
+            assertEquals(Collections.emptyList(), cardFolder.getFolderScores());
+            assertEquals(0, invalidationCount);
+            assertEquals(Collections.emptyList(), deliveries);
+        }
+    }
+
+    @Test
+    public void removeCard_cardNotInFolder_throwsCardNotFoundException() {
+        CardFolderTransaction transaction = cardFolder.beginTransaction().removeCard(ALICE);
+        thrown.expect(CardNotFoundException.class);
+        transaction.removeCard(ALICE);
+    }
+
+    @Test
+    public void commit_alreadyCommitted_throwsIllegalStateException() {
+        CardFolderTransaction transaction = cardFolder.beginTransaction();
+        transaction.commit();
+        thrown.expect(IllegalStateException.class);
+        transaction.commit();
+    }
+}
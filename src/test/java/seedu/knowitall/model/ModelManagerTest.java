@@ -3,6 +3,7 @@ package seedu.knowitall.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.knowitall.logic.commands.CommandTestUtil.VALID_ANSWER_2;
 import static seedu.knowitall.model.Model.COMPARATOR_ASC_SCORE_CARDS;
@@ -14,6 +15,7 @@ import static seedu.knowitall.testutil.TypicalCards.CARD_2;
 import static seedu.knowitall.testutil.TypicalCards.FIONA;
 import static seedu.knowitall.testutil.TypicalCards.GEORGE;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -28,10 +30,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.transformation.FilteredList;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.core.UndoHistoryPolicy;
 import seedu.knowitall.model.card.Card;
 import seedu.knowitall.model.card.QuestionContainsKeywordsPredicate;
+import seedu.knowitall.model.card.Score;
 import seedu.knowitall.model.card.exceptions.CardNotFoundException;
 import seedu.knowitall.testutil.CardBuilder;
 import seedu.knowitall.testutil.CardFolderBuilder;
@@ -250,6 +255,90 @@ public class ModelManagerTest {
         assertEquals(filteredCardsList, model.getFilteredCardsList());
     }
 
+    @Test
+    public void addCardFolderChangeListener_changesInBatch_deliveredTogether() {
+        List<List<CardFolderChange>> deliveries = new ArrayList<>();
+        model.addCardFolderChangeListener(deliveries::add);
+        model.beginChangeBatch();
+        model.addCard(ALICE);
+        model.deleteCard(ALICE);
+        assertEquals(Collections.emptyList(), deliveries);
+
+        model.endChangeBatch();
+        assertEquals(1, deliveries.size());
+        assertEquals(Arrays.asList(CardFolderChange.Kind.CARD_ADDED, CardFolderChange.Kind.CARD_REMOVED),
+                deliveries.get(0).stream().map(CardFolderChange::getKind).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void addCardFolderChangeListener_folderDeleted_changesOfDeletedFolderNotDelivered() {
+        List<CardFolderChange> changes = new ArrayList<>();
+        model.addCardFolderChangeListener(changes::addAll);
+        VersionedCardFolder deletedFolder = model.getFilteredFolders().get(0);
+        model.exitFolderToHome();
+        model.deleteFolder(0);
+        deletedFolder.addCard(new CardBuilder().withQuestion("Deleted folder question").build());
+        assertEquals(Collections.emptyList(), changes);
+    }
+
+    @Test
+    public void recordCardScore_cardInActiveFolder_onlyCardReplacedAndUndoable() {
+        model.addCard(ALICE);
+        model.addCard(CARD_2);
+        model.commitActiveCardFolder();
+        List<Card> replacedCards = new ArrayList<>();
+        model.getActiveFilteredCards().addListener((ListChangeListener<Card>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replacedCards.addAll(change.getAddedSubList());
+            }
+        });
+
+        model.recordCardScore(ALICE, true);
+        Score expectedScore = new Score(ALICE.getScore().correctAttempts + 1, ALICE.getScore().totalAttempts + 1);
+        Card scoredAlice = ALICE.withScore(expectedScore);
+        assertEquals(Collections.singletonList(scoredAlice), replacedCards);
+        assertEquals(Arrays.asList(scoredAlice, CARD_2), model.getActiveFilteredCards());
+
+        model.undoActiveCardFolder();
+        assertEquals(Arrays.asList(ALICE, CARD_2), model.getActiveFilteredCards());
+    }
+
+    @Test
+    public void setUserPrefs_undoHistoryBudget_appliedToFolders() {
+        model.addCard(ALICE);
+        model.commitActiveCardFolder();
+        model.addCard(CARD_2);
+        model.commitActiveCardFolder();
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryBudget(1);
+        model.setUserPrefs(userPrefs);
+        model.undoActiveCardFolder();
+        assertFalse(model.canUndoActiveCardFolder());
+    }
+
+    @Test
+    public void getActiveFilteredCards_calledTwice_sameView() {
+        assertSame(model.getActiveFilteredCards(), model.getActiveFilteredCards());
+        assertSame(model.getFilteredFolders(), model.getFilteredFolders());
+    }
+
+    @Test
+    public void setSelectedCard_cardFilteredOut_throwsCardNotFoundException() {
+        model.addCard(ALICE);
+        model.updateFilteredCard(card -> !card.equals(ALICE));
+        thrown.expect(CardNotFoundException.class);
+        model.setSelectedCard(ALICE);
+    }
+
+    @Test
+    public void setSelectedCard_cardWithSameIdentityInFilteredCardList_throwsCardNotFoundException() {
+        model.addCard(ALICE);
+        thrown.expect(CardNotFoundException.class);
+        model.setSelectedCard(new CardBuilder(ALICE).withScore("3/7").build());
+    }
+
     @Test
     public void setSelectedCard_cardNotInFilteredCardList_throwsCardNotFoundException() {
         thrown.expect(CardNotFoundException.class);
@@ -278,6 +367,129 @@ public class ModelManagerTest {
         assertEquals(ALICE, model.getCurrentTestedCard());
     }
 
+    @Test
+    public void enterFolder_unloadedFolder_cardsLoaded() {
+        CardFolder folderOne = TypicalCards.getTypicalFolderOne();
+        List<Integer> loadedIndexes = new ArrayList<>();
+        model = new ModelManager(Collections.singletonList(CardFolderSummary.of(folderOne)), index -> {
+            loadedIndexes.add(index);
+            return folderOne;
+        }, new UserPrefs());
+
+        VersionedCardFolder unloadedFolder = model.getFilteredFolders().get(0);
+        assertFalse(unloadedFolder.isLoaded());
+        assertEquals(folderOne.countCards(), unloadedFolder.countCards());
+        assertTrue(unloadedFolder.getCardList().isEmpty());
+
+        model.enterFolder(0);
+        assertEquals(folderOne.getCardList(), model.getActiveCardFolder().getCardList());
+        assertEquals(folderOne.getCardList(), model.getActiveFilteredCards());
+        assertFalse(model.canUndoActiveCardFolder());
+
+        // the cards are only loaded once
+        model.exitFolderToHome();
+        model.enterFolder(0);
+        assertEquals(Collections.singletonList(0), loadedIndexes);
+    }
+
+    @Test
+    public void enterFolder_loaderFails_throwsCardFolderNotLoadedException() {
+        model = new ModelManager(Collections.singletonList(CardFolderSummary.of(TypicalCards.getTypicalFolderOne())),
+            index -> {
+                throw new IOException("dummy exception");
+            }, new UserPrefs());
+
+        thrown.expect(CardFolderNotLoadedException.class);
+        model.enterFolder(0);
+    }
+
+    @Test
+    public void enterFolder_inactiveFoldersOverBudget_leastRecentlyEnteredFolderUnloaded() {
+        List<Integer> loadedIndexes = new ArrayList<>();
+        model = getModelWithUnloadedFolders(loadedIndexes, new UserPrefs());
+
+        model.enterFolder(0);
+        model.exitFolderToHome();
+        model.enterFolder(1);
+        assertFalse(model.getFilteredFolders().get(0).isLoaded());
+        assertEquals(TypicalCards.getTypicalFolderOne().countCards(), model.getFilteredFolders().get(0).countCards());
+
+        // the unloaded folder is loaded again when it is entered
+        model.exitFolderToHome();
+        model.enterFolder(0);
+        assertEquals(TypicalCards.getTypicalFolderOne().getCardList(), model.getActiveFilteredCards());
+        assertFalse(model.getFilteredFolders().get(1).isLoaded());
+        assertEquals(Arrays.asList(0, 1, 0), loadedIndexes);
+    }
+
+    @Test
+    public void enterFolder_keepUndoHistoryPolicy_folderWithHistoryStaysLoaded() {
+        model = getModelWithUnloadedFolders(new ArrayList<>(), new UserPrefs());
+
+        model.enterFolder(0);
+        model.addCard(new CardBuilder().withQuestion("New question?").build());
+        model.commitActiveCardFolder();
+        model.exitFolderToHome();
+        model.enterFolder(1);
+        assertTrue(model.getFilteredFolders().get(0).isLoaded());
+    }
+
+    @Test
+    public void enterFolder_dropUndoHistoryPolicy_folderWithHistoryUnloaded() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryPolicy(UndoHistoryPolicy.DROP);
+        model = getModelWithUnloadedFolders(new ArrayList<>(), userPrefs);
+
+        model.enterFolder(0);
+        model.addCard(new CardBuilder().withQuestion("New question?").build());
+        model.commitActiveCardFolder();
+        model.exitFolderToHome();
+        model.enterFolder(1);
+        assertFalse(model.getFilteredFolders().get(0).isLoaded());
+        assertFalse(model.getFilteredFolders().get(0).canUndo());
+    }
+
+    @Test
+    public void reloadFolder_loadedFolder_cardsReplacedAndHistoryDropped() {
+        model = new ModelManager(TypicalCards.getTypicalFolderOneAsList());
+        model.enterFolder(0);
+        model.addCard(new CardBuilder().withQuestion("New question?").build());
+        model.commitActiveCardFolder();
+
+        CardFolder changedFolder = TypicalCards.getTypicalFolderOne();
+        changedFolder.removeCard(changedFolder.getCardList().get(0));
+        model.reloadFolder(0, changedFolder);
+        assertEquals(changedFolder.getCardList(), model.getActiveFilteredCards());
+        assertFalse(model.canUndoActiveCardFolder());
+    }
+
+    @Test
+    public void reloadFolder_unloadedFolder_summaryReplaced() {
+        model = getModelWithUnloadedFolders(new ArrayList<>(), new UserPrefs());
+        CardFolder changedFolder = TypicalCards.getTypicalFolderOne();
+        changedFolder.removeCard(changedFolder.getCardList().get(0));
+
+        model.reloadFolder(0, changedFolder);
+        assertFalse(model.getFilteredFolders().get(0).isLoaded());
+        assertEquals(changedFolder.countCards(), model.getFilteredFolders().get(0).countCards());
+    }
+
+    /**
+     * Returns a model of the two typical folders that loads their cards on demand, recording the indexes loaded in
+     * {@code loadedIndexes}. The loaded card budget of {@code userPrefs} is set so that only one inactive folder
+     * can stay loaded.
+     */
+    private ModelManager getModelWithUnloadedFolders(List<Integer> loadedIndexes, UserPrefs userPrefs) {
+        List<CardFolder> cardFolders = Arrays.asList(TypicalCards.getTypicalFolderOne(),
+                TypicalCards.getTypicalFolderTwo());
+        userPrefs.setLoadedCardBudget(1);
+        return new ModelManager(cardFolders.stream().map(CardFolderSummary::of).collect(Collectors.toList()),
+            index -> {
+                loadedIndexes.add(index);
+                return cardFolders.get(index);
+            }, userPrefs);
+    }
+
     @Test
     public void equals() {
         CardFolder cardFolder = new CardFolderBuilder().withCard(ALICE).withCard(BENSON).build();
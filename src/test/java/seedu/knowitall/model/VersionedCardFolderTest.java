@@ -8,12 +8,15 @@ import static seedu.knowitall.testutil.TypicalCards.CARD_1;
 import static seedu.knowitall.testutil.TypicalCards.CARD_2;
 import static seedu.knowitall.testutil.TypicalCards.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Test;
 
+import seedu.knowitall.model.card.Card;
 import seedu.knowitall.testutil.CardFolderBuilder;
 
 public class VersionedCardFolderTest {
@@ -207,6 +210,104 @@ public class VersionedCardFolderTest {
         assertThrows(VersionedCardFolder.NoRedoableStateException.class, versionedCardFolder::redo);
     }
 
+    @Test
+    public void undo_removedCard_cardRestoredToOriginalPosition() {
+        VersionedCardFolder versionedCardFolder = prepareCardFolderList(emptyCardFolder);
+        versionedCardFolder.addCard(CARD_1);
+        versionedCardFolder.addCard(CARD_2);
+        versionedCardFolder.commit();
+        versionedCardFolder.removeCard(CARD_1);
+        versionedCardFolder.commit();
+
+        versionedCardFolder.undo();
+        assertEquals(Arrays.asList(CARD_1, CARD_2), versionedCardFolder.getCardList());
+        versionedCardFolder.redo();
+        assertEquals(Collections.singletonList(CARD_2), versionedCardFolder.getCardList());
+    }
+
+    @Test
+    public void undo_severalEdits_listenersNotifiedOnce() {
+        VersionedCardFolder versionedCardFolder = prepareCardFolderList(emptyCardFolder);
+        versionedCardFolder.addCard(CARD_1);
+        versionedCardFolder.addCard(CARD_2);
+        versionedCardFolder.commit();
+        int[] invalidationCount = {0};
+        List<List<CardFolderChange>> deliveries = new ArrayList<>();
+        versionedCardFolder.addListener(observable -> invalidationCount[0]++);
+        versionedCardFolder.addChangeListener(deliveries::add);
+
+        versionedCardFolder.undo();
+        assertEquals(1, invalidationCount[0]);
+        assertEquals(1, deliveries.size());
+        assertEquals(2, deliveries.get(0).size());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_uncommittedEditsDiscarded() {
+        VersionedCardFolder versionedCardFolder = prepareCardFolderList(emptyCardFolder, cardFolderWithAmy);
+        versionedCardFolder.addCard(CARD_2);
+
+        versionedCardFolder.undo();
+        assertTrue(versionedCardFolder.getCardList().isEmpty());
+        versionedCardFolder.redo();
+        assertEquals(Collections.singletonList(CARD_1), versionedCardFolder.getCardList());
+    }
+
+    @Test
+    public void sortCards_orderUnchanged_notRecorded() {
+        VersionedCardFolder versionedCardFolder = new VersionedCardFolder(
+                new CardFolderBuilder().withCard(CARD_1).withCard(CARD_2).withCard(CARL).build());
+        List<Card> cards = new ArrayList<>(versionedCardFolder.getCardList());
+        versionedCardFolder.sortCards(Comparator.comparing(cards::indexOf));
+        assertFalse(versionedCardFolder.hasUncommittedEdits());
+    }
+
+    @Test
+    public void sortCards_orderChanged_undoRestoresOrder() {
+        VersionedCardFolder versionedCardFolder = new VersionedCardFolder(
+                new CardFolderBuilder().withCard(CARD_1).withCard(CARD_2).withCard(CARL).build());
+        List<Card> cards = new ArrayList<>(versionedCardFolder.getCardList());
+        versionedCardFolder.sortCards(Comparator.comparing((Card card) -> cards.indexOf(card)).reversed());
+        versionedCardFolder.commit();
+        List<Card> reversedCards = new ArrayList<>(cards);
+        Collections.reverse(reversedCards);
+        assertEquals(reversedCards, versionedCardFolder.getCardList());
+
+        versionedCardFolder.undo();
+        assertEquals(cards, versionedCardFolder.getCardList());
+        versionedCardFolder.redo();
+        assertEquals(reversedCards, versionedCardFolder.getCardList());
+    }
+
+    @Test
+    public void setHistoryBudget_historyOverBudget_oldestStatesDiscarded() {
+        VersionedCardFolder versionedCardFolder = new VersionedCardFolder(emptyCardFolder);
+        versionedCardFolder.addCard(CARD_1);
+        versionedCardFolder.commit();
+        versionedCardFolder.addCard(CARD_2);
+        versionedCardFolder.commit();
+
+        versionedCardFolder.setHistoryBudget(1);
+        versionedCardFolder.undo();
+        assertFalse(versionedCardFolder.canUndo());
+    }
+
+    @Test
+    public void commit_historyOverBudget_oldestStatesDiscarded() {
+        VersionedCardFolder versionedCardFolder = new VersionedCardFolder(emptyCardFolder, 2);
+        versionedCardFolder.addCard(CARD_1);
+        versionedCardFolder.commit();
+        versionedCardFolder.addCard(CARD_2);
+        versionedCardFolder.commit();
+        versionedCardFolder.addCard(CARL);
+        versionedCardFolder.commit();
+
+        versionedCardFolder.undo();
+        versionedCardFolder.undo();
+        assertFalse(versionedCardFolder.canUndo());
+        assertEquals(Collections.singletonList(CARD_1), versionedCardFolder.getCardList());
+    }
+
     @Test
     public void equals() {
         VersionedCardFolder versionedCardFolder = prepareCardFolderList(cardFolderWithAmy, cardFolderWithBob);
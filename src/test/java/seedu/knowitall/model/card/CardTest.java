@@ -1,5 +1,6 @@
 package seedu.knowitall.model.card;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.knowitall.logic.commands.CommandTestUtil.VALID_ANSWER_2;
@@ -25,6 +26,18 @@ public class CardTest {
         card.getHints().remove(0);
     }
 
+    @Test
+    public void withScore_mcqCard_onlyScoreReplaced() {
+        Card card = new CardBuilder().withOptions("Red", "Green", "Blue").withScore("1/2").build().withId(7);
+        card.shuffleMcqOptions();
+
+        Card scoredCard = card.withScore(new Score(2, 3));
+        assertEquals(new CardBuilder().withOptions("Red", "Green", "Blue").withScore("2/3").build(), scoredCard);
+        assertEquals(7, scoredCard.getId());
+        assertEquals(card.getCompleteMcqOptions(), scoredCard.getCompleteMcqOptions());
+        assertEquals(card.getAnswerIndex(), scoredCard.getAnswerIndex());
+    }
+
     @Test
     public void isSameCard() {
         // same object -> returns true
@@ -80,5 +93,7 @@ public class CardTest {
         editedAlice = new CardBuilder(ALICE).withAnswer(VALID_ANSWER_2).build();
         assertFalse(ALICE.equals(editedAlice));
 
+        // different id -> returns true
+        assertTrue(ALICE.equals(ALICE.withId(ALICE.getId() + 1)));
     }
 }
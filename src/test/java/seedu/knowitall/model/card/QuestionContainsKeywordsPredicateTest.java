@@ -1,14 +1,19 @@
 package seedu.knowitall.model.card;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Test;
 
+import seedu.knowitall.model.CardFolder;
 import seedu.knowitall.testutil.CardBuilder;
 
 public class QuestionContainsKeywordsPredicateTest {
@@ -75,4 +80,16 @@ public class QuestionContainsKeywordsPredicateTest {
         predicate = new QuestionContainsKeywordsPredicate(Arrays.asList("12345", "Main", "Street"));
         assertFalse(predicate.test(new CardBuilder().withQuestion("Alice").withAnswer("12345").build()));
     }
+
+    @Test
+    public void indexedBy_cardsInFolder_sameResultAsTest() {
+        CardFolder cardFolder = getTypicalFolderOne();
+        QuestionContainsKeywordsPredicate predicate =
+                new QuestionContainsKeywordsPredicate(Arrays.asList("aLIce", "Meier", "Carol"));
+        Predicate<Card> indexedPredicate = predicate.indexedBy(cardFolder);
+        for (Card card : cardFolder.getCardList()) {
+            assertEquals(predicate.test(card), indexedPredicate.test(card));
+        }
+        assertTrue(indexedPredicate.test(ALICE));
+    }
 }
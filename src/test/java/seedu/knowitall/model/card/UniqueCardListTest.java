@@ -2,13 +2,16 @@ package seedu.knowitall.model.card;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.knowitall.logic.commands.CommandTestUtil.VALID_HINT_HUSBAND;
 import static seedu.knowitall.testutil.TypicalCards.ALICE;
 import static seedu.knowitall.testutil.TypicalCards.CARD_2;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Rule;
@@ -50,6 +53,23 @@ public class UniqueCardListTest {
         assertTrue(uniqueCardList.contains(editedAlice));
     }
 
+    @Test
+    public void containsExact_cardWithSameIdentityFieldsInList_returnsFalse() {
+        uniqueCardList.add(ALICE);
+        Card editedAlice = new CardBuilder(ALICE).withHint(VALID_HINT_HUSBAND).build();
+        assertFalse(uniqueCardList.containsExact(editedAlice));
+        assertTrue(uniqueCardList.containsExact(new CardBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void containsExact_cardReplaced_returnsTrueForEditedCard() {
+        uniqueCardList.add(ALICE);
+        Card editedAlice = new CardBuilder(ALICE).withHint(VALID_HINT_HUSBAND).build();
+        uniqueCardList.setCard(ALICE, editedAlice);
+        assertFalse(uniqueCardList.containsExact(ALICE));
+        assertTrue(uniqueCardList.containsExact(editedAlice));
+    }
+
     @Test
     public void add_nullCard_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -110,6 +130,14 @@ public class UniqueCardListTest {
         assertEquals(expectedUniqueCardList, uniqueCardList);
     }
 
+    @Test
+    public void setCard_editedCardHasDifferentIdentity_replacesIdentity() {
+        uniqueCardList.add(ALICE);
+        uniqueCardList.setCard(ALICE, CARD_2);
+        assertFalse(uniqueCardList.contains(ALICE));
+        assertTrue(uniqueCardList.contains(CARD_2));
+    }
+
     @Test
     public void setCard_editedCardHasNonUniqueIdentity_throwsDuplicateCardException() {
         uniqueCardList.add(ALICE);
@@ -138,6 +166,15 @@ public class UniqueCardListTest {
         assertEquals(expectedUniqueCardList, uniqueCardList);
     }
 
+    @Test
+    public void remove_existingCard_cardNoLongerContained() {
+        uniqueCardList.add(ALICE);
+        uniqueCardList.remove(ALICE);
+        assertFalse(uniqueCardList.contains(ALICE));
+        uniqueCardList.add(ALICE);
+        assertTrue(uniqueCardList.contains(ALICE));
+    }
+
     @Test
     public void setCards_nullUniqueCardList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -176,6 +213,110 @@ public class UniqueCardListTest {
         uniqueCardList.setCards(listWithDuplicateCards);
     }
 
+    @Test
+    public void setCards_listWithDuplicateCards_listUnchanged() {
+        uniqueCardList.add(CARD_2);
+        try {
+            uniqueCardList.setCards(Arrays.asList(ALICE, ALICE));
+        } catch (DuplicateCardException e) {
+            assertTrue(uniqueCardList.contains(CARD_2));
+            assertFalse(uniqueCardList.contains(ALICE));
+            return;
+        }
+        fail();
+    }
+
+    @Test
+    public void getCardsWithQuestionWord_listModified_indexUpdated() {
+        uniqueCardList.add(ALICE);
+        assertEquals(Collections.singleton(ALICE), uniqueCardList.getCardsWithQuestionWord("aLiCe"));
+
+        // edited question -> old words no longer match
+        Card editedAlice = new CardBuilder(ALICE).withQuestion("Bob Pauline").build();
+        uniqueCardList.setCard(ALICE, editedAlice);
+        assertTrue(uniqueCardList.getCardsWithQuestionWord("alice").isEmpty());
+        assertEquals(Collections.singleton(editedAlice), uniqueCardList.getCardsWithQuestionWord("Pauline"));
+
+        // removed card -> no longer matches
+        uniqueCardList.remove(editedAlice);
+        assertTrue(uniqueCardList.getCardsWithQuestionWord("pauline").isEmpty());
+
+        // replaced cards -> only replacement cards match
+        uniqueCardList.setCards(Arrays.asList(ALICE, CARD_2));
+        assertEquals(Collections.singleton(ALICE), uniqueCardList.getCardsWithQuestionWord("pauline"));
+    }
+
+    @Test
+    public void add_cardWithoutId_idAssignedAndKeptOnEdit() {
+        uniqueCardList.add(ALICE);
+        uniqueCardList.add(CARD_2);
+        long aliceId = uniqueCardList.getStoredCard(ALICE).getId();
+        assertTrue(aliceId != Card.UNASSIGNED_ID);
+        assertTrue(aliceId != uniqueCardList.getStoredCard(CARD_2).getId());
+
+        Card editedAlice = new CardBuilder(ALICE).withQuestion("Bob Pauline").build();
+        uniqueCardList.setCard(ALICE, editedAlice);
+        assertEquals(aliceId, uniqueCardList.getStoredCard(editedAlice).getId());
+    }
+
+    @Test
+    public void indexOf_cardsInsertedAndRemoved_positionsUpToDate() {
+        Card card3 = new CardBuilder(ALICE).withQuestion("Third question").build();
+        uniqueCardList.add(ALICE);
+        uniqueCardList.add(CARD_2);
+        uniqueCardList.add(0, card3);
+        assertEquals(0, uniqueCardList.indexOf(card3));
+        assertEquals(1, uniqueCardList.indexOf(ALICE));
+        assertEquals(2, uniqueCardList.indexOf(CARD_2));
+
+        uniqueCardList.remove(ALICE);
+        assertEquals(-1, uniqueCardList.indexOf(ALICE));
+        assertEquals(1, uniqueCardList.indexOf(CARD_2));
+
+        // edited card found at the position of the card it replaced
+        Card editedCard2 = new CardBuilder(CARD_2).withAnswer("Edited answer").build();
+        uniqueCardList.setCard(CARD_2, editedCard2);
+        assertEquals(Arrays.asList(card3, editedCard2), uniqueCardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void indexOf_cardWithIdOfEditedCard_foundOnlyWithCurrentFields() {
+        uniqueCardList.add(ALICE);
+        uniqueCardList.add(CARD_2);
+        Card storedAlice = uniqueCardList.getStoredCard(ALICE);
+        Card editedAlice = new CardBuilder(ALICE).withQuestion("Bob Pauline").build();
+        uniqueCardList.setCard(storedAlice, editedAlice);
+
+        // the card as it was before the edit is no longer in the list
+        assertEquals(-1, uniqueCardList.indexOf(storedAlice));
+        assertSame(uniqueCardList.asUnmodifiableObservableList().get(0),
+                uniqueCardList.getStoredCard(editedAlice.withId(storedAlice.getId())));
+
+        uniqueCardList.sortCards(Comparator.comparing((Card card) -> card.getQuestion().fullQuestion).reversed());
+        assertEquals(1, uniqueCardList.indexOf(uniqueCardList.getStoredCard(editedAlice)));
+    }
+
+    @Test
+    public void setCards_duplicateIds_laterCardAssignedNewId() {
+        uniqueCardList.setCards(Arrays.asList(ALICE.withId(5), CARD_2.withId(5)));
+        assertEquals(5, uniqueCardList.getStoredCard(ALICE).getId());
+        assertTrue(uniqueCardList.getStoredCard(CARD_2).getId() > 5);
+
+        // new cards are given ids after those already used
+        Card card3 = new CardBuilder(ALICE).withQuestion("Third question").build();
+        uniqueCardList.add(card3);
+        assertTrue(uniqueCardList.getStoredCard(card3).getId() > uniqueCardList.getStoredCard(CARD_2).getId());
+    }
+
+    @Test
+    public void copyList_listModifiedAfterCopy_copyUnchanged() {
+        uniqueCardList.add(ALICE);
+        List<Card> copy = uniqueCardList.copyList();
+        uniqueCardList.add(CARD_2);
+
+        assertEquals(Collections.singletonList(ALICE), copy);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,192 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.HOON;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.exceptions.IllegalValueException;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.testutil.CardBuilder;
+
+public class BinaryCardFolderStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("folder.kia");
+    }
+
+    @Test
+    public void readCardFolder_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryCardFolderStorage(filePath).readCardFolder(null);
+    }
+
+    @Test
+    public void readCardFolder_missingFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        new BinaryCardFolderStorage(filePath).readCardFolder();
+    }
+
+    @Test
+    public void readAndSaveCardFolder_allInOrder_success() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        BinaryCardFolderStorage storage = new BinaryCardFolderStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveCardFolder(original);
+        assertSameFolder(original, storage.readCardFolder().get());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addCard(new CardBuilder(HOON).withScore("3/7").build());
+        original.removeCard(ALICE);
+        original.addFolderScore(0.25);
+        storage.saveCardFolder(original);
+        assertSameFolder(original, storage.readCardFolder().get());
+    }
+
+    @Test
+    public void saveCardFolder_jsonFolder_convertedLosslessly() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        original.addFolderScore(1.0 / 3);
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("folder.json");
+        new JsonCardFolderStorage(jsonFilePath).saveCardFolder(original);
+
+        ReadOnlyCardFolder fromJson = new JsonCardFolderStorage(jsonFilePath).readCardFolder().get();
+        new BinaryCardFolderStorage(filePath).saveCardFolder(fromJson);
+        ReadOnlyCardFolder fromBinary = new BinaryCardFolderStorage(filePath).readCardFolder().get();
+        assertSameFolder(original, fromBinary);
+
+        // and back to json
+        new JsonCardFolderStorage(jsonFilePath).saveCardFolder(fromBinary);
+        assertSameFolder(original, new JsonCardFolderStorage(jsonFilePath).readCardFolder().get());
+
+        // the binary file is smaller than the json file
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void isCardFolderStorage() throws Exception {
+        new BinaryCardFolderStorage(filePath).saveCardFolder(getTypicalFolderOne());
+        assertTrue(BinaryCardFolderStorage.isCardFolderStorage(filePath));
+
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("folder.json");
+        new JsonCardFolderStorage(jsonFilePath).saveCardFolder(getTypicalFolderOne());
+        assertFalse(BinaryCardFolderStorage.isCardFolderStorage(jsonFilePath));
+        assertFalse(JsonCardFolderStorage.isCardFolderStorage(filePath));
+    }
+
+    @Test
+    public void readCardFolder_invalidMagic_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "{\"folderName\":\"folder\"}".getBytes());
+        thrown.expect(DataConversionException.class);
+        new BinaryCardFolderStorage(filePath).readCardFolder();
+    }
+
+    @Test
+    public void readCardFolder_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryCardFolderStorage(filePath).saveCardFolder(getTypicalFolderOne());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryCardFolderStorage(filePath).readCardFolder();
+    }
+
+    @Test
+    public void readCardFolder_unsupportedVersion_throwsDataConversionException() throws Exception {
+        new BinaryCardFolderStorage(filePath).saveCardFolder(getTypicalFolderOne());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryCardFolderFormat.MAGIC.length] = BinaryCardFolderFormat.CURRENT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryCardFolderStorage(filePath).readCardFolder();
+    }
+
+    @Test
+    public void varint_roundTrip_success() throws Exception {
+        int[] values = {0, 1, 127, 128, 300, 16384, Integer.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int value : values) {
+            BinaryCardFolderFormat.writeVarint(out, value);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        for (int value : values) {
+            assertEquals(value, BinaryCardFolderFormat.readVarint(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void varlong_roundTrip_success() throws Exception {
+        long[] values = {0, 1, 128, Integer.MAX_VALUE + 1L, Long.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) {
+            BinaryCardFolderFormat.writeVarlong(out, value);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        for (long value : values) {
+            assertEquals(value, BinaryCardFolderFormat.readVarlong(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void readVarint_tooLong_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        BinaryCardFolderFormat.readVarint(ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, -1, 1}));
+    }
+
+    @Test
+    public void deleteCardFolder_existingFile_fileDeleted() throws Exception {
+        BinaryCardFolderStorage storage = new BinaryCardFolderStorage(filePath);
+        storage.saveCardFolder(getTypicalFolderOne());
+        storage.deleteCardFolder(filePath);
+        assertFalse(Files.exists(filePath));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same name, cards and folder scores as {@code expected}.
+     */
+    private void assertSameFolder(ReadOnlyCardFolder expected, ReadOnlyCardFolder actual) {
+        assertEquals(expected.getFolderName(), actual.getFolderName());
+        assertEquals(expected.getCardList(), actual.getCardList());
+        assertEquals(getIds(expected), getIds(actual));
+        assertEquals(expected.getFolderScores(), actual.getFolderScores());
+    }
+
+    private List<Long> getIds(ReadOnlyCardFolder cardFolder) {
+        return cardFolder.getCardList().stream().map(Card::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderTwo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderSummary;
+
+public class CardFolderCatalogTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+    private Path folderOnePath;
+    private Path folderTwoPath;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.getRoot().toPath();
+        folderOnePath = directory.resolve("One.json");
+        folderTwoPath = directory.resolve("Two.json");
+        new JsonCardFolderStorage(folderOnePath).saveCardFolder(getTypicalFolderOne());
+        new JsonCardFolderStorage(folderTwoPath).saveCardFolder(getTypicalFolderTwo());
+    }
+
+    @Test
+    public void getSummary_savedAndRead_summaryReturned() throws Exception {
+        CardFolder folderOne = getTypicalFolderOne();
+        folderOne.addFolderScore(0.5);
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        catalog.update(folderOnePath, folderOne);
+        catalog.save();
+
+        CardFolderCatalog readCatalog = new CardFolderCatalog(directory);
+        readCatalog.read();
+        CardFolderSummary summary = readCatalog.getSummary(folderOnePath).get();
+        assertEquals(CardFolderSummary.of(folderOne), summary);
+        assertEquals(Optional.of(0.5), summary.getLastFolderScore());
+
+        // no entry
+        assertFalse(readCatalog.getSummary(folderTwoPath).isPresent());
+    }
+
+    @Test
+    public void getSummary_dataFileModifiedAfterEntry_emptyOptional() throws Exception {
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        catalog.update(folderOnePath, getTypicalFolderOne());
+        Files.setLastModifiedTime(folderOnePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertFalse(catalog.getSummary(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void getSummary_dataFileDeleted_emptyOptional() throws Exception {
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        catalog.update(folderOnePath, getTypicalFolderOne());
+        Files.delete(folderOnePath);
+
+        assertFalse(catalog.getSummary(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void retainAll_otherDataFiles_entriesRemoved() throws Exception {
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        catalog.update(folderOnePath, getTypicalFolderOne());
+        catalog.update(folderTwoPath, getTypicalFolderTwo());
+        catalog.retainAll(Collections.singletonList(folderTwoPath));
+        catalog.save();
+
+        catalog.read();
+        assertFalse(catalog.getSummary(folderOnePath).isPresent());
+        assertEquals(CardFolderSummary.of(getTypicalFolderTwo()), catalog.getSummary(folderTwoPath).get());
+    }
+
+    @Test
+    public void read_invalidCatalogFile_noEntries() throws Exception {
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        Files.write(catalog.getCatalogFilePath(), "not a catalog".getBytes());
+
+        catalog.read();
+        assertFalse(catalog.getSummary(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void catalogFile_notACardFolderDataFile() throws Exception {
+        CardFolderCatalog catalog = new CardFolderCatalog(directory);
+        catalog.update(folderOnePath, getTypicalFolderOne());
+        catalog.save();
+
+        assertFalse(JsonCardFolderStorage.isCardFolderStorage(catalog.getCatalogFilePath()));
+        assertFalse(BinaryCardFolderStorage.isCardFolderStorage(catalog.getCatalogFilePath()));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderTwo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Card;
+
+public class CardFolderSnapshotTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+    private Path folderOnePath;
+    private Path folderTwoPath;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.getRoot().toPath();
+        folderOnePath = directory.resolve("One.json");
+        folderTwoPath = directory.resolve("Two.json");
+        new JsonCardFolderStorage(folderOnePath).saveCardFolder(getTypicalFolderOne());
+        new JsonCardFolderStorage(folderTwoPath).saveCardFolder(getTypicalFolderTwo());
+    }
+
+    @Test
+    public void getCardFolder_savedAndRead_cardFolderReturned() throws Exception {
+        CardFolder folderOne = getTypicalFolderOne();
+        folderOne.addFolderScore(0.5);
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, folderOne);
+        snapshot.save();
+
+        CardFolderSnapshot readSnapshot = new CardFolderSnapshot(directory);
+        readSnapshot.read();
+        ReadOnlyCardFolder readFolder = readSnapshot.getCardFolder(folderOnePath).get();
+        assertEquals(folderOne, readFolder);
+        assertEquals(folderOne.getCardList(), readFolder.getCardList());
+        assertEquals(folderOne.getFolderScores(), readFolder.getFolderScores());
+
+        // no entry
+        assertFalse(readSnapshot.getCardFolder(folderTwoPath).isPresent());
+    }
+
+    @Test
+    public void getCardFolder_dataFileModified_emptyOptional() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        new JsonCardFolderStorage(folderOnePath).saveCardFolder(getTypicalFolderTwo());
+
+        assertFalse(snapshot.getCardFolder(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void getCardFolder_dataFileTouched_emptyOptional() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        Files.setLastModifiedTime(folderOnePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertFalse(snapshot.getCardFolder(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void getCardFolder_journalAppended_emptyOptional() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        FileUtil.writeToFile(JournalCardFolderStorage.getJournalFilePath(folderOnePath), "{}");
+
+        assertFalse(snapshot.getCardFolder(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void getCardFolder_folderModifiedAfterUpdate_recordedFolderReturned() throws Exception {
+        CardFolder folderOne = getTypicalFolderOne();
+        List<Card> recordedCards = new ArrayList<>(folderOne.getCardList());
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, folderOne);
+        folderOne.removeCard(ALICE);
+
+        assertEquals(recordedCards, snapshot.getCardFolder(folderOnePath).get().getCardList());
+
+        // encoded when saved
+        snapshot.save();
+        assertEquals(recordedCards, snapshot.getCardFolder(folderOnePath).get().getCardList());
+    }
+
+    @Test
+    public void getCardFolder_sameSizeAndModificationTime_dataFileNotRead() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        FileTime lastModified = Files.getLastModifiedTime(folderOnePath);
+        byte[] contents = Files.readAllBytes(folderOnePath);
+        Arrays.fill(contents, (byte) ' ');
+        Files.write(folderOnePath, contents);
+        Files.setLastModifiedTime(folderOnePath, lastModified);
+
+        assertTrue(snapshot.getCardFolder(folderOnePath).isPresent());
+    }
+
+    @Test
+    public void retainAll_otherDataFiles_entriesRemoved() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        snapshot.update(folderTwoPath, getTypicalFolderTwo());
+        snapshot.retainAll(Collections.singletonList(folderTwoPath));
+
+        assertFalse(snapshot.getCardFolder(folderOnePath).isPresent());
+        assertTrue(snapshot.getCardFolder(folderTwoPath).isPresent());
+    }
+
+    @Test
+    public void read_corruptSnapshotFile_entriesIgnored() throws Exception {
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(directory);
+        snapshot.update(folderOnePath, getTypicalFolderOne());
+        snapshot.save();
+        byte[] contents = Files.readAllBytes(snapshot.getSnapshotFilePath());
+        Files.write(snapshot.getSnapshotFilePath(), Arrays.copyOf(contents, contents.length / 2));
+
+        CardFolderSnapshot readSnapshot = new CardFolderSnapshot(directory);
+        readSnapshot.read();
+        assertFalse(readSnapshot.getCardFolder(folderOnePath).isPresent());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.commons.util.FileUtil;
+
+public class DataDirectoryWatcherTest {
+
+    private static final long DEBOUNCE_MILLIS = 50;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final BlockingQueue<Set<Path>> reportedChanges = new LinkedBlockingQueue<>();
+    private Path directory;
+    private DataDirectoryWatcher watcher;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.getRoot().toPath().toAbsolutePath().normalize();
+        watcher = new DataDirectoryWatcher(directory, DEBOUNCE_MILLIS, reportedChanges::add);
+        watcher.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        watcher.close();
+    }
+
+    @Test
+    public void watch_dataFileWrittenInSteps_reportedOnce() throws Exception {
+        Path dataFilePath = directory.resolve("folder.json");
+        FileUtil.writeToFile(dataFilePath, "{");
+        FileUtil.writeToFile(dataFilePath, "{}");
+
+        Set<Path> changedFilePaths = reportedChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Collections.singleton(dataFilePath), changedFilePaths);
+    }
+
+    @Test
+    public void watch_journalAndOtherFilesWritten_dataFileReported() throws Exception {
+        Path dataFilePath = directory.resolve("folder.json");
+        FileUtil.writeToFile(directory.resolve(CardFolderCatalog.CATALOG_FILE_NAME), "{}");
+        FileUtil.writeToFile(JournalCardFolderStorage.getJournalFilePath(dataFilePath), "{}");
+
+        Set<Path> changedFilePaths = reportedChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Collections.singleton(dataFilePath), changedFilePaths);
+        assertTrue(reportedChanges.isEmpty());
+    }
+}
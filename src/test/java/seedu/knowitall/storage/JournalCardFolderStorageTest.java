@@ -0,0 +1,241 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.HOON;
+import static seedu.knowitall.testutil.TypicalCards.IDA;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.util.FileUtil;
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.card.Card;
+import seedu.knowitall.testutil.CardBuilder;
+
+public class JournalCardFolderStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("folder.json");
+        journalFilePath = JournalCardFolderStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readCardFolder_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalCardFolderStorage(filePath).readCardFolder(null);
+    }
+
+    @Test
+    public void readCardFolder_missingFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        new JournalCardFolderStorage(filePath).readCardFolder();
+    }
+
+    @Test
+    public void saveCardFolder_newFolder_writtenInFull() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        new JournalCardFolderStorage(filePath).saveCardFolder(original);
+
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertTrue(JournalCardFolderStorage.hasJournal(filePath));
+        assertSameFolder(original, read());
+
+        // a plain json storage reads the same folder
+        assertSameFolder(original, new JsonCardFolderStorage(filePath).readCardFolder().get());
+    }
+
+    @Test
+    public void saveCardFolder_changedFolder_changesAppendedToJournal() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(original);
+        byte[] baseBytes = Files.readAllBytes(filePath);
+
+        original.addCard(HOON);
+        original.removeCard(ALICE);
+        original.addFolderScore(0.75);
+        storage.saveCardFolder(original);
+        Card scoredIda = new CardBuilder(IDA).withScore("1/2").build();
+        original.addCard(IDA);
+        storage.saveCardFolder(original);
+        original.setCard(IDA, scoredIda);
+        storage.saveCardFolder(original);
+
+        // the json file is untouched and every save adds a line to the journal
+        assertArrayEquals(baseBytes, Files.readAllBytes(filePath));
+        String journal = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8);
+        assertEquals(4, journal.split("\n").length);
+        assertTrue(journal.contains("SET_SCORE"));
+        assertSameFolder(original, read());
+    }
+
+    @Test
+    public void saveCardFolder_changedFolder_returnsBytesAppended() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        long bytesWritten = storage.saveCardFolder(original);
+        assertEquals(Files.size(filePath) + Files.size(journalFilePath), bytesWritten);
+
+        // only the entry appended to the journal is counted, not the whole data file
+        long journalSize = Files.size(journalFilePath);
+        original.addCard(HOON);
+        bytesWritten = storage.saveCardFolder(original);
+        assertEquals(Files.size(journalFilePath) - journalSize, bytesWritten);
+        assertEquals(0, storage.saveCardFolder(original));
+    }
+
+    @Test
+    public void saveCardFolder_readFolder_changesAppendedToJournal() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        new JournalCardFolderStorage(filePath).saveCardFolder(original);
+
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        CardFolder readBack = new CardFolder(storage.readCardFolder().get());
+        readBack.addCard(HOON);
+        readBack.setFolderName("Renamed");
+        storage.saveCardFolder(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertSameFolder(readBack, read());
+    }
+
+    @Test
+    public void saveCardFolder_manyChanges_journalCompacted() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(original);
+
+        for (int i = 0; i <= JournalCardFolderStorage.MIN_CHANGES_BEFORE_COMPACTION; i++) {
+            original.addFolderScore((double) i);
+            storage.saveCardFolder(original);
+        }
+
+        // only the header remains in the journal
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertSameFolder(original, new JsonCardFolderStorage(filePath).readCardFolder().get());
+        assertSameFolder(original, read());
+    }
+
+    @Test
+    public void readCardFolder_incompleteLastEntry_entryIgnored() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(original);
+        original.addCard(HOON);
+        storage.saveCardFolder(original);
+        CardFolder expected = new CardFolder(original);
+        original.addCard(IDA);
+        storage.saveCardFolder(original);
+        truncateJournal(5);
+
+        JournalCardFolderStorage recoveredStorage = new JournalCardFolderStorage(filePath);
+        ReadOnlyCardFolder recovered = recoveredStorage.readCardFolder().get();
+        assertSameFolder(expected, recovered);
+
+        // the incomplete entry is overwritten by the next save
+        CardFolder changed = new CardFolder(recovered);
+        changed.removeCard(HOON);
+        recoveredStorage.saveCardFolder(changed);
+        assertSameFolder(changed, read());
+    }
+
+    @Test
+    public void readCardFolder_outdatedJournal_journalIgnored() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(original);
+        original.addCard(HOON);
+        storage.saveCardFolder(original);
+        byte[] outdatedJournal = Files.readAllBytes(journalFilePath);
+
+        // the folder is compacted, but the app stops before the journal is replaced
+        CardFolder compacted = new CardFolder(original);
+        new JournalCardFolderStorage(filePath).saveCardFolder(compacted);
+        Files.write(journalFilePath, outdatedJournal);
+
+        assertSameFolder(compacted, read());
+    }
+
+    @Test
+    public void readCardFolder_invalidEntry_throwsDataConversionException() throws Exception {
+        new JournalCardFolderStorage(filePath).saveCardFolder(getTypicalFolderOne());
+        Files.write(journalFilePath, Arrays.asList("{\"changes\":[{\"type\":\"REMOVE_CARD\",\"index\":100}]}"),
+                StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        read();
+    }
+
+    @Test
+    public void jsonStorageSave_journalExists_journalDeleted() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(original);
+        original.addCard(HOON);
+        storage.saveCardFolder(original);
+
+        JsonCardFolderStorage jsonStorage = new JsonCardFolderStorage(filePath);
+        ReadOnlyCardFolder readBack = jsonStorage.readCardFolder().get();
+        assertSameFolder(original, readBack);
+        jsonStorage.saveCardFolder(readBack);
+
+        assertFalse(JournalCardFolderStorage.hasJournal(filePath));
+        assertSameFolder(original, jsonStorage.readCardFolder().get());
+    }
+
+    @Test
+    public void deleteCardFolder_journalExists_journalDeleted() throws Exception {
+        JournalCardFolderStorage storage = new JournalCardFolderStorage(filePath);
+        storage.saveCardFolder(getTypicalFolderOne());
+
+        storage.deleteCardFolder(filePath);
+
+        assertFalse(FileUtil.isFileExists(filePath));
+        assertFalse(JournalCardFolderStorage.hasJournal(filePath));
+    }
+
+    private ReadOnlyCardFolder read() throws Exception {
+        return new JournalCardFolderStorage(filePath).readCardFolder().get();
+    }
+
+    private void truncateJournal(int bytesToRemove) throws IOException {
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - bytesToRemove));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same name, cards and folder scores as {@code expected}.
+     */
+    private void assertSameFolder(ReadOnlyCardFolder expected, ReadOnlyCardFolder actual) {
+        assertEquals(expected.getFolderName(), actual.getFolderName());
+        assertEquals(expected.getCardList(), actual.getCardList());
+        assertEquals(expected.getFolderScores(), actual.getFolderScores());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.knowitall.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static seedu.knowitall.storage.JsonAdaptedCard.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.knowitall.testutil.TypicalCards.BENSON;
 
@@ -12,6 +13,7 @@ import org.junit.Test;
 
 import seedu.knowitall.commons.exceptions.IllegalValueException;
 import seedu.knowitall.model.card.Answer;
+import seedu.knowitall.model.card.Card;
 import seedu.knowitall.model.card.Question;
 import seedu.knowitall.testutil.Assert;
 
@@ -37,17 +39,38 @@ public class JsonAdaptedCardTest {
         assertEquals(BENSON, card.toModelType());
     }
 
+    @Test
+    public void toModelType_cardWithId_keepsId() throws Exception {
+        Card card = BENSON.withId(42);
+        assertEquals(42, new JsonAdaptedCard(card).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_returnsCardWithoutId() throws Exception {
+        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_SCORE, VALID_OPTION,
+                VALID_HINT, null);
+        assertEquals(BENSON, card.toModelType());
+        assertFalse(card.toModelType().hasId());
+    }
+
+    @Test
+    public void toModelType_negativeId_throwsIllegalValueException() {
+        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_SCORE, VALID_OPTION,
+                VALID_HINT, -1L);
+        Assert.assertThrows(IllegalValueException.class, JsonAdaptedCard.INVALID_ID_MESSAGE, card::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedCard card = new JsonAdaptedCard(INVALID_QUESTION, VALID_ANSWER, VALID_SCORE, VALID_OPTION,
-                VALID_HINT);
+                VALID_HINT, null);
         String expectedMessage = Question.MESSAGE_CONSTRAINTS;
         Assert.assertThrows(IllegalValueException.class, expectedMessage, card::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedCard card = new JsonAdaptedCard(null, VALID_ANSWER, VALID_SCORE, VALID_OPTION, VALID_HINT);
+        JsonAdaptedCard card = new JsonAdaptedCard(null, VALID_ANSWER, VALID_SCORE, VALID_OPTION, VALID_HINT, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Question.class.getSimpleName());
         Assert.assertThrows(IllegalValueException.class, expectedMessage, card::toModelType);
     }
@@ -55,14 +78,14 @@ public class JsonAdaptedCardTest {
     @Test
     public void toModelType_invalidAnswer_throwsIllegalValueException() {
         JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, INVALID_ANSWER, VALID_SCORE, VALID_OPTION,
-                VALID_HINT);
+                VALID_HINT, null);
         String expectedMessage = Answer.MESSAGE_CONSTRAINTS;
         Assert.assertThrows(IllegalValueException.class, expectedMessage, card::toModelType);
     }
 
     @Test
     public void toModelType_nullAnswer_throwsIllegalValueException() {
-        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, null, VALID_SCORE, VALID_OPTION, VALID_HINT);
+        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, null, VALID_SCORE, VALID_OPTION, VALID_HINT, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Answer.class.getSimpleName());
         Assert.assertThrows(IllegalValueException.class, expectedMessage, card::toModelType);
     }
@@ -72,7 +95,7 @@ public class JsonAdaptedCardTest {
         List<JsonAdaptedHint> invalidHint = new ArrayList<>(VALID_HINT);
         invalidHint.add(new JsonAdaptedHint(INVALID_HINT));
         JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER,
-                VALID_SCORE, VALID_OPTION, invalidHint);
+                VALID_SCORE, VALID_OPTION, invalidHint, null);
         Assert.assertThrows(IllegalValueException.class, card::toModelType);
     }
 
@@ -81,7 +104,7 @@ public class JsonAdaptedCardTest {
         List<JsonAdaptedOption> invalidOption = new ArrayList<>(VALID_OPTION);
         invalidOption.add(new JsonAdaptedOption(INVALID_OPTION));
         JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_SCORE, invalidOption,
-                VALID_HINT);
+                VALID_HINT, null);
         Assert.assertThrows(IllegalValueException.class, card::toModelType);
     }
 
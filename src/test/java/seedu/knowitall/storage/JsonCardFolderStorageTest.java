@@ -1,6 +1,8 @@
 package seedu.knowitall.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.knowitall.testutil.TypicalCards.ALICE;
 import static seedu.knowitall.testutil.TypicalCards.HOON;
 import static seedu.knowitall.testutil.TypicalCards.IDA;
@@ -16,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.knowitall.commons.exceptions.DataConversionException;
+import seedu.knowitall.commons.util.FileUtil;
 import seedu.knowitall.model.CardFolder;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.testutil.TypicalCards;
@@ -73,6 +76,29 @@ public class JsonCardFolderStorageTest {
         readCardFolder("invalidAndValidCardCardFolder.json");
     }
 
+    @Test
+    public void isCardFolderStorage() throws Exception {
+        // saved card folder -> returns true
+        Path filePath = testFolder.getRoot().toPath().resolve("TempCardFolder.json");
+        new JsonCardFolderStorage(filePath).saveCardFolder(getTypicalFolderOne());
+        assertTrue(JsonCardFolderStorage.isCardFolderStorage(filePath));
+
+        // card folder with invalid cards -> returns true, cards are only validated when read
+        assertTrue(JsonCardFolderStorage.isCardFolderStorage(TEST_DATA_FOLDER.resolve("invalidCardCardFolder.json")));
+
+        // not JSON -> returns false
+        assertFalse(JsonCardFolderStorage.isCardFolderStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatCardFolder.json")));
+
+        // missing file -> returns false
+        assertFalse(JsonCardFolderStorage.isCardFolderStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.json")));
+
+        // JSON that is not a card folder -> returns false
+        Path otherJsonFilePath = testFolder.getRoot().toPath().resolve("other.json");
+        FileUtil.writeToFile(otherJsonFilePath, "{ \"guiSettings\" : { } }");
+        assertFalse(JsonCardFolderStorage.isCardFolderStorage(otherJsonFilePath));
+    }
+
     @Test
     public void readAndSaveCardFolder_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempCardFolder.json");
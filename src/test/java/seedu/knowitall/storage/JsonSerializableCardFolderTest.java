@@ -2,6 +2,9 @@ package seedu.knowitall.storage;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -9,9 +12,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.knowitall.commons.exceptions.IllegalValueException;
 import seedu.knowitall.commons.util.JsonUtil;
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.testutil.TypicalCards;
 
 public class JsonSerializableCardFolderTest {
@@ -50,4 +57,33 @@ public class JsonSerializableCardFolderTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void readCardFolder_typicalCardsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(TYPICAL_CARDS_FILE))) {
+            CardFolder cardFolderFromFile = JsonSerializableCardFolder.readCardFolder(parser);
+            assertEquals(TypicalCards.getTypicalFolderOne().getCardList(), cardFolderFromFile.getCardList());
+        }
+    }
+
+    @Test
+    public void readCardFolder_duplicateCards_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(DUPLICATE_CARD_FILE))) {
+            thrown.expect(IllegalValueException.class);
+            thrown.expectMessage(JsonSerializableCardFolder.MESSAGE_DUPLICATE_CARD);
+            JsonSerializableCardFolder.readCardFolder(parser);
+        }
+    }
+
+    @Test
+    public void writeCardFolder_typicalCards_sameAsSerializedCardFolder() throws Exception {
+        ReadOnlyCardFolder cardFolder = TypicalCards.getTypicalFolderOne();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, true)) {
+            JsonSerializableCardFolder.writeCardFolder(cardFolder, generator);
+        }
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableCardFolder(cardFolder)),
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
 }
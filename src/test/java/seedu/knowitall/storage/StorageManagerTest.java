@@ -3,6 +3,7 @@ package seedu.knowitall.storage;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static seedu.knowitall.testutil.TypicalCards.TYPICAL_FOLDER_ONE_NAME;
 import static seedu.knowitall.testutil.TypicalCards.TYPICAL_FOLDER_TWO_NAME;
 import static seedu.knowitall.testutil.TypicalCards.getEmptyCardFolder;
@@ -14,7 +15,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -24,14 +28,19 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.knowitall.commons.core.DataFileFormat;
 import seedu.knowitall.commons.core.GuiSettings;
+import seedu.knowitall.commons.exceptions.DataConversionException;
 import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderSummary;
 import seedu.knowitall.model.ReadOnlyCardFolder;
 import seedu.knowitall.model.UserPrefs;
 import seedu.knowitall.testutil.TypicalCards;
 import seedu.knowitall.testutil.TypicalIndexes;
 
 public class StorageManagerTest {
+    private static final Path INVALID_CARD_FOLDER_FILE =
+            Paths.get("src", "test", "data", "JsonCardFolderStorageTest", "invalidCardCardFolder.json");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -69,6 +78,13 @@ public class StorageManagerTest {
         return getTempFilePath(Paths.get(testDataFolder.getPath(), fileName).toString());
     }
 
+    private UserPrefs getUserPrefs(DataFileFormat cardFolderFileFormat) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setcardFolderFilesPath(testDataFolder.toPath());
+        userPrefs.setCardFolderFileFormat(cardFolderFileFormat);
+        return userPrefs;
+    }
+
     @Test
     public void prefsReadSave() throws Exception {
         /*
@@ -89,6 +105,29 @@ public class StorageManagerTest {
         storageManager.readCardFolders(null);
     }
 
+    @Test
+    public void readCardFolders_invalidFolderAmongValidFolders_validFoldersReadInOrder() throws Exception {
+        JsonCardFolderStorage storageTwo = new JsonCardFolderStorage(getTempDataFilePath(TYPICAL_FOLDER_TWO_NAME));
+        storageTwo.saveCardFolder(getTypicalFolderTwo());
+        Path invalidFilePath = getTempDataFilePath("invalid");
+        Files.copy(INVALID_CARD_FOLDER_FILE, invalidFilePath);
+        List<CardFolderStorage> storages = Arrays.asList(storageTwo, new JsonCardFolderStorage(invalidFilePath),
+                cardFolderStorageList.get(0));
+        StorageManager manager = new StorageManager(storages, userPrefsStorage);
+
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        try {
+            manager.readCardFolders(readFolders);
+            fail();
+        } catch (DataConversionException e) {
+            assertEquals(Arrays.asList(getTypicalFolderTwo(), getTypicalFolderOne()), readFolders);
+        }
+
+        // unreadable folder is no longer tracked, so storages stay aligned with the folders read
+        manager.readCardFolders(readFolders);
+        assertEquals(Arrays.asList(getTypicalFolderTwo(), getTypicalFolderOne()), readFolders);
+    }
+
     @Test
     public void saveCardFolder_readSave() throws Exception {
         /*
@@ -149,6 +188,303 @@ public class StorageManagerTest {
         assertTrue(newTwo.hasSameCards(retrievedTwo.getCardList()));
     }
 
+    @Test
+    public void saveCardFolders_journalFormat_newFolderSavedWithJournal() throws Exception {
+        StorageManager journalStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JOURNAL));
+        List<ReadOnlyCardFolder> savedFolders = Arrays.asList(getTypicalFolderOne(), getTypicalFolderTwo());
+        journalStorageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        Path folderTwoPath = testDataFolder.toPath().resolve(TYPICAL_FOLDER_TWO_NAME + Storage.FILE_FORMAT);
+        assertTrue(JournalCardFolderStorage.hasJournal(folderTwoPath));
+
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        journalStorageManager.readCardFolders(readFolders);
+        assertEquals(savedFolders, readFolders);
+    }
+
+    @Test
+    public void saveCardFolders_notPrettyPrinted_newFolderSavedOnOneLine() throws Exception {
+        UserPrefs compactUserPrefs = getUserPrefs(DataFileFormat.JSON);
+        compactUserPrefs.setCardFolderFilePrettyPrinted(false);
+        StorageManager compactStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                compactUserPrefs);
+        List<ReadOnlyCardFolder> savedFolders = Arrays.asList(getTypicalFolderOne(), getTypicalFolderTwo());
+        compactStorageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        Path folderTwoPath = testDataFolder.toPath().resolve(TYPICAL_FOLDER_TWO_NAME + Storage.FILE_FORMAT);
+        assertEquals(1, Files.readAllLines(folderTwoPath).size());
+
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        compactStorageManager.readCardFolders(readFolders);
+        assertEquals(getTypicalFolderTwo().getCardList(), readFolders.get(1).getCardList());
+    }
+
+    @Test
+    public void readCardFolders_binaryFormat_jsonDataFileConverted() throws Exception {
+        Path jsonFilePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        StorageManager binaryStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.BINARY));
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        binaryStorageManager.readCardFolders(readFolders);
+        assertEquals(getTypicalFolderOne().getCardList(), readFolders.get(0).getCardList());
+
+        Path binaryFilePath = jsonFilePath.resolveSibling(jsonFilePath.getFileName()
+                + DataFileFormat.BINARY.getFileExtension());
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(BinaryCardFolderStorage.isCardFolderStorage(binaryFilePath));
+
+        // the converted folder is read back from its binary data file
+        binaryStorageManager.readCardFolders(readFolders);
+        assertEquals(getTypicalFolderOne().getCardList(), readFolders.get(0).getCardList());
+        assertEquals(getTypicalFolderOne().getFolderScores(), readFolders.get(0).getFolderScores());
+    }
+
+    @Test
+    public void readCardFolderSummaries_upToDateCatalog_dataFilesNotRead() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        List<CardFolderSummary> summaries = new ArrayList<>();
+        new StorageManager(cardFolderStorageList, userPrefsStorage, getUserPrefs(DataFileFormat.JSON))
+                .readCardFolderSummaries(summaries);
+        assertEquals(Collections.singletonList(CardFolderSummary.of(getTypicalFolderOne())), summaries);
+
+        // a data file that is not modified after its catalog entry is not read again
+        Files.write(folderOnePath, "{\"folderName\": 1}".getBytes());
+        Files.setLastModifiedTime(folderOnePath, FileTime.fromMillis(0));
+        StorageManager cataloguedStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON));
+        cataloguedStorageManager.readCardFolderSummaries(summaries);
+        assertEquals(Collections.singletonList(CardFolderSummary.of(getTypicalFolderOne())), summaries);
+
+        // its cards are read when they are needed
+        thrown.expect(DataConversionException.class);
+        cataloguedStorageManager.readCardFolder(0);
+    }
+
+    @Test
+    public void readCardFolderSummaries_dataFileModifiedAfterCatalog_dataFileRead() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        List<CardFolderSummary> summaries = new ArrayList<>();
+        new StorageManager(cardFolderStorageList, userPrefsStorage, getUserPrefs(DataFileFormat.JSON))
+                .readCardFolderSummaries(summaries);
+
+        CardFolder modifiedFolder = getTypicalFolderOne();
+        modifiedFolder.removeCard(modifiedFolder.getCardList().get(0));
+        new JsonCardFolderStorage(folderOnePath).saveCardFolder(modifiedFolder);
+        Files.setLastModifiedTime(folderOnePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        new StorageManager(cardFolderStorageList, userPrefsStorage, getUserPrefs(DataFileFormat.JSON))
+                .readCardFolderSummaries(summaries);
+        assertEquals(Collections.singletonList(CardFolderSummary.of(modifiedFolder)), summaries);
+    }
+
+    @Test
+    public void saveCardFolder_catalogKept_catalogWrittenOnFlush() throws Exception {
+        StorageManager cataloguedStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON));
+        CardFolder modifiedFolder = getTypicalFolderOne();
+        modifiedFolder.removeCard(modifiedFolder.getCardList().get(0));
+        cataloguedStorageManager.saveCardFolder(modifiedFolder, 0);
+        CardFolderCatalog catalog = new CardFolderCatalog(testDataFolder.toPath());
+        assertFalse(Files.exists(catalog.getCatalogFilePath()));
+
+        cataloguedStorageManager.flush();
+        catalog.read();
+        assertEquals(CardFolderSummary.of(modifiedFolder),
+                catalog.getSummary(cardFolderStorageList.get(0).getcardFolderFilesPath()).get());
+    }
+
+    @Test
+    public void flush_snapshotKept_savedFolderReadFromSnapshot() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        StorageManager snapshottingStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON));
+        CardFolder modifiedFolder = getTypicalFolderOne();
+        modifiedFolder.removeCard(modifiedFolder.getCardList().get(0));
+        snapshottingStorageManager.saveCardFolder(modifiedFolder, 0);
+        snapshottingStorageManager.flush();
+
+        CardFolderSnapshot snapshot = new CardFolderSnapshot(testDataFolder.toPath());
+        snapshot.read();
+        assertEquals(modifiedFolder.getCardList(), snapshot.getCardFolder(folderOnePath).get().getCardList());
+        assertEquals(modifiedFolder.getCardList(), new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON)).readCardFolder(0).getCardList());
+    }
+
+    @Test
+    public void readChangedCardFolders_savedByStorageManager_noChanges() throws Exception {
+        StorageManager snapshottingStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON));
+        CardFolder modifiedFolder = getTypicalFolderOne();
+        modifiedFolder.removeCard(modifiedFolder.getCardList().get(0));
+        snapshottingStorageManager.saveCardFolder(modifiedFolder, 0);
+
+        assertEquals(Collections.emptyList(), snapshottingStorageManager.readChangedCardFolders(
+                Collections.singletonList(cardFolderStorageList.get(0).getcardFolderFilesPath())));
+    }
+
+    @Test
+    public void readChangedCardFolders_changedByAnotherProgram_changesReturned() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        StorageManager snapshottingStorageManager = new StorageManager(cardFolderStorageList, userPrefsStorage,
+                getUserPrefs(DataFileFormat.JSON));
+        snapshottingStorageManager.readCardFolder(0);
+
+        // modified
+        CardFolder modifiedFolder = getTypicalFolderOne();
+        modifiedFolder.removeCard(modifiedFolder.getCardList().get(0));
+        new JsonCardFolderStorage(folderOnePath).saveCardFolder(modifiedFolder);
+        assertEquals(Collections.singletonList(CardFolderFileChange.modified(0, modifiedFolder)),
+                snapshottingStorageManager.readChangedCardFolders(Collections.singletonList(folderOnePath)));
+
+        // added, only if named after its folder
+        CardFolder addedFolder = getTypicalFolderTwo();
+        Path addedFolderPath = testDataFolder.toPath().resolve(addedFolder.getFolderName() + ".json");
+        Path misnamedFolderPath = testDataFolder.toPath().resolve("misnamed.json");
+        new JsonCardFolderStorage(addedFolderPath).saveCardFolder(addedFolder);
+        new JsonCardFolderStorage(misnamedFolderPath).saveCardFolder(addedFolder);
+        assertEquals(Collections.singletonList(CardFolderFileChange.added(addedFolder)),
+                snapshottingStorageManager.readChangedCardFolders(Arrays.asList(addedFolderPath,
+                        misnamedFolderPath)));
+
+        // deleted
+        Files.delete(folderOnePath);
+        assertEquals(Collections.singletonList(CardFolderFileChange.deleted(0)),
+                snapshottingStorageManager.readChangedCardFolders(Collections.singletonList(folderOnePath)));
+    }
+
+    @Test
+    public void saveCardFolders_renamedFolder_dataFileMoved() throws Exception {
+        CardFolder folderOne = getTypicalFolderOne();
+        List<ReadOnlyCardFolder> savedFolders = new ArrayList<>();
+        savedFolders.add(folderOne);
+        savedFolders.add(getTypicalFolderTwo());
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        folderOne.rename("Renamed");
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        assertFalse(Files.exists(testDataFolder.toPath().resolve(TYPICAL_FOLDER_ONE_NAME + Storage.FILE_FORMAT)));
+        assertTrue(Files.exists(testDataFolder.toPath().resolve("Renamed" + Storage.FILE_FORMAT)));
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        storageManager.readCardFolders(readFolders);
+        assertEquals(savedFolders, readFolders);
+    }
+
+    @Test
+    public void saveCardFolder_unloadedFolder_dataFileNotRewritten() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        byte[] content = Files.readAllBytes(folderOnePath);
+
+        storageManager.saveCardFolder(new CardFolder(CardFolderSummary.of(getTypicalFolderOne())), 0);
+
+        assertTrue(Arrays.equals(content, Files.readAllBytes(folderOnePath)));
+    }
+
+    @Test
+    public void saveCardFolders_renamedUnloadedFolder_throwsIoException() throws Exception {
+        CardFolder unloaded = new CardFolder(new CardFolderSummary("Renamed", 3, null));
+
+        thrown.expect(IOException.class);
+        try {
+            storageManager.saveCardFolders(Collections.singletonList(unloaded), testDataFolder.toPath());
+        } finally {
+            assertTrue(Files.exists(cardFolderStorageList.get(0).getcardFolderFilesPath()));
+        }
+    }
+
+    @Test
+    public void saveCardFolders_folderDeletedAndAnotherAdded_dataFilesMatchFolders() throws Exception {
+        List<ReadOnlyCardFolder> savedFolders = new ArrayList<>();
+        savedFolders.add(getTypicalFolderOne());
+        savedFolders.add(getEmptyCardFolder());
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        savedFolders.remove(0);
+        savedFolders.add(getTypicalFolderTwo());
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        assertFalse(Files.exists(testDataFolder.toPath().resolve(TYPICAL_FOLDER_ONE_NAME + Storage.FILE_FORMAT)));
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        storageManager.readCardFolders(readFolders);
+        assertEquals(savedFolders, readFolders);
+        assertTrue(savedFolders.get(1).hasSameCards(readFolders.get(1).getCardList()));
+    }
+
+    @Test
+    public void saveCardFolders_twoFoldersRenamed_dataFilesMatchFolders() throws Exception {
+        CardFolder folderOne = getTypicalFolderOne();
+        CardFolder folderTwo = getTypicalFolderTwo();
+        List<ReadOnlyCardFolder> savedFolders = Arrays.asList(folderOne, folderTwo);
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        folderOne.rename("Zebra");
+        folderTwo.rename("Aardvark");
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        storageManager.readCardFolders(readFolders);
+        assertEquals(savedFolders, readFolders);
+        assertTrue(folderOne.hasSameCards(readFolders.get(0).getCardList()));
+        assertTrue(folderTwo.hasSameCards(readFolders.get(1).getCardList()));
+    }
+
+    @Test
+    public void saveCardFolders_secondNewDataFileFails_laterSavesWriteOwnDataFiles() throws Exception {
+        Path folderOnePath = cardFolderStorageList.get(0).getcardFolderFilesPath();
+        byte[] folderOneContent = Files.readAllBytes(folderOnePath);
+        // A non-empty directory in place of the second new data file cannot be replaced
+        Path blockedPath = testDataFolder.toPath().resolve(TYPICAL_FOLDER_TWO_NAME + Storage.FILE_FORMAT);
+        Files.createDirectories(blockedPath);
+        Files.createFile(blockedPath.resolve("blocker"));
+        CardFolder emptyFolder = getEmptyCardFolder();
+        List<ReadOnlyCardFolder> savedFolders = Arrays.asList(getTypicalFolderOne(), emptyFolder,
+                getTypicalFolderTwo());
+        try {
+            storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+            fail("Saving over a directory should fail.");
+        } catch (IOException e) {
+            // expected
+        }
+
+        emptyFolder.addCard(TypicalCards.ALICE);
+        storageManager.saveCardFolder(emptyFolder, 1);
+        assertTrue(Arrays.equals(folderOneContent, Files.readAllBytes(folderOnePath)));
+
+        // the data file that failed is written by the next save of the list of card folders
+        Files.delete(blockedPath.resolve("blocker"));
+        Files.delete(blockedPath);
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        storageManager.readCardFolders(readFolders);
+        assertEquals(savedFolders, readFolders);
+        assertTrue(emptyFolder.hasSameCards(readFolders.get(1).getCardList()));
+        assertTrue(savedFolders.get(2).hasSameCards(readFolders.get(2).getCardList()));
+    }
+
+    @Test
+    public void saveCardFolder_indexOutOfRange_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        storageManager.saveCardFolder(getTypicalFolderTwo(), 1);
+    }
+
+    @Test
+    public void saveCardFolders_deletedFolder_otherDataFilesNotRewritten() throws Exception {
+        List<ReadOnlyCardFolder> savedFolders = new ArrayList<>();
+        savedFolders.add(getTypicalFolderOne());
+        savedFolders.add(getTypicalFolderTwo());
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+        Path folderOnePath = testDataFolder.toPath().resolve(TYPICAL_FOLDER_ONE_NAME + Storage.FILE_FORMAT);
+        byte[] sentinelContent = "not rewritten".getBytes();
+        Files.write(folderOnePath, sentinelContent);
+
+        savedFolders.remove(1);
+        storageManager.saveCardFolders(savedFolders, testDataFolder.toPath());
+
+        assertFalse(Files.exists(testDataFolder.toPath().resolve(TYPICAL_FOLDER_TWO_NAME + Storage.FILE_FORMAT)));
+        assertTrue(Arrays.equals(sentinelContent, Files.readAllBytes(folderOnePath)));
+    }
+
     @Test
     public void clearDirectory_pureDataDirectory_noExtraFilesIntroduced() throws IOException {
         JsonCardFolderStorage cardFolderStorageTwo =
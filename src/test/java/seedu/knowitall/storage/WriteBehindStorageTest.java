@@ -0,0 +1,367 @@
+package seedu.knowitall.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.knowitall.testutil.TypicalCards.ALICE;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderOne;
+import static seedu.knowitall.testutil.TypicalCards.getTypicalFolderTwo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.knowitall.model.CardFolder;
+import seedu.knowitall.model.CardFolderSummary;
+import seedu.knowitall.model.ReadOnlyCardFolder;
+import seedu.knowitall.model.ReadOnlyUserPrefs;
+import seedu.knowitall.model.UserPrefs;
+import seedu.knowitall.model.card.Card;
+
+public class WriteBehindStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final StorageStub storageStub = new StorageStub();
+    private final WriteBehindStorage writeBehindStorage = new WriteBehindStorage(storageStub);
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new WriteBehindStorage(null);
+    }
+
+    @Test
+    public void saveCardFolder_flushed_cardFolderWritten() throws Exception {
+        List<CardFolderStorage> cardFolderStorageList = Collections.singletonList(
+                new JsonCardFolderStorage(testFolder.getRoot().toPath().resolve("folder.json")));
+        Storage storage = new WriteBehindStorage(new StorageManager(cardFolderStorageList,
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json"))));
+        CardFolder original = getTypicalFolderOne();
+
+        storage.saveCardFolder(original, 0);
+        storage.flush();
+
+        List<ReadOnlyCardFolder> readFolders = new ArrayList<>();
+        storage.readCardFolders(readFolders);
+        assertEquals(1, readFolders.size());
+        assertEquals(original.getCardList(), readFolders.get(0).getCardList());
+    }
+
+    @Test
+    public void saveCardFolder_modifiedAfterSave_snapshotWritten() throws Exception {
+        CardFolder original = getTypicalFolderOne();
+        CardFolder expected = new CardFolder(original);
+
+        storageStub.blockWrites();
+        writeBehindStorage.saveCardFolder(original, 0);
+        original.removeCard(ALICE);
+        storageStub.unblockWrites();
+        writeBehindStorage.flush();
+
+        assertEquals(1, storageStub.savedCardFolders.size());
+        assertEquals(expected.getCardList(), storageStub.savedCardFolders.get(0).getCardList());
+    }
+
+    @Test
+    public void saveCardFolder_unloadedFolder_notSaved() throws Exception {
+        CardFolder unloaded = new CardFolder(CardFolderSummary.of(getTypicalFolderOne()));
+
+        writeBehindStorage.saveCardFolder(unloaded, 0);
+        writeBehindStorage.flush();
+
+        assertTrue(storageStub.savedCardFolders.isEmpty());
+    }
+
+    @Test
+    public void saveCardFolders_modifiedAfterSave_copiesWritten() throws Exception {
+        CardFolder loaded = getTypicalFolderOne();
+        CardFolder unloaded = new CardFolder(CardFolderSummary.of(getTypicalFolderTwo()));
+        List<Card> expectedCards = new ArrayList<>(loaded.getCardList());
+
+        storageStub.blockWrites();
+        writeBehindStorage.saveCardFolders(Arrays.asList(loaded, unloaded), Paths.get("data"));
+        loaded.removeCard(ALICE);
+        loaded.setFolderName("Renamed");
+        storageStub.unblockWrites();
+        writeBehindStorage.flush();
+
+        List<ReadOnlyCardFolder> savedFolders = storageStub.savedCardFolderLists.get(0);
+        assertEquals(getFolderNames(getTypicalFolderOne(), unloaded), getFolderNames(savedFolders));
+        assertEquals(expectedCards, savedFolders.get(0).getCardList());
+        assertTrue(savedFolders.get(0).isLoaded());
+        assertFalse(savedFolders.get(1).isLoaded());
+    }
+
+    @Test
+    public void saveCardFolder_consecutiveSavesOfSameFolder_coalesced() throws Exception {
+        CardFolder first = getTypicalFolderOne();
+        CardFolder second = getTypicalFolderTwo();
+        CardFolder third = new CardFolder("Third");
+
+        storageStub.blockWrites();
+        writeBehindStorage.saveCardFolder(first, 0);
+        storageStub.awaitWriteStarted();
+        writeBehindStorage.saveCardFolder(second, 0);
+        writeBehindStorage.saveCardFolder(first, 1);
+        writeBehindStorage.saveCardFolder(third, 0);
+        storageStub.unblockWrites();
+        writeBehindStorage.flush();
+
+        // the save of the first folder was already being written, the later saves to index 0 are combined
+        assertEquals(getFolderNames(first, third, first), getFolderNames(storageStub.savedCardFolders));
+        assertEquals(Arrays.asList(0, 0, 1), storageStub.savedIndexes);
+    }
+
+    @Test
+    public void saveCardFolder_savesSeparatedBySaveCardFolders_notCoalesced() throws Exception {
+        CardFolder first = getTypicalFolderOne();
+        CardFolder second = getTypicalFolderTwo();
+
+        storageStub.blockWrites();
+        writeBehindStorage.saveCardFolder(first, 0);
+        storageStub.awaitWriteStarted();
+        writeBehindStorage.saveCardFolder(first, 0);
+        writeBehindStorage.saveCardFolders(Arrays.asList(second, first), Paths.get("data"));
+        writeBehindStorage.saveCardFolder(second, 0);
+        storageStub.unblockWrites();
+        writeBehindStorage.flush();
+
+        assertEquals(getFolderNames(first, first, second), getFolderNames(storageStub.savedCardFolders));
+        assertEquals(1, storageStub.saveCardFoldersCount);
+    }
+
+    @Test
+    public void reportBytesWritten_savesQueued_bytesReportedWithSavesThatQueuedThem() throws Exception {
+        WriteBehindStorage delayedStorage = new WriteBehindStorage(storageStub, Long.MAX_VALUE);
+        CardFolder first = getTypicalFolderOne();
+        CardFolder second = getTypicalFolderTwo();
+        List<Long> firstReports = Collections.synchronizedList(new ArrayList<>());
+        List<Long> secondReports = Collections.synchronizedList(new ArrayList<>());
+
+        delayedStorage.saveCardFolder(first, 0);
+        delayedStorage.reportBytesWritten(firstReports::add);
+        delayedStorage.saveCardFolder(second, 1);
+        delayedStorage.reportBytesWritten(secondReports::add);
+        assertTrue(firstReports.isEmpty());
+
+        delayedStorage.flush();
+        assertEquals(Collections.singletonList((long) first.getCardList().size()), firstReports);
+        assertEquals(Collections.singletonList((long) second.getCardList().size()), secondReports);
+
+        // without saves queued since the last report, nothing was written
+        delayedStorage.reportBytesWritten(firstReports::add);
+        assertEquals(Arrays.asList((long) first.getCardList().size(), 0L), firstReports);
+    }
+
+    @Test
+    public void saveCardFolder_withinMaxSaveLatency_writtenOnFlush() throws Exception {
+        WriteBehindStorage delayedStorage = new WriteBehindStorage(storageStub, Long.MAX_VALUE);
+        CardFolder first = getTypicalFolderOne();
+        CardFolder second = getTypicalFolderTwo();
+
+        delayedStorage.saveCardFolder(first, 0);
+        delayedStorage.saveCardFolder(second, 1);
+        assertTrue(storageStub.savedCardFolders.isEmpty());
+
+        delayedStorage.flush();
+        assertEquals(getFolderNames(first, second), getFolderNames(storageStub.savedCardFolders));
+    }
+
+    @Test
+    public void saveCardFolder_writeFails_failureReported() throws Exception {
+        AtomicReference<IOException> reportedFailure = new AtomicReference<>();
+        writeBehindStorage.setSaveFailureHandler(reportedFailure::set);
+        storageStub.failWrites();
+
+        writeBehindStorage.saveCardFolder(getTypicalFolderOne(), 0);
+
+        thrown.expect(IOException.class);
+        try {
+            writeBehindStorage.flush();
+        } finally {
+            assertSame(DUMMY_IO_EXCEPTION, reportedFailure.get());
+        }
+    }
+
+    @Test
+    public void saveCardFolder_runtimeExceptionInSave_reportedAndLaterSavesWritten() throws Exception {
+        AtomicReference<IOException> reportedFailure = new AtomicReference<>();
+        writeBehindStorage.setSaveFailureHandler(reportedFailure::set);
+        WriteBehindStorage delayedStorage = new WriteBehindStorage(storageStub, Long.MAX_VALUE);
+        delayedStorage.setSaveFailureHandler(reportedFailure::set);
+        storageStub.failNextWriteWith(new IndexOutOfBoundsException());
+
+        delayedStorage.saveCardFolder(getTypicalFolderOne(), 5);
+        delayedStorage.saveCardFolder(getTypicalFolderTwo(), 0);
+
+        thrown.expect(IOException.class);
+        try {
+            delayedStorage.flush();
+        } finally {
+            assertTrue(reportedFailure.get().getCause() instanceof IndexOutOfBoundsException);
+            assertEquals(getFolderNames(getTypicalFolderTwo()), getFolderNames(storageStub.savedCardFolders));
+        }
+    }
+
+    @Test
+    public void flush_failureAlreadyFlushed_doesNotThrow() throws Exception {
+        storageStub.failWrites();
+        writeBehindStorage.saveCardFolder(getTypicalFolderOne(), 0);
+        try {
+            writeBehindStorage.flush();
+        } catch (IOException e) {
+            // expected
+        }
+
+        writeBehindStorage.flush();
+    }
+
+    private static List<String> getFolderNames(ReadOnlyCardFolder... cardFolders) {
+        return getFolderNames(Arrays.asList(cardFolders));
+    }
+
+    private static List<String> getFolderNames(List<ReadOnlyCardFolder> cardFolders) {
+        return cardFolders.stream().map(ReadOnlyCardFolder::getFolderName).collect(Collectors.toList());
+    }
+
+    /**
+     * A Storage stub that records the card folders saved and can hold writes back until they are unblocked.
+     */
+    private static class StorageStub implements Storage {
+        private final List<ReadOnlyCardFolder> savedCardFolders = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> savedIndexes = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<ReadOnlyCardFolder>> savedCardFolderLists =
+                Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private volatile CountDownLatch writesUnblocked = new CountDownLatch(0);
+        private volatile int saveCardFoldersCount = 0;
+        private volatile boolean isFailingWrites = false;
+        private volatile RuntimeException nextWriteFailure;
+        /** A save of a single folder counts one byte per card as written */
+        private volatile long bytesWritten = 0;
+
+        void blockWrites() {
+            writesUnblocked = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesUnblocked.countDown();
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        void failWrites() {
+            isFailingWrites = true;
+        }
+
+        void failNextWriteWith(RuntimeException exception) {
+            nextWriteFailure = exception;
+        }
+
+        @Override
+        public void saveCardFolder(ReadOnlyCardFolder cardFolder, int index) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesUnblocked.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError("Writes should not be interrupted.", e);
+            }
+            if (isFailingWrites) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            if (nextWriteFailure != null) {
+                RuntimeException failure = nextWriteFailure;
+                nextWriteFailure = null;
+                throw failure;
+            }
+            savedCardFolders.add(cardFolder);
+            savedIndexes.add(index);
+            bytesWritten += cardFolder.getCardList().size();
+        }
+
+        @Override
+        public void saveCardFolders(List<ReadOnlyCardFolder> cardFolders, Path cardFolderFilesPath) {
+            try {
+                writesUnblocked.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError("Writes should not be interrupted.", e);
+            }
+            savedCardFolderLists.add(cardFolders);
+            saveCardFoldersCount++;
+        }
+
+        @Override
+        public Optional<UserPrefs> readUserPrefs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void readCardFolders(List<ReadOnlyCardFolder> readFolders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void readCardFolderSummaries(List<CardFolderSummary> readSummaries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyCardFolder readCardFolder(int index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CardFolderFileChange> readChangedCardFolders(Collection<Path> changedFilePaths) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public void reportBytesWritten(LongConsumer bytesWrittenHandler) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.knowitall.storage.csvmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CsvReader(null);
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws IOException {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("a,b,,d\r\n\ne,f"));
+        assertEquals(Arrays.asList("a", "b", "", "d"), csvReader.readRecord());
+        assertEquals(Collections.singletonList(""), csvReader.readRecord());
+        assertEquals(Arrays.asList("e", "f"), csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader(
+                "\"a, b\",\"say \"\"hi\"\"\",un\"quoted\n\"multi\r\nline\",x\n"));
+
+        assertEquals(Arrays.asList("a, b", "say \"hi\"", "un\"quoted"), csvReader.readRecord());
+        assertEquals(1, csvReader.getRecordLineNumber());
+
+        // line breaks within quoted fields are kept and counted
+        assertEquals(Arrays.asList("multi\r\nline", "x"), csvReader.readRecord());
+        assertEquals(2, csvReader.getRecordLineNumber());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_recordAfterMultiLineField_correctLineNumber() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a\nb\nc\",d\ne,f\n"));
+        csvReader.readRecord();
+        assertEquals(Arrays.asList("e", "f"), csvReader.readRecord());
+        assertEquals(4, csvReader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuotedField_throwsIllegalArgumentException() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("a,\"b\nc"));
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(CsvReader.MESSAGE_UNTERMINATED_QUOTE);
+        csvReader.readRecord();
+    }
+}
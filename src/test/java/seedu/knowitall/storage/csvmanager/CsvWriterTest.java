@@ -0,0 +1,64 @@
+package seedu.knowitall.storage.csvmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvWriterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CsvWriter(null);
+    }
+
+    @Test
+    public void writeField_plainFields_writtenUnquoted() throws IOException {
+        assertEquals("a,b,,\u00e9t\u00e9\n", write(Arrays.asList("a", "b", "", "\u00e9t\u00e9")));
+    }
+
+    @Test
+    public void writeField_specialCharacters_quotedAndEscaped() throws IOException {
+        assertEquals("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\"\n",
+                write(Arrays.asList("a, b", "say \"hi\"", "two\nlines")));
+    }
+
+    @Test
+    public void writeField_fieldsLargerThanBuffer_readBackUnchanged() throws IOException {
+        String longField = String.join("", Collections.nCopies(100_000, "\"x,"));
+        List<String> record = Arrays.asList(longField, "y");
+
+        CsvReader csvReader = new CsvReader(new StringReader(write(record)));
+        assertEquals(record, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    /**
+     * Writes {@code fields} as a single record and returns the written text.
+     */
+    private String write(List<String> fields) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CsvWriter csvWriter = new CsvWriter(Channels.newChannel(outputStream))) {
+            for (String field : fields) {
+                csvWriter.writeField(field);
+            }
+            csvWriter.endRecord();
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}